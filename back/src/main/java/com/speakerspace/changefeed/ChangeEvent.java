@@ -0,0 +1,20 @@
+package com.speakerspace.changefeed;
+
+import com.google.cloud.firestore.DocumentSnapshot;
+import com.speakerspace.repository.Versioned;
+
+import java.time.Instant;
+
+public record ChangeEvent(String collection, String documentId, Type type, DocumentSnapshot document,
+                          Instant updateTime) {
+
+    public enum Type {
+        ADDED,
+        MODIFIED,
+        REMOVED
+    }
+
+    public <T> Versioned<T> toVersioned(Class<T> valueType) {
+        return document == null || type == Type.REMOVED ? null : Versioned.of(document, valueType);
+    }
+}
@@ -0,0 +1,140 @@
+package com.speakerspace.changefeed;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@ConditionalOnProperty(name = "changefeed.enabled", havingValue = "true")
+public class ChangeEventBus implements DisposableBean {
+
+    static final String QUEUE_GAUGE = "changefeed.queue.size";
+    static final String DROPPED_COUNTER = "changefeed.dropped";
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeEventBus.class);
+
+    private final List<Subscriber> subscribers;
+    private final MeterRegistry meterRegistry;
+    private final Duration publishTimeout;
+
+    @Autowired
+    public ChangeEventBus(ObjectProvider<ChangeListener> listeners, MeterRegistry meterRegistry,
+                          @Value("${changefeed.queue-capacity:1000}") int queueCapacity,
+                          @Value("${changefeed.publish-timeout:5s}") Duration publishTimeout) {
+        this(listeners.orderedStream().toList(), meterRegistry, queueCapacity, publishTimeout);
+    }
+
+    ChangeEventBus(List<ChangeListener> listeners, MeterRegistry meterRegistry, int queueCapacity,
+                   Duration publishTimeout) {
+        this.meterRegistry = meterRegistry;
+        this.publishTimeout = publishTimeout;
+        this.subscribers = listeners.stream().map(listener -> new Subscriber(listener, queueCapacity)).toList();
+        subscribers.forEach(Subscriber::start);
+    }
+
+    public void publish(ChangeEvent event) {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.collections.contains(event.collection())) {
+                subscriber.offer(event);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        subscribers.forEach(Subscriber::stop);
+    }
+
+    private class Subscriber implements Runnable {
+
+        private final ChangeListener listener;
+        private final String name;
+        private final Set<String> collections;
+        private final BlockingQueue<ChangeEvent> queue;
+        private final Set<String> overflowed = ConcurrentHashMap.newKeySet();
+        private Thread worker;
+
+        Subscriber(ChangeListener listener, int queueCapacity) {
+            this.listener = listener;
+            this.name = listener.getClass().getSimpleName();
+            this.collections = Set.copyOf(listener.collections());
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+            Gauge.builder(QUEUE_GAUGE, queue, BlockingQueue::size)
+                    .description("Change events waiting to be handled by a listener")
+                    .tag("listener", name)
+                    .register(meterRegistry);
+        }
+
+        void start() {
+            worker = Thread.ofVirtual().name("changefeed-" + name).start(this);
+        }
+
+        void stop() {
+            worker.interrupt();
+        }
+
+        void offer(ChangeEvent event) {
+            boolean accepted;
+            try {
+                accepted = overflowed.isEmpty()
+                        ? queue.offer(event, publishTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                        : queue.offer(event);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                accepted = false;
+            }
+            if (!accepted) {
+                if (overflowed.add(event.collection())) {
+                    logger.warn("{} is not keeping up with {} changes, dropping events until it catches up",
+                            name, event.collection());
+                }
+                Counter.builder(DROPPED_COUNTER)
+                        .tag("listener", name)
+                        .tag("collection", event.collection())
+                        .register(meterRegistry)
+                        .increment();
+            }
+        }
+
+        @Override
+        public void run() {
+            while (!Thread.currentThread().isInterrupted()) {
+                ChangeEvent event;
+                try {
+                    event = queue.take();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (String collection : overflowed) {
+                    overflowed.remove(collection);
+                    deliver(() -> listener.onOverflow(collection));
+                }
+                deliver(() -> listener.onChange(event));
+            }
+        }
+
+        private void deliver(Runnable delivery) {
+            try {
+                delivery.run();
+            } catch (RuntimeException e) {
+                logger.error("{} failed to handle a change event", name, e);
+            }
+        }
+    }
+}
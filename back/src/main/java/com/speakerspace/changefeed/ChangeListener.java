@@ -0,0 +1,13 @@
+package com.speakerspace.changefeed;
+
+import java.util.Set;
+
+public interface ChangeListener {
+
+    Set<String> collections();
+
+    void onChange(ChangeEvent event);
+
+    default void onOverflow(String collection) {
+    }
+}
@@ -0,0 +1,77 @@
+package com.speakerspace.changefeed;
+
+import com.google.cloud.firestore.DocumentChange;
+import com.google.cloud.firestore.DocumentSnapshot;
+import com.google.cloud.firestore.QueryDocumentSnapshot;
+import com.google.cloud.firestore.QuerySnapshot;
+import com.speakerspace.repository.Versioned;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+final class CollectionCursor {
+
+    private final String collection;
+    private final Map<String, Instant> versions = new HashMap<>();
+    private boolean resync = true;
+
+    CollectionCursor(String collection) {
+        this.collection = collection;
+    }
+
+    synchronized void resync() {
+        resync = true;
+    }
+
+    synchronized int size() {
+        return versions.size();
+    }
+
+    synchronized List<ChangeEvent> advance(QuerySnapshot snapshot) {
+        List<ChangeEvent> events = new ArrayList<>();
+        if (resync) {
+            Set<String> present = new HashSet<>();
+            for (QueryDocumentSnapshot document : snapshot.getDocuments()) {
+                present.add(document.getId());
+                upsert(document, events);
+            }
+            Iterator<String> known = versions.keySet().iterator();
+            while (known.hasNext()) {
+                String documentId = known.next();
+                if (!present.contains(documentId)) {
+                    known.remove();
+                    events.add(new ChangeEvent(collection, documentId, ChangeEvent.Type.REMOVED, null, null));
+                }
+            }
+            resync = false;
+            return events;
+        }
+
+        for (DocumentChange change : snapshot.getDocumentChanges()) {
+            QueryDocumentSnapshot document = change.getDocument();
+            if (change.getType() != DocumentChange.Type.REMOVED) {
+                upsert(document, events);
+            } else if (versions.remove(document.getId()) != null) {
+                events.add(new ChangeEvent(collection, document.getId(), ChangeEvent.Type.REMOVED, document, null));
+            }
+        }
+        return events;
+    }
+
+    private void upsert(DocumentSnapshot document, List<ChangeEvent> events) {
+        Instant updateTime = Versioned.toInstant(document.getUpdateTime());
+        Instant previous = versions.get(document.getId());
+        if (previous != null && (updateTime == null || !updateTime.isAfter(previous))) {
+            return;
+        }
+        versions.put(document.getId(), updateTime);
+        events.add(new ChangeEvent(collection, document.getId(),
+                previous == null ? ChangeEvent.Type.ADDED : ChangeEvent.Type.MODIFIED, document, updateTime));
+    }
+}
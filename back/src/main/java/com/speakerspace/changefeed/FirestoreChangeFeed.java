@@ -0,0 +1,148 @@
+package com.speakerspace.changefeed;
+
+import com.google.cloud.firestore.Firestore;
+import com.google.cloud.firestore.FirestoreException;
+import com.google.cloud.firestore.ListenerRegistration;
+import com.google.cloud.firestore.QuerySnapshot;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@ConditionalOnProperty(name = "changefeed.enabled", havingValue = "true")
+public class FirestoreChangeFeed implements SmartLifecycle {
+
+    static final String EVENTS_COUNTER = "changefeed.events";
+    static final String RESUBSCRIBE_COUNTER = "changefeed.resubscribes";
+
+    private static final Logger logger = LoggerFactory.getLogger(FirestoreChangeFeed.class);
+
+    private final Firestore firestore;
+    private final ChangeEventBus changeEventBus;
+    private final MeterRegistry meterRegistry;
+    private final Duration initialDelay;
+    private final Duration maxDelay;
+    private final Map<String, CollectionCursor> cursors = new LinkedHashMap<>();
+
+    private final List<Subscription> subscriptions = new ArrayList<>();
+    private ScheduledExecutorService retryExecutor;
+    private volatile boolean running;
+
+    public FirestoreChangeFeed(Firestore firestore, ChangeEventBus changeEventBus, MeterRegistry meterRegistry,
+                               @Value("${changefeed.collections:users,events,sessions,travels}") List<String> collections,
+                               @Value("${changefeed.retry.initial-delay:1s}") Duration initialDelay,
+                               @Value("${changefeed.retry.max-delay:1m}") Duration maxDelay) {
+        this.firestore = firestore;
+        this.changeEventBus = changeEventBus;
+        this.meterRegistry = meterRegistry;
+        this.initialDelay = initialDelay;
+        this.maxDelay = maxDelay;
+        collections.forEach(collection -> cursors.put(collection, new CollectionCursor(collection)));
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        retryExecutor = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("changefeed-retry").daemon().factory());
+        cursors.forEach((collection, cursor) -> subscriptions.add(new Subscription(collection, cursor)));
+        subscriptions.forEach(Subscription::listen);
+        logger.info("Change feed listening to {}", cursors.keySet());
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        subscriptions.forEach(Subscription::close);
+        subscriptions.clear();
+        retryExecutor.shutdownNow();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private class Subscription {
+
+        private final String collection;
+        private final CollectionCursor cursor;
+        private final ExecutorService callbackExecutor;
+        private final RetryBackoff backoff = new RetryBackoff(initialDelay, maxDelay);
+        private ListenerRegistration registration;
+
+        Subscription(String collection, CollectionCursor cursor) {
+            this.collection = collection;
+            this.cursor = cursor;
+            this.callbackExecutor = Executors.newSingleThreadExecutor(
+                    Thread.ofPlatform().name("changefeed-" + collection).daemon().factory());
+        }
+
+        synchronized void listen() {
+            if (!running || callbackExecutor.isShutdown()) {
+                return;
+            }
+            cursor.resync();
+            registration = firestore.collection(collection).addSnapshotListener(callbackExecutor, this::onSnapshot);
+        }
+
+        synchronized void close() {
+            if (registration != null) {
+                registration.remove();
+                registration = null;
+            }
+            callbackExecutor.shutdown();
+        }
+
+        private void onSnapshot(QuerySnapshot snapshot, FirestoreException error) {
+            if (error != null) {
+                onError(error);
+                return;
+            }
+            backoff.reset();
+            for (ChangeEvent event : cursor.advance(snapshot)) {
+                Counter.builder(EVENTS_COUNTER)
+                        .tag("collection", collection)
+                        .tag("type", event.type().name())
+                        .register(meterRegistry)
+                        .increment();
+                changeEventBus.publish(event);
+            }
+        }
+
+        private synchronized void onError(FirestoreException error) {
+            if (registration != null) {
+                registration.remove();
+                registration = null;
+            }
+            if (!running) {
+                return;
+            }
+            long delay = backoff.nextDelayMillis();
+            logger.warn("Change feed listener on {} failed, resubscribing in {} ms", collection, delay, error);
+            Counter.builder(RESUBSCRIBE_COUNTER).tag("collection", collection).register(meterRegistry).increment();
+            retryExecutor.schedule(this::listen, delay, TimeUnit.MILLISECONDS);
+        }
+    }
+}
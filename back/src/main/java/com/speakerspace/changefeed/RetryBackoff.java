@@ -0,0 +1,25 @@
+package com.speakerspace.changefeed;
+
+import java.time.Duration;
+
+public class RetryBackoff {
+
+    private final Duration initialDelay;
+    private final Duration maxDelay;
+    private int failures;
+
+    public RetryBackoff(Duration initialDelay, Duration maxDelay) {
+        this.initialDelay = initialDelay;
+        this.maxDelay = maxDelay;
+    }
+
+    public synchronized long nextDelayMillis() {
+        long delay = Math.min(maxDelay.toMillis(), initialDelay.toMillis() << Math.min(failures, 20));
+        failures++;
+        return delay;
+    }
+
+    public synchronized void reset() {
+        failures = 0;
+    }
+}
@@ -1,35 +1,44 @@
 package com.speakerspace.config;
 
-import com.speakerspace.controller.AuthController;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseCookie;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+
 @Service
 public class CookieService {
 
-    private static final Logger logger = LoggerFactory.getLogger(AuthController.class);
+    private static final Logger logger = LoggerFactory.getLogger(CookieService.class);
     private static final int COOKIE_MAX_AGE = 3600 * 24 * 30;
     private static final boolean SECURE = true;
     private static final boolean HTTP_ONLY = true;
     private static final String COOKIE_PATH = "/";
     private static final String AUTH_COOKIE_NAME = "auth_token";
 
+    @Autowired
+    private SampledLogger sampledLogger;
+
     public void setAuthCookie(HttpServletResponse response, String token) {
+        setAuthCookie(response, token, Duration.ofSeconds(COOKIE_MAX_AGE));
+    }
+
+    public void setAuthCookie(HttpServletResponse response, String token, Duration maxAge) {
         ResponseCookie cookie = ResponseCookie.from(AUTH_COOKIE_NAME, token)
-                .maxAge(COOKIE_MAX_AGE)
+                .maxAge(maxAge)
                 .httpOnly(HTTP_ONLY)
                 .secure(SECURE)
                 .path(COOKIE_PATH)
                 .sameSite("Lax")
                 .build();
 
-        logger.info("Setting auth cookie for user");
+        sampledLogger.debug(logger, "auth-cookie-set", "Setting auth cookie");
         response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
     }
 
@@ -42,7 +51,7 @@ public class CookieService {
                 .sameSite("Lax")
                 .build();
 
-        logger.info("Clearing auth cookie");
+        sampledLogger.debug(logger, "auth-cookie-cleared", "Clearing auth cookie");
         response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
     }
 
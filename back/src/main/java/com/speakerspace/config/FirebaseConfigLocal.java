@@ -4,6 +4,7 @@ import com.google.auth.oauth2.GoogleCredentials;
 import com.google.firebase.FirebaseApp;
 import com.google.firebase.FirebaseOptions;
 import com.google.firebase.auth.FirebaseAuth;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
@@ -16,16 +17,22 @@ import java.io.InputStream;
 @Profile("local")
 public class FirebaseConfigLocal {
 
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
     @Bean
     public FirebaseAuth firebaseAuth() throws IOException {
         if (FirebaseApp.getApps().isEmpty()) {
             InputStream serviceAccount = new ClassPathResource("firebase-service.json").getInputStream();
 
-            FirebaseOptions options = FirebaseOptions.builder()
-                    .setCredentials(GoogleCredentials.fromStream(serviceAccount))
-                    .build();
+            FirebaseOptions.Builder options = FirebaseOptions.builder()
+                    .setCredentials(GoogleCredentials.fromStream(serviceAccount));
+
+            if (virtualThreads) {
+                options.setThreadManager(new VirtualThreadManager());
+            }
 
-            FirebaseApp.initializeApp(options);
+            FirebaseApp.initializeApp(options.build());
         }
 
         return FirebaseAuth.getInstance();
@@ -6,6 +6,7 @@ import com.google.firebase.FirebaseApp;
 import com.google.firebase.FirebaseOptions;
 import com.google.firebase.auth.FirebaseAuth;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
@@ -22,16 +23,22 @@ public class FirebaseConfigProd {
 
     private final SecretManagerTemplate secretManagerTemplate;
 
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
     @Bean
     public FirebaseAuth firebaseAuth() throws IOException {
         if (FirebaseApp.getApps().isEmpty()) {
             InputStream serviceAccount = new ByteArrayInputStream(secretManagerTemplate.getSecretBytes("firebase-secret"));
 
-            FirebaseOptions options = FirebaseOptions.builder()
-                    .setCredentials(GoogleCredentials.fromStream(serviceAccount))
-                    .build();
+            FirebaseOptions.Builder options = FirebaseOptions.builder()
+                    .setCredentials(GoogleCredentials.fromStream(serviceAccount));
+
+            if (virtualThreads) {
+                options.setThreadManager(new VirtualThreadManager());
+            }
 
-            FirebaseApp.initializeApp(options);
+            FirebaseApp.initializeApp(options.build());
         }
 
         return FirebaseAuth.getInstance();
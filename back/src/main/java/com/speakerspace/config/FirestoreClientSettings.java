@@ -0,0 +1,54 @@
+package com.speakerspace.config;
+
+import com.google.api.gax.grpc.ChannelPoolSettings;
+import com.google.api.gax.grpc.InstantiatingGrpcChannelProvider;
+import com.google.api.gax.retrying.RetrySettings;
+import com.google.cloud.ServiceOptions;
+import com.google.cloud.firestore.FirestoreOptions;
+import com.google.cloud.firestore.v1.FirestoreSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+public class FirestoreClientSettings {
+
+    @Value("${firestore.client.channel-pool-size:4}")
+    private int channelPoolSize;
+
+    @Value("${firestore.client.keep-alive-time:30s}")
+    private Duration keepAliveTime;
+
+    @Value("${firestore.client.keep-alive-timeout:10s}")
+    private Duration keepAliveTimeout;
+
+    @Value("${firestore.client.retry.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${firestore.client.retry.initial-delay:100ms}")
+    private Duration initialRetryDelay;
+
+    @Value("${firestore.client.retry.max-delay:5s}")
+    private Duration maxRetryDelay;
+
+    public FirestoreOptions.Builder apply(FirestoreOptions.Builder builder) {
+        InstantiatingGrpcChannelProvider channelProvider = FirestoreSettings.defaultGrpcTransportProviderBuilder()
+                .setChannelPoolSettings(ChannelPoolSettings.staticallySized(channelPoolSize))
+                .setKeepAliveTimeDuration(keepAliveTime)
+                .setKeepAliveTimeoutDuration(keepAliveTimeout)
+                .setKeepAliveWithoutCalls(true)
+                .build();
+
+        RetrySettings retrySettings = ServiceOptions.getDefaultRetrySettings().toBuilder()
+                .setMaxAttempts(maxAttempts)
+                .setInitialRetryDelayDuration(initialRetryDelay)
+                .setRetryDelayMultiplier(2.0)
+                .setMaxRetryDelayDuration(maxRetryDelay)
+                .build();
+
+        return builder
+                .setChannelProvider(channelProvider)
+                .setRetrySettings(retrySettings);
+    }
+}
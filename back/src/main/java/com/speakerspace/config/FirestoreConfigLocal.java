@@ -3,6 +3,7 @@ package com.speakerspace.config;
 import com.google.auth.oauth2.GoogleCredentials;
 import com.google.cloud.firestore.Firestore;
 import com.google.cloud.firestore.FirestoreOptions;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -19,6 +20,9 @@ public class FirestoreConfigLocal {
     @Value("${spring.cloud.gcp.firestore.project-id}")
     private String projectId;
 
+    @Autowired
+    private FirestoreClientSettings firestoreClientSettings;
+
     @Bean
     public Firestore firestore() throws IOException {
 
@@ -27,7 +31,7 @@ public class FirestoreConfigLocal {
         GoogleCredentials credentials = GoogleCredentials.fromStream(serviceKey)
                 .createScoped("https://www.googleapis.com/auth/cloud-platform");
 
-        FirestoreOptions firestoreOptions = FirestoreOptions.newBuilder()
+        FirestoreOptions firestoreOptions = firestoreClientSettings.apply(FirestoreOptions.newBuilder())
                 .setProjectId(projectId)
                 .setCredentials(credentials)
                 .build();
@@ -16,10 +16,13 @@ public class FirestoreConfigProd {
 
     private final String projectId;
     private final SecretManagerTemplate secretManagerTemplate;
+    private final FirestoreClientSettings firestoreClientSettings;
 
-    public FirestoreConfigProd(@Value("${spring.cloud.gcp.firestore.project-id}") String projectId, SecretManagerTemplate secretManagerTemplate) {
+    public FirestoreConfigProd(@Value("${spring.cloud.gcp.firestore.project-id}") String projectId, SecretManagerTemplate secretManagerTemplate,
+                               FirestoreClientSettings firestoreClientSettings) {
         this.projectId = projectId;
         this.secretManagerTemplate = secretManagerTemplate;
+        this.firestoreClientSettings = firestoreClientSettings;
     }
 
     @Bean
@@ -29,7 +32,7 @@ public class FirestoreConfigProd {
         GoogleCredentials credentials = GoogleCredentials.fromStream(serviceKey)
                 .createScoped("https://www.googleapis.com/auth/cloud-platform");
 
-        FirestoreOptions firestoreOptions = FirestoreOptions.newBuilder()
+        FirestoreOptions firestoreOptions = firestoreClientSettings.apply(FirestoreOptions.newBuilder())
                 .setProjectId(projectId)
                 .setCredentials(credentials)
                 .build();
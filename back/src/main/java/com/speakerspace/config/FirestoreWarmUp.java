@@ -0,0 +1,41 @@
+package com.speakerspace.config;
+
+import com.google.cloud.firestore.Firestore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@ConditionalOnProperty(name = "firestore.client.warm-up", havingValue = "true", matchIfMissing = true)
+public class FirestoreWarmUp implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(FirestoreWarmUp.class);
+    private static final String WARM_UP_COLLECTION = "users";
+    private static final String WARM_UP_DOCUMENT = "_warm-up";
+
+    private final Firestore firestore;
+    private final Duration timeout;
+
+    public FirestoreWarmUp(Firestore firestore, @Value("${firestore.client.warm-up-timeout:10s}") Duration timeout) {
+        this.firestore = firestore;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        long start = System.nanoTime();
+        try {
+            firestore.collection(WARM_UP_COLLECTION).document(WARM_UP_DOCUMENT).get()
+                    .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            logger.info("Firestore channel warmed up in {} ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (Exception e) {
+            logger.warn("Firestore warm-up failed, the first request will open the channel", e);
+        }
+    }
+}
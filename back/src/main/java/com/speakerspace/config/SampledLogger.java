@@ -0,0 +1,75 @@
+package com.speakerspace.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+public class SampledLogger {
+
+    static final String EVENTS_COUNTER = "logging.events";
+
+    private final MeterRegistry meterRegistry;
+    private final long intervalNanos;
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    public SampledLogger(MeterRegistry meterRegistry,
+                         @Value("${logging.sampling.interval:10s}") Duration interval) {
+        this.meterRegistry = meterRegistry;
+        this.intervalNanos = interval.toNanos();
+    }
+
+    public void debug(Logger logger, String reason, String message, Object... arguments) {
+        log(logger, Level.DEBUG, reason, message, arguments);
+    }
+
+    public void info(Logger logger, String reason, String message, Object... arguments) {
+        log(logger, Level.INFO, reason, message, arguments);
+    }
+
+    public void warn(Logger logger, String reason, String message, Object... arguments) {
+        log(logger, Level.WARN, reason, message, arguments);
+    }
+
+    private void log(Logger logger, Level level, String reason, String message, Object... arguments) {
+        meterRegistry.counter(EVENTS_COUNTER, "logger", logger.getName(), "reason", reason).increment();
+
+        if (!logger.isEnabledForLevel(level)) {
+            return;
+        }
+
+        Window window = windows.computeIfAbsent(logger.getName() + '#' + reason, key -> new Window());
+        long suppressed = window.tryAcquire(System.nanoTime(), intervalNanos);
+        if (suppressed < 0) {
+            return;
+        }
+
+        logger.atLevel(level)
+                .addKeyValue("reason", reason)
+                .addKeyValue("suppressed", suppressed)
+                .log(message, arguments);
+    }
+
+    private static class Window {
+
+        private final AtomicLong nextAllowed = new AtomicLong(System.nanoTime());
+        private final LongAdder suppressed = new LongAdder();
+
+        long tryAcquire(long now, long intervalNanos) {
+            long next = nextAllowed.get();
+            if (now - next < 0 || !nextAllowed.compareAndSet(next, now + intervalNanos)) {
+                suppressed.increment();
+                return -1;
+            }
+            return suppressed.sumThenReset();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.speakerspace.config;
+
+import com.google.firebase.FirebaseApp;
+import com.google.firebase.ThreadManager;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+public class VirtualThreadManager extends ThreadManager {
+
+    private static final ThreadFactory THREAD_FACTORY = Thread.ofVirtual().name("firebase-", 0).factory();
+
+    @Override
+    protected ExecutorService getExecutor(FirebaseApp app) {
+        return Executors.newThreadPerTaskExecutor(THREAD_FACTORY);
+    }
+
+    @Override
+    protected void releaseExecutor(FirebaseApp app, ExecutorService executor) {
+        executor.shutdownNow();
+    }
+
+    @Override
+    protected ThreadFactory getThreadFactory() {
+        return THREAD_FACTORY;
+    }
+}
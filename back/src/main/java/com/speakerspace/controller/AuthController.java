@@ -1,19 +1,28 @@
 package com.speakerspace.controller;
 
-import com.google.firebase.auth.FirebaseAuth;
-import com.google.firebase.auth.FirebaseToken;
-import com.speakerspace.config.CookieService;
 import com.speakerspace.config.FirebaseTokenRequest;
 import com.speakerspace.model.User;
+import com.speakerspace.security.FirebaseTokenCache;
+import com.speakerspace.security.SessionManager;
+import com.speakerspace.security.VerifiedIdToken;
+import com.speakerspace.service.UserImportService;
 import com.speakerspace.service.UserService;
+import com.speakerspace.service.UserWriteResult;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/auth")
 public class AuthController {
@@ -24,60 +33,82 @@ public class AuthController {
     private UserService userService;
 
     @Autowired
-    private CookieService cookieService;
+    private UserImportService userImportService;
+
+    @Autowired
+    private FirebaseTokenCache firebaseTokenCache;
 
     @Autowired
-    private FirebaseAuth firebaseAuth;
+    private SessionManager sessionManager;
+
+    @Autowired
+    private ConditionalResponses conditionalResponses;
 
     @PostMapping("/login")
-    public ResponseEntity<?> login(@RequestBody FirebaseTokenRequest request, HttpServletResponse response) {
+    public CompletableFuture<ResponseEntity<?>> login(@RequestBody FirebaseTokenRequest request, HttpServletResponse response) {
 
         if (request.getIdToken() == null) {
             logger.error("No token provided in request");
-            return ResponseEntity.badRequest().body("No token provided");
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body("No token provided"));
         }
 
+        VerifiedIdToken decodedToken;
         try {
-            FirebaseToken decodedToken = firebaseAuth.verifyIdToken(request.getIdToken());
-            String uid = decodedToken.getUid();
-
-            cookieService.setAuthCookie(response, request.getIdToken());
-
-            User user = userService.getUserByUid(uid);
-            if (user == null) {
-                user = new User();
-                user.setUid(uid);
-                user.setEmail(decodedToken.getEmail());
-                user.setDisplayName(decodedToken.getName());
-                user.setPhotoURL(decodedToken.getPicture());
-                user = userService.saveUser(user);
-            }
-
-            return ResponseEntity.ok(user);
+            decodedToken = firebaseTokenCache.verifyIdToken(request.getIdToken());
         } catch (Exception e) {
             logger.error("Error during login", e);
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Invalid token");
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Invalid token"));
         }
+
+        sessionManager.start(decodedToken, request.getIdToken(), response);
+
+        return userService.getUserByUid(decodedToken.uid())
+                .thenCompose(user -> {
+                    if (user != null) {
+                        return CompletableFuture.completedFuture(user);
+                    }
+                    User newUser = new User();
+                    newUser.setUid(decodedToken.uid());
+                    newUser.setEmail(decodedToken.email());
+                    newUser.setDisplayName(decodedToken.name());
+                    newUser.setPhotoURL(decodedToken.picture());
+                    return userService.createUserIfAbsent(newUser).thenApply(UserWriteResult::user);
+                })
+                .<ResponseEntity<?>>thenApply(user -> ResponseEntity.ok(user))
+                .exceptionally(e -> {
+                    logger.error("Error during login", e);
+                    return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Invalid token");
+                });
     }
 
     @PostMapping
-    public ResponseEntity<?> createUser(@RequestBody User user) {
-        User savedUser = userService.saveUser(user);
-        return ResponseEntity.ok(savedUser);
+    public CompletableFuture<ResponseEntity<?>> createUser(@RequestBody User user) {
+        return userService.saveUser(user)
+                .<ResponseEntity<?>>thenApply(savedUser -> ResponseEntity.ok(savedUser));
     }
 
-    @GetMapping("/{uid}")
-    public ResponseEntity<?> getUserByUid(@PathVariable String uid) {
-        User user = userService.getUserByUid(uid);
-        if (user == null) {
-            return ResponseEntity.notFound().build();
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> importUsers(HttpServletRequest request) {
+        try {
+            return ResponseEntity.ok(userImportService.importUsers(request.getInputStream()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (IOException e) {
+            logger.error("Error reading bulk user import", e);
+            return ResponseEntity.badRequest().body("Unable to read request body");
         }
-        return ResponseEntity.ok(user);
+    }
+
+    @GetMapping("/{uid}")
+    public CompletableFuture<ResponseEntity<?>> getUserByUid(@PathVariable String uid, @RequestHeader HttpHeaders headers) {
+        return userService.getVersionedUser(uid)
+                .<ResponseEntity<?>>thenApply(user -> conditionalResponses.of(headers, user));
     }
 
     @PostMapping("/logout")
-    public ResponseEntity<?> logout(HttpServletResponse response) {
-        cookieService.clearAuthCookie(response);
+    public ResponseEntity<?> logout(HttpServletRequest request, HttpServletResponse response) {
+        sessionManager.end(request, response);
         return ResponseEntity.ok().build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,90 @@
+package com.speakerspace.controller;
+
+import com.speakerspace.repository.Versioned;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.TreeSet;
+
+@Component
+public class ConditionalResponses {
+
+    private final CacheControl cacheControl;
+
+    public ConditionalResponses(@Value("${http.cache-control.max-age:0s}") Duration maxAge) {
+        this.cacheControl = maxAge.isZero()
+                ? CacheControl.noCache().cachePrivate()
+                : CacheControl.maxAge(maxAge).cachePrivate().mustRevalidate();
+    }
+
+    public ResponseEntity<?> of(HttpHeaders requestHeaders, Versioned<?> versioned) {
+        return of(requestHeaders, versioned, null);
+    }
+
+    public ResponseEntity<?> of(HttpHeaders requestHeaders, Versioned<?> versioned, Collection<String> fields) {
+        if (versioned == null || versioned.value() == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        Instant updateTime = versioned.updateTime();
+        if (updateTime == null) {
+            return ResponseEntity.ok().cacheControl(cacheControl).body(versioned.value());
+        }
+
+        String eTag = eTag(updateTime, fields);
+        if (isNotModified(requestHeaders, eTag, updateTime)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .lastModified(updateTime)
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .lastModified(updateTime)
+                .cacheControl(cacheControl)
+                .body(versioned.value());
+    }
+
+    static String eTag(Instant updateTime) {
+        return eTag(updateTime, null);
+    }
+
+    static String eTag(Instant updateTime, Collection<String> fields) {
+        String version = Long.toHexString(updateTime.getEpochSecond()) + "-" + Integer.toHexString(updateTime.getNano());
+        if (fields != null && !fields.isEmpty()) {
+            version += "-" + Integer.toHexString(String.join(",", new TreeSet<>(fields)).hashCode());
+        }
+        return "\"" + version + "\"";
+    }
+
+    private static boolean isNotModified(HttpHeaders requestHeaders, String eTag, Instant updateTime) {
+        if (requestHeaders == null) {
+            return false;
+        }
+
+        if (requestHeaders.containsKey(HttpHeaders.IF_NONE_MATCH)) {
+            for (String candidate : requestHeaders.getIfNoneMatch()) {
+                String tag = candidate.startsWith("W/") ? candidate.substring(2) : candidate;
+                if (tag.equals("*") || tag.equals(eTag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        try {
+            long ifModifiedSince = requestHeaders.getIfModifiedSince();
+            return ifModifiedSince >= 0 && updateTime.getEpochSecond() * 1000 <= ifModifiedSince;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
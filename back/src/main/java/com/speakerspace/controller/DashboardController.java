@@ -0,0 +1,32 @@
+package com.speakerspace.controller;
+
+import com.speakerspace.service.SpeakerDashboardService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.CompletableFuture;
+
+@RestController
+@RequestMapping("/dashboard")
+public class DashboardController {
+
+    @Autowired
+    private SpeakerDashboardService speakerDashboardService;
+
+    @Autowired
+    private ConditionalResponses conditionalResponses;
+
+    @GetMapping("/{uid}")
+    @PreAuthorize("hasRole('ADMIN') or #uid == authentication.uid")
+    public CompletableFuture<ResponseEntity<?>> getDashboard(@PathVariable String uid, @RequestHeader HttpHeaders headers) {
+        return speakerDashboardService.getDashboard(uid)
+                .<ResponseEntity<?>>thenApply(dashboard -> conditionalResponses.of(headers, dashboard));
+    }
+}
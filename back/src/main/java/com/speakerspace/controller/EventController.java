@@ -0,0 +1,104 @@
+package com.speakerspace.controller;
+
+import com.speakerspace.repository.Versioned;
+import com.speakerspace.security.FirebaseAuthenticationToken;
+import com.speakerspace.service.AgendaService;
+import com.speakerspace.service.EventDetailService;
+import com.speakerspace.service.EventService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+@RestController
+@RequestMapping("/events")
+public class EventController {
+
+    @Autowired
+    private EventDetailService eventDetailService;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private AgendaService agendaService;
+
+    @Autowired
+    private ConditionalResponses conditionalResponses;
+
+    @GetMapping
+    public CompletableFuture<ResponseEntity<?>> listEvents(@RequestParam(required = false) String organizer,
+                                                          @RequestParam(required = false) Set<String> fields,
+                                                          @RequestParam(required = false) Integer pageSize,
+                                                          @RequestParam(required = false) String pageToken,
+                                                          Authentication authentication) {
+        String organizerUid = organizer;
+        if (organizerUid == null && authentication instanceof FirebaseAuthenticationToken firebaseAuthentication) {
+            organizerUid = firebaseAuthentication.getUid();
+        }
+        if (organizerUid == null) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body("organizer is required"));
+        }
+
+        try {
+            CompletableFuture<?> page = fields == null || fields.isEmpty()
+                    ? eventService.listEventsByOrganizer(organizerUid, pageSize, pageToken)
+                    : eventService.listEventFieldsByOrganizer(organizerUid, fields, pageSize, pageToken);
+            return page.<ResponseEntity<?>>thenApply(ResponseEntity::ok);
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body(e.getMessage()));
+        }
+    }
+
+    @GetMapping("/{eventId}")
+    public CompletableFuture<ResponseEntity<?>> getEvent(@PathVariable String eventId,
+                                                        @RequestParam(required = false) Set<String> fields,
+                                                        @RequestHeader HttpHeaders headers) {
+        try {
+            CompletableFuture<? extends Versioned<?>> event = fields == null || fields.isEmpty()
+                    ? eventService.getEvent(eventId)
+                    : eventService.getEventFields(eventId, fields);
+            return event.<ResponseEntity<?>>thenApply(versioned -> conditionalResponses.of(headers, versioned, fields));
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body(e.getMessage()));
+        }
+    }
+
+    @GetMapping("/{eventId}/detail")
+    public CompletableFuture<ResponseEntity<?>> getEventDetail(@PathVariable String eventId,
+                                                              Authentication authentication) {
+        String uid = null;
+        boolean admin = false;
+        if (authentication instanceof FirebaseAuthenticationToken firebaseAuthentication) {
+            uid = firebaseAuthentication.getUid();
+            admin = firebaseAuthentication.isAdmin();
+        }
+
+        return eventDetailService.getEventDetail(eventId, uid, admin)
+                .<ResponseEntity<?>>thenApply(detail -> {
+                    if (detail == null) {
+                        return ResponseEntity.notFound().build();
+                    }
+                    return ResponseEntity.ok(detail);
+                });
+    }
+
+    @GetMapping("/{eventId}/agenda")
+    public CompletableFuture<ResponseEntity<?>> getAgenda(@PathVariable String eventId,
+                                                         @RequestParam(required = false) String zone) {
+        try {
+            return agendaService.getAgenda(eventId, zone).<ResponseEntity<?>>thenApply(ResponseEntity::ok);
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body(e.getMessage()));
+        }
+    }
+}
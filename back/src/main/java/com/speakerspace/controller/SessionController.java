@@ -0,0 +1,187 @@
+package com.speakerspace.controller;
+
+import com.speakerspace.dto.ResourcePatch;
+import com.speakerspace.dto.TaskPatch;
+import com.speakerspace.model.Resource;
+import com.speakerspace.model.Session;
+import com.speakerspace.model.Task;
+import com.speakerspace.repository.Versioned;
+import com.speakerspace.service.SessionService;
+import com.speakerspace.service.WriteAccessService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+@RestController
+@RequestMapping("/sessions")
+public class SessionController {
+
+    @Autowired
+    private SessionService sessionService;
+
+    @Autowired
+    private ConditionalResponses conditionalResponses;
+
+    @Autowired
+    private WriteAccessService writeAccessService;
+
+    @GetMapping
+    public CompletableFuture<ResponseEntity<?>> listSessions(@RequestParam String event,
+                                                            @RequestParam(required = false) Set<String> fields,
+                                                            @RequestParam(required = false) Integer pageSize,
+                                                            @RequestParam(required = false) String pageToken) {
+        try {
+            CompletableFuture<?> page = fields == null || fields.isEmpty()
+                    ? sessionService.listSessionsByEvent(event, pageSize, pageToken)
+                    : sessionService.listSessionFieldsByEvent(event, fields, pageSize, pageToken);
+            return page.<ResponseEntity<?>>thenApply(ResponseEntity::ok);
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body(e.getMessage()));
+        }
+    }
+
+    @GetMapping("/{sessionId}")
+    public CompletableFuture<ResponseEntity<?>> getSession(@PathVariable String sessionId,
+                                                          @RequestParam(required = false) Set<String> fields,
+                                                          @RequestHeader HttpHeaders headers) {
+        try {
+            CompletableFuture<? extends Versioned<?>> session = fields == null || fields.isEmpty()
+                    ? sessionService.getSession(sessionId)
+                    : sessionService.getSessionFields(sessionId, fields);
+            return session.<ResponseEntity<?>>thenApply(versioned -> conditionalResponses.of(headers, versioned, fields));
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body(e.getMessage()));
+        }
+    }
+
+    @PostMapping
+    public CompletableFuture<ResponseEntity<?>> createSession(@RequestBody Session session,
+                                                             Authentication authentication) {
+        session.setIdSession(null);
+        return writeAccessService.canSaveSession(authentication, session)
+                .thenCompose(allowed -> allowed ? save(session) : forbidden());
+    }
+
+    @PutMapping("/{sessionId}")
+    public CompletableFuture<ResponseEntity<?>> saveSession(@PathVariable String sessionId, @RequestBody Session session,
+                                                           Authentication authentication) {
+        session.setIdSession(sessionId);
+        return writeAccessService.canSaveSession(authentication, session)
+                .thenCompose(allowed -> allowed ? save(session) : forbidden());
+    }
+
+    @DeleteMapping("/{sessionId}")
+    public CompletableFuture<ResponseEntity<?>> deleteSession(@PathVariable String sessionId,
+                                                             Authentication authentication) {
+        return writeAccessService.canDeleteSession(authentication, sessionId)
+                .thenCompose(allowed -> allowed
+                        ? sessionService.deleteSession(sessionId).<ResponseEntity<?>>thenApply(deleted -> deleted
+                                ? ResponseEntity.noContent().build()
+                                : ResponseEntity.notFound().build())
+                        : forbidden());
+    }
+
+    @GetMapping("/{sessionId}/tasks")
+    public CompletableFuture<ResponseEntity<?>> getTasks(@PathVariable String sessionId) {
+        return sessionService.getTasks(sessionId)
+                .<ResponseEntity<?>>thenApply(tasks -> ResponseEntity.ok(tasks));
+    }
+
+    @PostMapping("/{sessionId}/tasks")
+    public CompletableFuture<ResponseEntity<?>> createTask(@PathVariable String sessionId, @RequestBody Task task,
+                                                          Authentication authentication) {
+        return whenAllowed(authentication, sessionId, () -> sessionService.createTask(sessionId, task)
+                .<ResponseEntity<?>>thenApply(createdTask -> createdTask == null
+                        ? ResponseEntity.notFound().build()
+                        : ResponseEntity.ok(createdTask)));
+    }
+
+    @PatchMapping("/{sessionId}/tasks/{taskId}")
+    public CompletableFuture<ResponseEntity<?>> updateTask(@PathVariable String sessionId, @PathVariable String taskId,
+                                                          @RequestBody TaskPatch patch, Authentication authentication) {
+        return whenAllowed(authentication, sessionId, () -> {
+            try {
+                return sessionService.updateTask(sessionId, taskId, patch)
+                        .<ResponseEntity<?>>thenApply(task -> task == null
+                                ? ResponseEntity.notFound().build()
+                                : ResponseEntity.ok(task));
+            } catch (IllegalArgumentException e) {
+                return CompletableFuture.completedFuture(ResponseEntity.badRequest().body(e.getMessage()));
+            }
+        });
+    }
+
+    @DeleteMapping("/{sessionId}/tasks/{taskId}")
+    public CompletableFuture<ResponseEntity<?>> deleteTask(@PathVariable String sessionId, @PathVariable String taskId,
+                                                          Authentication authentication) {
+        return whenAllowed(authentication, sessionId, () -> sessionService.deleteTask(sessionId, taskId)
+                .<ResponseEntity<?>>thenApply(deleted -> deleted
+                        ? ResponseEntity.noContent().build()
+                        : ResponseEntity.notFound().build()));
+    }
+
+    @GetMapping("/{sessionId}/resources")
+    public CompletableFuture<ResponseEntity<?>> getResources(@PathVariable String sessionId) {
+        return sessionService.getResources(sessionId)
+                .<ResponseEntity<?>>thenApply(resources -> ResponseEntity.ok(resources));
+    }
+
+    @PostMapping("/{sessionId}/resources")
+    public CompletableFuture<ResponseEntity<?>> createResource(@PathVariable String sessionId,
+                                                              @RequestBody Resource resource,
+                                                              Authentication authentication) {
+        return whenAllowed(authentication, sessionId, () -> sessionService.createResource(sessionId, resource)
+                .<ResponseEntity<?>>thenApply(createdResource -> createdResource == null
+                        ? ResponseEntity.notFound().build()
+                        : ResponseEntity.ok(createdResource)));
+    }
+
+    @PatchMapping("/{sessionId}/resources/{resourceId}")
+    public CompletableFuture<ResponseEntity<?>> updateResource(@PathVariable String sessionId,
+                                                              @PathVariable String resourceId,
+                                                              @RequestBody ResourcePatch patch,
+                                                              Authentication authentication) {
+        return whenAllowed(authentication, sessionId, () -> {
+            try {
+                return sessionService.updateResource(sessionId, resourceId, patch)
+                        .<ResponseEntity<?>>thenApply(updated -> updated
+                                ? ResponseEntity.noContent().build()
+                                : ResponseEntity.notFound().build());
+            } catch (IllegalArgumentException e) {
+                return CompletableFuture.completedFuture(ResponseEntity.badRequest().body(e.getMessage()));
+            }
+        });
+    }
+
+    @DeleteMapping("/{sessionId}/resources/{resourceId}")
+    public CompletableFuture<ResponseEntity<?>> deleteResource(@PathVariable String sessionId,
+                                                              @PathVariable String resourceId,
+                                                              Authentication authentication) {
+        return whenAllowed(authentication, sessionId, () -> sessionService.deleteResource(sessionId, resourceId)
+                .<ResponseEntity<?>>thenApply(deleted -> deleted
+                        ? ResponseEntity.noContent().build()
+                        : ResponseEntity.notFound().build()));
+    }
+
+    private CompletableFuture<ResponseEntity<?>> save(Session session) {
+        return sessionService.saveSession(session)
+                .<ResponseEntity<?>>thenApply(savedSession -> ResponseEntity.ok(savedSession));
+    }
+
+    private CompletableFuture<ResponseEntity<?>> whenAllowed(Authentication authentication, String sessionId,
+                                                             Supplier<CompletableFuture<ResponseEntity<?>>> write) {
+        return writeAccessService.canEditSessionItems(authentication, sessionId)
+                .thenCompose(allowed -> allowed ? write.get() : forbidden());
+    }
+
+    private static CompletableFuture<ResponseEntity<?>> forbidden() {
+        return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.FORBIDDEN).build());
+    }
+}
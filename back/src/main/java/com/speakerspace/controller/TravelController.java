@@ -0,0 +1,58 @@
+package com.speakerspace.controller;
+
+import com.speakerspace.model.Travel;
+import com.speakerspace.service.TravelService;
+import com.speakerspace.service.WriteAccessService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.concurrent.CompletableFuture;
+
+@RestController
+@RequestMapping("/travels")
+public class TravelController {
+
+    @Autowired
+    private TravelService travelService;
+
+    @Autowired
+    private WriteAccessService writeAccessService;
+
+    @PostMapping
+    public CompletableFuture<ResponseEntity<?>> createTravel(@RequestBody Travel travel, Authentication authentication) {
+        travel.setIdTravel(null);
+        return writeAccessService.canSaveTravel(authentication, travel)
+                .thenCompose(allowed -> allowed ? save(travel) : forbidden());
+    }
+
+    @PutMapping("/{travelId}")
+    public CompletableFuture<ResponseEntity<?>> saveTravel(@PathVariable String travelId, @RequestBody Travel travel,
+                                                          Authentication authentication) {
+        travel.setIdTravel(travelId);
+        return writeAccessService.canSaveTravel(authentication, travel)
+                .thenCompose(allowed -> allowed ? save(travel) : forbidden());
+    }
+
+    @DeleteMapping("/{travelId}")
+    public CompletableFuture<ResponseEntity<?>> deleteTravel(@PathVariable String travelId,
+                                                            Authentication authentication) {
+        return writeAccessService.canDeleteTravel(authentication, travelId)
+                .thenCompose(allowed -> allowed
+                        ? travelService.deleteTravel(travelId).<ResponseEntity<?>>thenApply(deleted -> deleted
+                                ? ResponseEntity.noContent().build()
+                                : ResponseEntity.notFound().build())
+                        : forbidden());
+    }
+
+    private CompletableFuture<ResponseEntity<?>> save(Travel travel) {
+        return travelService.saveTravel(travel)
+                .<ResponseEntity<?>>thenApply(savedTravel -> ResponseEntity.ok(savedTravel));
+    }
+
+    private static CompletableFuture<ResponseEntity<?>> forbidden() {
+        return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.FORBIDDEN).build());
+    }
+}
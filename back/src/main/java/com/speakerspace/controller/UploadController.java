@@ -0,0 +1,67 @@
+package com.speakerspace.controller;
+
+import com.speakerspace.service.UploadService;
+import com.speakerspace.storage.BlobTooLargeException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.time.Duration;
+
+@RestController
+@RequestMapping("/uploads")
+public class UploadController {
+
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePrivate().immutable();
+
+    @Autowired
+    private UploadService uploadService;
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<?> upload(@RequestParam("file") MultipartFile file) throws IOException {
+        if (!uploadService.isAvailable()) {
+            return unavailable();
+        }
+        try {
+            return ResponseEntity.status(HttpStatus.CREATED).body(uploadService.upload(file));
+        } catch (BlobTooLargeException e) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/{hash}")
+    public ResponseEntity<?> download(@PathVariable String hash) throws IOException {
+        if (!uploadService.isAvailable()) {
+            return unavailable();
+        }
+        try {
+            return uploadService.download(hash)
+                    .<ResponseEntity<?>>map(blob -> ResponseEntity.ok()
+                            .eTag(hash)
+                            .cacheControl(IMMUTABLE)
+                            .contentType(MediaType.parseMediaType(blob.contentType()))
+                            .contentLength(blob.size())
+                            .header("X-Content-Type-Options", "nosniff")
+                            .body(blob.resource()))
+                    .orElseGet(() -> ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    private static ResponseEntity<?> unavailable() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("No blob store is configured");
+    }
+}
@@ -0,0 +1,32 @@
+package com.speakerspace.controller;
+
+import com.speakerspace.service.UserService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.CompletableFuture;
+
+@RestController
+@RequestMapping("/users")
+public class UserController {
+
+    @Autowired
+    private UserService userService;
+
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public CompletableFuture<ResponseEntity<?>> listUsers(@RequestParam(required = false) Integer pageSize,
+                                                         @RequestParam(required = false) String pageToken) {
+        try {
+            return userService.listUsers(pageSize, pageToken)
+                    .<ResponseEntity<?>>thenApply(page -> ResponseEntity.ok(page));
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body(e.getMessage()));
+        }
+    }
+}
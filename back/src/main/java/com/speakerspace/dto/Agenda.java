@@ -0,0 +1,11 @@
+package com.speakerspace.dto;
+
+import java.util.List;
+
+public record Agenda(
+        String eventId,
+        String zoneId,
+        List<AgendaDay> days,
+        List<SessionSummary> unscheduled,
+        List<ScheduleConflict> conflicts) {
+}
@@ -0,0 +1,7 @@
+package com.speakerspace.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record AgendaDay(LocalDate date, List<SessionSummary> sessions) {
+}
@@ -0,0 +1,4 @@
+package com.speakerspace.dto;
+
+public record BlobReference(String contentHash, long size, String contentType, String url) {
+}
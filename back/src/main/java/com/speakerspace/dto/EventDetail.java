@@ -0,0 +1,18 @@
+package com.speakerspace.dto;
+
+import com.speakerspace.model.Event;
+import com.speakerspace.model.Group;
+import com.speakerspace.model.Session;
+import com.speakerspace.model.Travel;
+import com.speakerspace.model.User;
+
+import java.util.List;
+
+public record EventDetail(
+        Event event,
+        List<Session> sessions,
+        List<Group> groups,
+        List<Travel> travels,
+        List<User> organizers,
+        List<User> speakers) {
+}
@@ -0,0 +1,14 @@
+package com.speakerspace.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.cloud.Timestamp;
+
+public record EventSummary(
+        String idEvent,
+        String eventName,
+        Timestamp startDate,
+        Timestamp endDate,
+        String city,
+        @JsonProperty("private") boolean isPrivate,
+        @JsonProperty("finish") boolean isFinish) {
+}
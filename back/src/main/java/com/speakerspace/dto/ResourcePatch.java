@@ -0,0 +1,24 @@
+package com.speakerspace.dto;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public record ResourcePatch(String title, String description, Boolean validated) {
+
+    public Map<String, Object> toFields() {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        if (title != null) {
+            fields.put("title", title);
+        }
+        if (description != null) {
+            fields.put("description", description);
+        }
+        if (validated != null) {
+            fields.put("validated", validated);
+        }
+        if (fields.isEmpty()) {
+            throw new IllegalArgumentException("No resource field to update");
+        }
+        return fields;
+    }
+}
@@ -0,0 +1,17 @@
+package com.speakerspace.dto;
+
+import com.google.cloud.Timestamp;
+
+public record ScheduleConflict(
+        Resource resource,
+        String resourceId,
+        String idSession,
+        String otherIdSession,
+        Timestamp overlapStart,
+        Timestamp overlapEnd) {
+
+    public enum Resource {
+        ROOM,
+        SPEAKER
+    }
+}
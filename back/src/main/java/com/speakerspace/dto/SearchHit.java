@@ -0,0 +1,4 @@
+package com.speakerspace.dto;
+
+public record SearchHit(String type, String id, String eventId, String title, double score) {
+}
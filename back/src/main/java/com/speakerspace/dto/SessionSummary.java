@@ -0,0 +1,15 @@
+package com.speakerspace.dto;
+
+import com.google.cloud.Timestamp;
+
+import java.util.List;
+
+public record SessionSummary(
+        String idSession,
+        String title,
+        Timestamp startDate,
+        Timestamp endDate,
+        String location,
+        String event,
+        List<String> speakers) {
+}
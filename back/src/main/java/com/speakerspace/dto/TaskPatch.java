@@ -0,0 +1,64 @@
+package com.speakerspace.dto;
+
+import com.google.cloud.Timestamp;
+import com.speakerspace.model.Task;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public record TaskPatch(
+        String title,
+        String description,
+        String speakerResponse,
+        String reminderFrequency,
+        Instant deadline,
+        Boolean finished) {
+
+    public Map<String, Object> toFields() {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        if (title != null) {
+            fields.put("title", title);
+        }
+        if (description != null) {
+            fields.put("description", description);
+        }
+        if (speakerResponse != null) {
+            fields.put("speakerResponse", speakerResponse);
+        }
+        if (reminderFrequency != null) {
+            fields.put("reminderFrequency", reminderFrequency);
+        }
+        if (deadline != null) {
+            fields.put("deadline", Timestamp.ofTimeSecondsAndNanos(deadline.getEpochSecond(), deadline.getNano()));
+        }
+        if (finished != null) {
+            fields.put("finished", finished);
+        }
+        if (fields.isEmpty()) {
+            throw new IllegalArgumentException("No task field to update");
+        }
+        return fields;
+    }
+
+    public void applyTo(Task task) {
+        if (title != null) {
+            task.setTitle(title);
+        }
+        if (description != null) {
+            task.setDescription(description);
+        }
+        if (speakerResponse != null) {
+            task.setSpeakerResponse(speakerResponse);
+        }
+        if (reminderFrequency != null) {
+            task.setReminderFrequency(reminderFrequency);
+        }
+        if (deadline != null) {
+            task.setDeadline(Timestamp.ofTimeSecondsAndNanos(deadline.getEpochSecond(), deadline.getNano()));
+        }
+        if (finished != null) {
+            task.setFinished(finished);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.speakerspace.model;
+
+import com.google.cloud.Timestamp;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardEvent {
+
+    private String eventName;
+    private Timestamp startDate;
+    private Timestamp endDate;
+    private String city;
+}
@@ -0,0 +1,25 @@
+package com.speakerspace.model;
+
+import com.google.cloud.Timestamp;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.annotation.Nullable;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardSession {
+
+    private String title;
+    private Timestamp startDate;
+    private @Nullable Timestamp endDate;
+    private String location;
+    private String eventId;
+
+    public static DashboardSession from(Session session) {
+        return new DashboardSession(session.getTitle(), session.getStartDate(), session.getEndDate(),
+                session.getLocation(), session.getEvent());
+    }
+}
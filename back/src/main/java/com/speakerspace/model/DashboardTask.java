@@ -0,0 +1,37 @@
+package com.speakerspace.model;
+
+import com.google.cloud.Timestamp;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Objects;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardTask {
+
+    private String taskId;
+    private String title;
+    private Timestamp deadline;
+    private String sessionId;
+
+    public static List<DashboardTask> openTasks(String sessionId, List<Task> tasks) {
+        if (tasks == null) {
+            return List.of();
+        }
+        return tasks.stream()
+                .map(task -> open(sessionId, task))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    public static DashboardTask open(String sessionId, Task task) {
+        if (task == null || task.isFinished()) {
+            return null;
+        }
+        return new DashboardTask(task.getIdTask(), task.getTitle(), task.getDeadline(), sessionId);
+    }
+}
@@ -0,0 +1,25 @@
+package com.speakerspace.model;
+
+import com.google.cloud.Timestamp;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.annotation.Nullable;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardTravel {
+
+    private String title;
+    private @Nullable Timestamp travelDate;
+    private boolean validated;
+    private boolean finished;
+    private String eventId;
+
+    public static DashboardTravel from(Travel travel) {
+        return new DashboardTravel(travel.getTitle(), travel.getTravelDate(), travel.isValidated(),
+                travel.isFinished(), travel.getEventId());
+    }
+}
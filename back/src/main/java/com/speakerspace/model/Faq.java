@@ -1,6 +1,5 @@
 package com.speakerspace.model;
 
-import com.google.cloud.firestore.annotation.DocumentId;
 import com.google.cloud.firestore.annotation.PropertyName;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -14,7 +13,6 @@ import java.util.List;
 @AllArgsConstructor
 public class Faq {
 
-        @DocumentId
         private long idFaq;
         private String title;
         private String description;
@@ -1,18 +1,18 @@
 package com.speakerspace.model;
 
-
-import com.google.cloud.firestore.annotation.DocumentId;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import javax.annotation.Nullable;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Media {
 
-    @DocumentId
     private long idMedia;
     private String media;
     private String title;
+    private @Nullable String contentHash;
 }
@@ -1,17 +1,18 @@
 package com.speakerspace.model;
 
-import com.google.cloud.firestore.annotation.DocumentId;
 import com.google.common.primitives.Bytes;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import javax.annotation.Nullable;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Picture {
-    @DocumentId
     private String idPicture;
     private String picture;
     private String title;
+    private @Nullable String contentHash;
 }
@@ -1,6 +1,5 @@
 package com.speakerspace.model;
 
-import com.google.cloud.firestore.annotation.DocumentId;
 import com.google.common.primitives.Bytes;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -13,9 +12,9 @@ import javax.annotation.Nullable;
 @AllArgsConstructor
 public class Proof {
 
-    @DocumentId
     private String idProof;
     private String title;
     private @Nullable String description;
     private String picture;
+    private @Nullable String contentHash;
 }
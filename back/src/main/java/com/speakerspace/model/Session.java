@@ -2,7 +2,6 @@ package com.speakerspace.model;
 
 import com.google.cloud.Timestamp;
 import com.google.cloud.firestore.annotation.DocumentId;
-import com.google.cloud.firestore.annotation.PropertyName;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -24,12 +23,6 @@ public class Session {
     private String location;
     private String openfeedbackLink;
 
-    @PropertyName("task")
-    private List<Task> tasks;
-
-    @PropertyName("resource")
-    private List<Resource> resources;
-
     private String event;
     private List<String> speakers;
 }
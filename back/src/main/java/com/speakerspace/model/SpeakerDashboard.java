@@ -0,0 +1,67 @@
+package com.speakerspace.model;
+
+import com.google.cloud.firestore.annotation.DocumentId;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SpeakerDashboard {
+
+    @DocumentId
+    private String uid;
+    private Map<String, DashboardSession> sessions = new HashMap<>();
+    private Map<String, List<DashboardTask>> openTasks = new HashMap<>();
+    private Map<String, DashboardTravel> travels = new HashMap<>();
+    private Map<String, DashboardEvent> events = new HashMap<>();
+
+    public SpeakerDashboard(String uid) {
+        this.uid = uid;
+    }
+
+    public void applySession(String sessionId, Session session, List<Task> tasks, DashboardEvent event) {
+        if (session != null && session.getSpeakers() != null && session.getSpeakers().contains(uid)) {
+            sessions.put(sessionId, DashboardSession.from(session));
+            List<DashboardTask> open = DashboardTask.openTasks(sessionId, tasks);
+            if (open.isEmpty()) {
+                openTasks.remove(sessionId);
+            } else {
+                openTasks.put(sessionId, open);
+            }
+            if (event != null && session.getEvent() != null) {
+                events.put(session.getEvent(), event);
+            }
+        } else {
+            sessions.remove(sessionId);
+            openTasks.remove(sessionId);
+        }
+        pruneEvents();
+    }
+
+    public void applyTravel(String travelId, Travel travel, DashboardEvent event) {
+        if (travel != null && uid.equals(travel.getUserId())) {
+            travels.put(travelId, DashboardTravel.from(travel));
+            if (event != null && travel.getEventId() != null) {
+                events.put(travel.getEventId(), event);
+            }
+        } else {
+            travels.remove(travelId);
+        }
+        pruneEvents();
+    }
+
+    private void pruneEvents() {
+        Set<String> referencedEvents = new HashSet<>();
+        sessions.values().forEach(session -> referencedEvents.add(session.getEventId()));
+        travels.values().forEach(travel -> referencedEvents.add(travel.getEventId()));
+        events.keySet().retainAll(referencedEvents);
+    }
+}
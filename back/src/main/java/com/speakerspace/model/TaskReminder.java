@@ -0,0 +1,26 @@
+package com.speakerspace.model;
+
+import com.google.cloud.Timestamp;
+import com.google.cloud.firestore.annotation.DocumentId;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskReminder {
+
+    @DocumentId
+    private String id;
+    private String sessionId;
+    private String taskId;
+    private String title;
+    private Timestamp deadline;
+    private String reminderFrequency;
+    private Timestamp nextReminderAt;
+
+    public static String id(String sessionId, String taskId) {
+        return sessionId + "_" + taskId;
+    }
+}
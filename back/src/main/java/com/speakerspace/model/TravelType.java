@@ -1,6 +1,5 @@
 package com.speakerspace.model;
 
-import com.google.cloud.firestore.annotation.DocumentId;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -10,7 +9,6 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class TravelType {
 
-    @DocumentId
     private String idTravelType;
     private String type;
 }
@@ -0,0 +1,47 @@
+package com.speakerspace.repository;
+
+import com.google.cloud.firestore.DocumentReference;
+import com.google.cloud.firestore.DocumentSnapshot;
+import com.google.cloud.firestore.Firestore;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+import static com.speakerspace.repository.FirestoreFutures.toCompletableFuture;
+
+@Repository
+public class DocumentBatchReader {
+
+    @Autowired
+    private Firestore firestore;
+
+    @Autowired
+    private FirestoreMetrics firestoreMetrics;
+
+    public <T> CompletableFuture<List<T>> getAll(String collection, Collection<String> ids, Class<T> type) {
+        if (ids == null || ids.isEmpty()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+
+        DocumentReference[] references = ids.stream()
+                .filter(Objects::nonNull)
+                .filter(id -> !id.isBlank())
+                .distinct()
+                .map(id -> firestore.collection(collection).document(id))
+                .toArray(DocumentReference[]::new);
+
+        if (references.length == 0) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+
+        return firestoreMetrics.record(collection, "getAll", () -> toCompletableFuture(firestore.getAll(references)))
+                .thenApply(snapshots -> snapshots.stream()
+                        .filter(DocumentSnapshot::exists)
+                        .map(snapshot -> snapshot.toObject(type))
+                        .toList());
+    }
+}
@@ -0,0 +1,98 @@
+package com.speakerspace.repository;
+
+import com.google.cloud.firestore.CollectionReference;
+import com.google.cloud.firestore.DocumentSnapshot;
+import com.google.cloud.firestore.FieldMask;
+import com.google.cloud.firestore.FieldPath;
+import com.google.cloud.firestore.Firestore;
+import com.google.cloud.firestore.Query;
+import com.speakerspace.dto.EventSummary;
+import com.speakerspace.model.Event;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import static com.speakerspace.repository.FirestoreFutures.toCompletableFuture;
+
+@Repository
+public class EventRepository {
+
+    private static final String COLLECTION_NAME = FirestoreCollections.EVENTS;
+
+    static final String[] SUMMARY_FIELDS = {"eventName", "startDate", "endDate", "city", "private", "finish"};
+
+    private static final FieldProjection FIELDS = FieldProjection.of("idEvent",
+                    "eventName", "description", "startDate", "endDate", "road", "zipCode", "city", "private",
+                    "webLinkUrl", "contactEmail", "finish", "organizers", "sessions", "groups", "travels")
+            .rename("faqs", "faq")
+            .rename("pictures", "picture");
+
+    @Autowired
+    private Firestore firestore;
+
+    @Autowired
+    private FirestoreMetrics firestoreMetrics;
+
+    public CompletableFuture<Event> findById(String eventId) {
+        return findVersionedById(eventId).thenApply(Versioned::value);
+    }
+
+    public CompletableFuture<Versioned<Event>> findVersionedById(String eventId) {
+        return firestoreMetrics.record(COLLECTION_NAME, "get",
+                () -> toCompletableFuture(events().document(eventId).get()))
+                .thenApply(snapshot -> Versioned.of(snapshot, Event.class));
+    }
+
+    public CompletableFuture<Versioned<Map<String, Object>>> findFieldsById(String eventId, Collection<String> fields) {
+        FieldMask mask = FIELDS.mask(fields);
+        return firestoreMetrics.record(COLLECTION_NAME, "get",
+                () -> toCompletableFuture(events().document(eventId).get(mask)))
+                .thenApply(snapshot -> snapshot.exists()
+                        ? new Versioned<>(FIELDS.read(snapshot, fields), Versioned.toInstant(snapshot.getUpdateTime()))
+                        : new Versioned<>(null, null));
+    }
+
+    public CompletableFuture<Page<EventSummary>> findByOrganizer(String organizer, int pageSize, String pageToken) {
+        return findPageByOrganizer(organizer, SUMMARY_FIELDS, pageSize, pageToken, EventRepository::toSummary);
+    }
+
+    public CompletableFuture<Page<Map<String, Object>>> findFieldsByOrganizer(String organizer, Collection<String> fields,
+                                                                             int pageSize, String pageToken) {
+        return findPageByOrganizer(organizer, FIELDS.storedNames(fields, "startDate"), pageSize, pageToken,
+                document -> FIELDS.read(document, fields));
+    }
+
+    private <T> CompletableFuture<Page<T>> findPageByOrganizer(String organizer, String[] fields, int pageSize,
+                                                               String pageToken, Function<DocumentSnapshot, T> mapper) {
+        Query query = events()
+                .whereArrayContains("organizers", organizer)
+                .orderBy("startDate", Query.Direction.DESCENDING)
+                .orderBy(FieldPath.documentId(), Query.Direction.DESCENDING)
+                .select(fields)
+                .limit(pageSize + 1);
+        Query page = pageToken == null ? query : query.startAfter(PageCursor.decode(pageToken, 2).toArray());
+
+        return firestoreMetrics.record(COLLECTION_NAME, "list", () -> toCompletableFuture(page.get()))
+                .thenApply(snapshot -> Page.of(snapshot.getDocuments(), pageSize, mapper,
+                        document -> PageCursor.of(document.getTimestamp("startDate"), document.getId())));
+    }
+
+    static EventSummary toSummary(DocumentSnapshot snapshot) {
+        return new EventSummary(
+                snapshot.getId(),
+                snapshot.getString("eventName"),
+                snapshot.getTimestamp("startDate"),
+                snapshot.getTimestamp("endDate"),
+                snapshot.getString("city"),
+                Boolean.TRUE.equals(snapshot.getBoolean("private")),
+                Boolean.TRUE.equals(snapshot.getBoolean("finish")));
+    }
+
+    private CollectionReference events() {
+        return firestore.collection(COLLECTION_NAME);
+    }
+}
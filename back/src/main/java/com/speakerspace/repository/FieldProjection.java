@@ -0,0 +1,65 @@
+package com.speakerspace.repository;
+
+import com.google.cloud.firestore.DocumentSnapshot;
+import com.google.cloud.firestore.FieldMask;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+final class FieldProjection {
+
+    private final String idProperty;
+    private final Map<String, String> properties = new LinkedHashMap<>();
+
+    private FieldProjection(String idProperty) {
+        this.idProperty = idProperty;
+    }
+
+    static FieldProjection of(String idProperty, String... properties) {
+        FieldProjection projection = new FieldProjection(idProperty);
+        for (String property : properties) {
+            projection.properties.put(property, property);
+        }
+        return projection;
+    }
+
+    FieldProjection rename(String property, String storedName) {
+        properties.put(property, storedName);
+        return this;
+    }
+
+    String[] storedNames(Collection<String> fields, String... required) {
+        Set<String> storedNames = new LinkedHashSet<>();
+        for (String field : fields) {
+            if (field.equals(idProperty)) {
+                continue;
+            }
+            String storedName = properties.get(field);
+            if (storedName == null) {
+                throw new IllegalArgumentException("Unknown field: " + field);
+            }
+            storedNames.add(storedName);
+        }
+        storedNames.addAll(Arrays.asList(required));
+        return storedNames.toArray(String[]::new);
+    }
+
+    FieldMask mask(Collection<String> fields) {
+        return FieldMask.of(storedNames(fields));
+    }
+
+    Map<String, Object> read(DocumentSnapshot snapshot, Collection<String> fields) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put(idProperty, snapshot.getId());
+        for (String field : fields) {
+            if (!field.equals(idProperty)) {
+                values.put(field, snapshot.get(properties.get(field)));
+            }
+        }
+        return values;
+    }
+}
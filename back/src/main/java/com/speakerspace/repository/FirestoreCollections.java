@@ -0,0 +1,19 @@
+package com.speakerspace.repository;
+
+public final class FirestoreCollections {
+
+    public static final String USERS = "users";
+    public static final String EVENTS = "events";
+    public static final String SESSIONS = "sessions";
+    public static final String GROUPS = "groups";
+    public static final String TRAVELS = "travels";
+    public static final String SPEAKER_DASHBOARDS = "speakerDashboards";
+    public static final String SESSION_TASKS = "tasks";
+    public static final String SESSION_RESOURCES = "resources";
+    public static final String TASK_REMINDERS = "taskReminders";
+    public static final String REVOKED_SESSIONS = "revokedSessions";
+    public static final String LEASES = "leases";
+
+    private FirestoreCollections() {
+    }
+}
@@ -0,0 +1,49 @@
+package com.speakerspace.repository;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.api.gax.rpc.ApiException;
+import com.google.api.gax.rpc.StatusCode;
+import com.google.cloud.firestore.FirestoreException;
+import com.google.common.util.concurrent.MoreExecutors;
+import io.grpc.Status;
+
+import java.util.concurrent.CompletableFuture;
+
+public final class FirestoreFutures {
+
+    private FirestoreFutures() {
+    }
+
+    public static <T> CompletableFuture<T> toCompletableFuture(ApiFuture<T> apiFuture) {
+        CompletableFuture<T> completableFuture = new CompletableFuture<>();
+        ApiFutures.addCallback(apiFuture, new ApiFutureCallback<>() {
+            @Override
+            public void onFailure(Throwable throwable) {
+                completableFuture.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onSuccess(T result) {
+                completableFuture.complete(result);
+            }
+        }, MoreExecutors.directExecutor());
+        return completableFuture;
+    }
+
+    public static boolean hasStatus(Throwable throwable, StatusCode.Code code) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ApiException apiException
+                    && apiException.getStatusCode().getCode() == code) {
+                return true;
+            }
+            if (cause instanceof FirestoreException firestoreException
+                    && firestoreException.getStatus() != null
+                    && firestoreException.getStatus().getCode() == Status.Code.valueOf(code.name())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,59 @@
+package com.speakerspace.repository;
+
+import com.google.api.gax.rpc.ApiException;
+import com.google.cloud.firestore.FirestoreException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+@Component
+public class FirestoreMetrics {
+
+    static final String OPERATION_TIMER = "firestore.operation";
+
+    private final MeterRegistry meterRegistry;
+
+    public FirestoreMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <T> CompletableFuture<T> record(String collection, String operation, Supplier<CompletableFuture<T>> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        CompletableFuture<T> future;
+        try {
+            future = call.get();
+        } catch (RuntimeException e) {
+            stop(sample, collection, operation, e);
+            throw e;
+        }
+        return future.whenComplete((result, throwable) -> stop(sample, collection, operation, throwable));
+    }
+
+    private void stop(Timer.Sample sample, String collection, String operation, Throwable throwable) {
+        sample.stop(Timer.builder(OPERATION_TIMER)
+                .description("Latency of Firestore reads and writes")
+                .tag("collection", collection)
+                .tag("operation", operation)
+                .tag("outcome", outcome(throwable))
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    static String outcome(Throwable throwable) {
+        if (throwable == null) {
+            return "OK";
+        }
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ApiException apiException) {
+                return apiException.getStatusCode().getCode().name();
+            }
+            if (cause instanceof FirestoreException firestoreException && firestoreException.getStatus() != null) {
+                return firestoreException.getStatus().getCode().name();
+            }
+        }
+        return "ERROR";
+    }
+}
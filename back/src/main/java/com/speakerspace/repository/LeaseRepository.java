@@ -0,0 +1,70 @@
+package com.speakerspace.repository;
+
+import com.google.cloud.Timestamp;
+import com.google.cloud.firestore.CollectionReference;
+import com.google.cloud.firestore.DocumentReference;
+import com.google.cloud.firestore.DocumentSnapshot;
+import com.google.cloud.firestore.Firestore;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static com.speakerspace.repository.FirestoreFutures.toCompletableFuture;
+
+@Repository
+public class LeaseRepository {
+
+    private static final String COLLECTION_NAME = FirestoreCollections.LEASES;
+
+    @Autowired
+    private Firestore firestore;
+
+    @Autowired
+    private FirestoreMetrics firestoreMetrics;
+
+    public CompletableFuture<Boolean> tryAcquire(String name, String holder, Instant now, Duration duration) {
+        DocumentReference reference = leases().document(name);
+        Instant expiresAt = now.plus(duration);
+
+        return firestoreMetrics.record(COLLECTION_NAME, "acquire",
+                () -> toCompletableFuture(firestore.runTransaction(transaction -> {
+                    DocumentSnapshot lease = transaction.get(reference).get();
+                    if (heldByAnother(lease, holder, now)) {
+                        return false;
+                    }
+                    transaction.set(reference, Map.of(
+                            "holder", holder,
+                            "expiresAt", Timestamp.ofTimeSecondsAndNanos(expiresAt.getEpochSecond(), expiresAt.getNano())));
+                    return true;
+                })));
+    }
+
+    public CompletableFuture<Void> release(String name, String holder) {
+        DocumentReference reference = leases().document(name);
+
+        return firestoreMetrics.record(COLLECTION_NAME, "release",
+                () -> toCompletableFuture(firestore.runTransaction(transaction -> {
+                    DocumentSnapshot lease = transaction.get(reference).get();
+                    if (lease.exists() && holder.equals(lease.getString("holder"))) {
+                        transaction.delete(reference);
+                    }
+                    return null;
+                })));
+    }
+
+    private static boolean heldByAnother(DocumentSnapshot lease, String holder, Instant now) {
+        if (!lease.exists() || holder.equals(lease.getString("holder"))) {
+            return false;
+        }
+        Instant expiresAt = Versioned.toInstant(lease.getTimestamp("expiresAt"));
+        return expiresAt != null && expiresAt.isAfter(now);
+    }
+
+    private CollectionReference leases() {
+        return firestore.collection(COLLECTION_NAME);
+    }
+}
@@ -0,0 +1,24 @@
+package com.speakerspace.repository;
+
+import com.google.cloud.firestore.DocumentSnapshot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+public record Page<T>(List<T> items, String nextPageToken) {
+
+    static <T> Page<T> of(List<? extends DocumentSnapshot> documents, int pageSize,
+                          Function<DocumentSnapshot, T> mapper, Function<DocumentSnapshot, PageCursor> cursor) {
+        int size = Math.min(documents.size(), pageSize);
+        List<T> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            items.add(mapper.apply(documents.get(i)));
+        }
+
+        String nextPageToken = documents.size() > pageSize
+                ? cursor.apply(documents.get(size - 1)).encode()
+                : null;
+        return new Page<>(items, nextPageToken);
+    }
+}
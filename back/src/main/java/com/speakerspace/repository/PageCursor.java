@@ -0,0 +1,74 @@
+package com.speakerspace.repository;
+
+import com.google.cloud.Timestamp;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+record PageCursor(List<Object> values) {
+
+    private static final String VERSION = "v1";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    static PageCursor of(Object... values) {
+        return new PageCursor(Arrays.asList(values));
+    }
+
+    Object[] toArray() {
+        return values.toArray();
+    }
+
+    String encode() {
+        StringBuilder token = new StringBuilder(VERSION);
+        for (Object value : values) {
+            token.append(',');
+            if (value == null) {
+                token.append('n');
+            } else if (value instanceof Timestamp timestamp) {
+                token.append('t').append(timestamp.getSeconds()).append('.').append(timestamp.getNanos());
+            } else if (value instanceof String string) {
+                token.append('s').append(ENCODER.encodeToString(string.getBytes(StandardCharsets.UTF_8)));
+            } else {
+                throw new IllegalArgumentException("Unsupported cursor value: " + value.getClass().getName());
+            }
+        }
+        return ENCODER.encodeToString(token.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    static PageCursor decode(String token, int expectedValues) {
+        try {
+            String[] parts = new String(DECODER.decode(token), StandardCharsets.UTF_8).split(",", -1);
+            if (!VERSION.equals(parts[0]) || parts.length != expectedValues + 1) {
+                throw new IllegalArgumentException("Invalid page token");
+            }
+
+            List<Object> values = new ArrayList<>(expectedValues);
+            for (int i = 1; i < parts.length; i++) {
+                values.add(decodeValue(parts[i]));
+            }
+            return new PageCursor(values);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid page token", e);
+        }
+    }
+
+    private static Object decodeValue(String part) {
+        if (part.equals("n")) {
+            return null;
+        }
+        String value = part.substring(1);
+        return switch (part.charAt(0)) {
+            case 't' -> {
+                int separator = value.indexOf('.');
+                yield Timestamp.ofTimeSecondsAndNanos(Long.parseLong(value.substring(0, separator)),
+                        Integer.parseInt(value.substring(separator + 1)));
+            }
+            case 's' -> new String(DECODER.decode(value), StandardCharsets.UTF_8);
+            default -> throw new IllegalArgumentException("Invalid page token");
+        };
+    }
+}
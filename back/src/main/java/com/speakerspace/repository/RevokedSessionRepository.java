@@ -0,0 +1,46 @@
+package com.speakerspace.repository;
+
+import com.google.cloud.Timestamp;
+import com.google.cloud.firestore.CollectionReference;
+import com.google.cloud.firestore.DocumentSnapshot;
+import com.google.cloud.firestore.FieldMask;
+import com.google.cloud.firestore.Firestore;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static com.speakerspace.repository.FirestoreFutures.toCompletableFuture;
+
+@Repository
+public class RevokedSessionRepository {
+
+    private static final String COLLECTION_NAME = FirestoreCollections.REVOKED_SESSIONS;
+
+    @Autowired
+    private Firestore firestore;
+
+    @Autowired
+    private FirestoreMetrics firestoreMetrics;
+
+    public CompletableFuture<Void> revoke(String sessionId, Instant expiresAt) {
+        Map<String, Object> revocation = Map.of(
+                "revokedAt", Timestamp.now(),
+                "expiresAt", Timestamp.ofTimeSecondsAndNanos(expiresAt.getEpochSecond(), expiresAt.getNano()));
+        return firestoreMetrics.record(COLLECTION_NAME, "set",
+                () -> toCompletableFuture(revokedSessions().document(sessionId).set(revocation)))
+                .thenApply(writeResult -> null);
+    }
+
+    public CompletableFuture<Boolean> isRevoked(String sessionId) {
+        return firestoreMetrics.record(COLLECTION_NAME, "get",
+                () -> toCompletableFuture(revokedSessions().document(sessionId).get(FieldMask.of())))
+                .thenApply(DocumentSnapshot::exists);
+    }
+
+    private CollectionReference revokedSessions() {
+        return firestore.collection(COLLECTION_NAME);
+    }
+}
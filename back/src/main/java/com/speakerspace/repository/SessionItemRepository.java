@@ -0,0 +1,372 @@
+package com.speakerspace.repository;
+
+import com.google.api.gax.rpc.StatusCode;
+import com.google.cloud.Timestamp;
+import com.google.cloud.firestore.CollectionReference;
+import com.google.cloud.firestore.DocumentReference;
+import com.google.cloud.firestore.DocumentSnapshot;
+import com.google.cloud.firestore.FieldMask;
+import com.google.cloud.firestore.FieldPath;
+import com.google.cloud.firestore.FieldValue;
+import com.google.cloud.firestore.Firestore;
+import com.google.cloud.firestore.Query;
+import com.google.cloud.firestore.QueryDocumentSnapshot;
+import com.google.cloud.firestore.SetOptions;
+import com.google.cloud.firestore.Transaction;
+import com.speakerspace.dto.ResourcePatch;
+import com.speakerspace.dto.TaskPatch;
+import com.speakerspace.model.DashboardTask;
+import com.speakerspace.model.Resource;
+import com.speakerspace.model.Task;
+import com.speakerspace.model.TaskReminder;
+import com.speakerspace.service.TaskReminderService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+import static com.speakerspace.repository.FirestoreFutures.toCompletableFuture;
+
+@Repository
+public class SessionItemRepository {
+
+    static final String EMBEDDED_TASKS = "task";
+    static final String EMBEDDED_RESOURCES = "resource";
+
+    @Autowired
+    private Firestore firestore;
+
+    @Autowired
+    private FirestoreMetrics firestoreMetrics;
+
+    @Autowired
+    private SpeakerDashboardRepository speakerDashboardRepository;
+
+    @Autowired
+    private TaskReminderRepository taskReminderRepository;
+
+    public CompletableFuture<List<Task>> findTasks(String sessionId) {
+        return afterInlineMigration(sessionId, () -> firestoreMetrics.record(FirestoreCollections.SESSION_TASKS, "list",
+                () -> toCompletableFuture(tasks(sessionId).get())))
+                .thenApply(snapshot -> snapshot.toObjects(Task.class));
+    }
+
+    public CompletableFuture<List<Resource>> findResources(String sessionId) {
+        return afterInlineMigration(sessionId, () -> firestoreMetrics.record(FirestoreCollections.SESSION_RESOURCES, "list",
+                () -> toCompletableFuture(resources(sessionId).get())))
+                .thenApply(snapshot -> snapshot.toObjects(Resource.class));
+    }
+
+    public CompletableFuture<Task> createTask(String sessionId, Task task) {
+        DocumentReference taskReference = tasks(sessionId).document();
+        task.setIdTask(taskReference.getId());
+
+        return changeTask(sessionId, taskReference, "create", (transaction, previous) -> {
+            transaction.create(taskReference, task);
+            return new TaskUpdate(true, task);
+        }).thenApply(update -> update.applied() ? task : null);
+    }
+
+    public CompletableFuture<Task> updateTask(String sessionId, String taskId, TaskPatch patch) {
+        Map<String, Object> fields = patch.toFields();
+        DocumentReference taskReference = tasks(sessionId).document(taskId);
+
+        return changeTask(sessionId, taskReference, "update", (transaction, previous) -> {
+            if (previous == null) {
+                return TaskUpdate.NONE;
+            }
+            patch.applyTo(previous);
+            transaction.set(taskReference, fields, SetOptions.merge());
+            return new TaskUpdate(true, previous);
+        }).thenApply(TaskUpdate::task);
+    }
+
+    public CompletableFuture<Boolean> deleteTask(String sessionId, String taskId) {
+        DocumentReference taskReference = tasks(sessionId).document(taskId);
+
+        return changeTask(sessionId, taskReference, "delete", (transaction, previous) -> {
+            if (previous == null) {
+                return TaskUpdate.NONE;
+            }
+            transaction.delete(taskReference);
+            return new TaskUpdate(true, null);
+        }).thenApply(TaskUpdate::applied);
+    }
+
+    public CompletableFuture<Resource> createResource(String sessionId, Resource resource) {
+        DocumentReference resourceReference = resources(sessionId).document();
+        resource.setIdResource(resourceReference.getId());
+
+        DocumentReference sessionReference = firestore.collection(FirestoreCollections.SESSIONS).document(sessionId);
+
+        return firestoreMetrics.record(FirestoreCollections.SESSION_RESOURCES, "create",
+                () -> toCompletableFuture(firestore.runTransaction(transaction -> {
+                    DocumentSnapshot session = transaction.get(sessionReference).get();
+                    if (!session.exists()) {
+                        return null;
+                    }
+                    if (hasEmbeddedItems(session)) {
+                        List<Task> tasks = readTasks(transaction, sessionId);
+                        migrateInline(transaction, session, tasks);
+                        speakerDashboardRepository.mergeOpenTasks(transaction, speakers(session), sessionId,
+                                DashboardTask.openTasks(sessionId, tasks));
+                    }
+                    transaction.create(resourceReference, resource);
+                    return resource;
+                })));
+    }
+
+    public CompletableFuture<Boolean> updateResource(String sessionId, String resourceId, ResourcePatch patch) {
+        Map<String, Object> fields = patch.toFields();
+
+        return firestoreMetrics.record(FirestoreCollections.SESSION_RESOURCES, "update",
+                () -> toCompletableFuture(resources(sessionId).document(resourceId).update(fields)))
+                .thenApply(writeResult -> true)
+                .exceptionallyCompose(e -> FirestoreFutures.hasStatus(e, StatusCode.Code.NOT_FOUND)
+                        ? retryAfterMigration(sessionId, () -> updateResource(sessionId, resourceId, patch))
+                        : CompletableFuture.failedFuture(e));
+    }
+
+    public CompletableFuture<Boolean> deleteResource(String sessionId, String resourceId) {
+        DocumentReference resourceReference = resources(sessionId).document(resourceId);
+
+        return firestoreMetrics.record(FirestoreCollections.SESSION_RESOURCES, "delete",
+                () -> toCompletableFuture(firestore.runTransaction(transaction -> {
+                    if (!transaction.get(resourceReference).get().exists()) {
+                        return false;
+                    }
+                    transaction.delete(resourceReference);
+                    return true;
+                })))
+                .thenCompose(deleted -> deleted
+                        ? CompletableFuture.completedFuture(true)
+                        : retryAfterMigration(sessionId, () -> deleteResource(sessionId, resourceId)));
+    }
+
+    public CompletableFuture<Page<String>> findIdsWithEmbeddedItems(int pageSize, String pageToken) {
+        Query query = firestore.collection(FirestoreCollections.SESSIONS)
+                .orderBy(FieldPath.documentId())
+                .select(EMBEDDED_TASKS, EMBEDDED_RESOURCES)
+                .limit(pageSize + 1);
+        Query page = pageToken == null ? query : query.startAfter(PageCursor.decode(pageToken, 1).toArray());
+
+        return firestoreMetrics.record(FirestoreCollections.SESSIONS, "list", () -> toCompletableFuture(page.get()))
+                .thenApply(snapshot -> Page.of(snapshot.getDocuments(), pageSize,
+                        document -> hasEmbeddedItems(document) ? document.getId() : null,
+                        document -> PageCursor.of(document.getId())))
+                .thenApply(ids -> new Page<>(ids.items().stream().filter(Objects::nonNull).toList(),
+                        ids.nextPageToken()));
+    }
+
+    public CompletableFuture<Page<SessionTask>> findAllTasks(int pageSize, String pageToken) {
+        Query query = firestore.collectionGroup(FirestoreCollections.SESSION_TASKS)
+                .orderBy(FieldPath.documentId())
+                .limit(pageSize + 1);
+        Query page = pageToken == null ? query : query.startAfter(PageCursor.decode(pageToken, 1).toArray());
+
+        return firestoreMetrics.record(FirestoreCollections.SESSION_TASKS, "listAll", () -> toCompletableFuture(page.get()))
+                .thenApply(snapshot -> Page.of(snapshot.getDocuments(), pageSize,
+                        document -> new SessionTask(document.getReference().getParent().getParent().getId(),
+                                document.toObject(Task.class)),
+                        document -> PageCursor.of(document.getReference().getPath())));
+    }
+
+    public CompletableFuture<Boolean> migrateEmbeddedItems(String sessionId) {
+        DocumentReference sessionReference = firestore.collection(FirestoreCollections.SESSIONS).document(sessionId);
+
+        return firestoreMetrics.record(FirestoreCollections.SESSIONS, "migrateItems",
+                () -> toCompletableFuture(firestore.runTransaction(transaction -> {
+                    DocumentSnapshot session = transaction.get(sessionReference).get();
+                    if (!session.exists() || !hasEmbeddedItems(session)) {
+                        return false;
+                    }
+                    List<Task> tasks = readTasks(transaction, sessionId);
+
+                    migrateInline(transaction, session, tasks);
+                    speakerDashboardRepository.mergeOpenTasks(transaction, speakers(session), sessionId,
+                            DashboardTask.openTasks(sessionId, tasks));
+                    return true;
+                })));
+    }
+
+    void migrateInline(Transaction transaction, DocumentSnapshot session, List<Task> tasks) {
+        tasks.addAll(moveEmbeddedItems(transaction, session));
+        transaction.update(session.getReference(), Map.of(
+                EMBEDDED_TASKS, FieldValue.delete(),
+                EMBEDDED_RESOURCES, FieldValue.delete()));
+    }
+
+    private <T> CompletableFuture<T> afterInlineMigration(String sessionId, Supplier<CompletableFuture<T>> read) {
+        DocumentReference sessionReference = firestore.collection(FirestoreCollections.SESSIONS).document(sessionId);
+        CompletableFuture<T> firstRead = read.get();
+
+        return firestoreMetrics.record(FirestoreCollections.SESSIONS, "get",
+                () -> toCompletableFuture(sessionReference.get(FieldMask.of(EMBEDDED_TASKS, EMBEDDED_RESOURCES))))
+                .thenCompose(session -> session.exists() && hasEmbeddedItems(session)
+                        ? migrateEmbeddedItems(sessionId).thenCompose(migrated -> read.get())
+                        : firstRead);
+    }
+
+    private CompletableFuture<Boolean> retryAfterMigration(String sessionId, Supplier<CompletableFuture<Boolean>> retry) {
+        return migrateEmbeddedItems(sessionId)
+                .thenCompose(migrated -> migrated ? retry.get() : CompletableFuture.completedFuture(false));
+    }
+
+    List<Task> readTasks(Transaction transaction, String sessionId) throws ExecutionException, InterruptedException {
+        return new ArrayList<>(transaction.get(tasks(sessionId)).get().toObjects(Task.class));
+    }
+
+    List<DocumentReference> readItemReferences(Transaction transaction, String sessionId)
+            throws ExecutionException, InterruptedException {
+        List<DocumentReference> references = new ArrayList<>();
+        for (QueryDocumentSnapshot document : transaction.get(tasks(sessionId)).get().getDocuments()) {
+            references.add(document.getReference());
+        }
+        for (QueryDocumentSnapshot document : transaction.get(resources(sessionId)).get().getDocuments()) {
+            references.add(document.getReference());
+        }
+        return references;
+    }
+
+    List<Task> moveEmbeddedItems(Transaction transaction, DocumentSnapshot session) {
+        String sessionId = session.getId();
+
+        List<Task> tasks = new ArrayList<>();
+        for (Map<String, Object> item : embedded(session, EMBEDDED_TASKS)) {
+            DocumentReference reference = itemReference(tasks(sessionId), item.get("idTask"));
+            Task task = new Task(reference.getId(), string(item, "title"), string(item, "description"),
+                    string(item, "speakerResponse"), string(item, "reminderFrequency"),
+                    item.get("deadline") instanceof Timestamp deadline ? deadline : null,
+                    Boolean.TRUE.equals(item.get("finished")));
+            transaction.set(reference, task);
+            tasks.add(task);
+
+            TaskReminder reminder = TaskReminderService.reminderFor(sessionId, task, Instant.now());
+            if (reminder != null) {
+                taskReminderRepository.set(transaction, reminder);
+            }
+        }
+
+        for (Map<String, Object> item : embedded(session, EMBEDDED_RESOURCES)) {
+            DocumentReference reference = itemReference(resources(sessionId), item.get("idResource"));
+            transaction.set(reference, new Resource(reference.getId(), string(item, "title"),
+                    string(item, "description"), Boolean.TRUE.equals(item.get("validated"))));
+        }
+        return tasks;
+    }
+
+    static boolean hasEmbeddedItems(DocumentSnapshot session) {
+        return session.get(EMBEDDED_TASKS) != null || session.get(EMBEDDED_RESOURCES) != null;
+    }
+
+    private CompletableFuture<TaskUpdate> changeTask(String sessionId, DocumentReference taskReference, String operation,
+                                                     TaskChange change) {
+        DocumentReference sessionReference = firestore.collection(FirestoreCollections.SESSIONS).document(sessionId);
+        String taskId = taskReference.getId();
+
+        return firestoreMetrics.record(FirestoreCollections.SESSION_TASKS, operation,
+                () -> toCompletableFuture(firestore.runTransaction(transaction -> {
+                    DocumentSnapshot session = transaction.get(sessionReference).get();
+                    if (!session.exists()) {
+                        return TaskUpdate.NONE;
+                    }
+                    boolean migrating = hasEmbeddedItems(session);
+                    List<Task> tasks = migrating ? readTasks(transaction, sessionId) : null;
+                    DocumentSnapshot taskSnapshot = transaction.get(taskReference).get();
+
+                    Task previous = taskSnapshot.exists() ? taskSnapshot.toObject(Task.class) : null;
+                    if (migrating) {
+                        migrateInline(transaction, session, tasks);
+                        previous = tasks.stream().filter(task -> taskId.equals(task.getIdTask())).findFirst().orElse(previous);
+                    }
+                    DashboardTask openBefore = DashboardTask.open(sessionId, previous);
+
+                    TaskUpdate update = change.apply(transaction, previous);
+                    if (migrating) {
+                        if (update.applied()) {
+                            tasks.removeIf(task -> taskId.equals(task.getIdTask()));
+                            if (update.task() != null) {
+                                tasks.add(update.task());
+                            }
+                        }
+                        speakerDashboardRepository.mergeOpenTasks(transaction, speakers(session), sessionId,
+                                DashboardTask.openTasks(sessionId, tasks));
+                    } else if (update.applied()) {
+                        speakerDashboardRepository.replaceOpenTask(transaction, speakers(session), sessionId,
+                                openBefore, DashboardTask.open(sessionId, update.task()));
+                    }
+                    if (update.applied()) {
+                        updateReminder(transaction, sessionId, taskId, previous != null, update.task());
+                    }
+                    return update;
+                })));
+    }
+
+    private void updateReminder(Transaction transaction, String sessionId, String taskId, boolean existed, Task task) {
+        TaskReminder reminder = task == null ? null : TaskReminderService.reminderFor(sessionId, task, Instant.now());
+        if (reminder != null) {
+            taskReminderRepository.set(transaction, reminder);
+        } else if (existed) {
+            taskReminderRepository.delete(transaction, TaskReminder.id(sessionId, taskId));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> speakers(DocumentSnapshot session) {
+        Object speakers = session.get("speakers");
+        return speakers instanceof List<?> ? (List<String>) speakers : List.of();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> embedded(DocumentSnapshot session, String field) {
+        Object items = session.get(field);
+        if (!(items instanceof List<?> list)) {
+            return List.of();
+        }
+        List<Map<String, Object>> maps = new ArrayList<>();
+        for (Object item : list) {
+            if (item instanceof Map<?, ?> map) {
+                maps.add((Map<String, Object>) map);
+            }
+        }
+        return maps;
+    }
+
+    private static DocumentReference itemReference(CollectionReference collection, Object id) {
+        return id instanceof String value && !value.isBlank() ? collection.document(value) : collection.document();
+    }
+
+    private static String string(Map<String, Object> item, String key) {
+        return item.get(key) instanceof String value ? value : null;
+    }
+
+    private CollectionReference tasks(String sessionId) {
+        return firestore.collection(FirestoreCollections.SESSIONS).document(sessionId)
+                .collection(FirestoreCollections.SESSION_TASKS);
+    }
+
+    private CollectionReference resources(String sessionId) {
+        return firestore.collection(FirestoreCollections.SESSIONS).document(sessionId)
+                .collection(FirestoreCollections.SESSION_RESOURCES);
+    }
+
+    public record SessionTask(String sessionId, Task task) {
+    }
+
+    private record TaskUpdate(boolean applied, Task task) {
+
+        static final TaskUpdate NONE = new TaskUpdate(false, null);
+    }
+
+    @FunctionalInterface
+    private interface TaskChange {
+        TaskUpdate apply(Transaction transaction, Task previous) throws Exception;
+    }
+}
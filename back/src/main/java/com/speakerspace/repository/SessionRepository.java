@@ -0,0 +1,206 @@
+package com.speakerspace.repository;
+
+import com.google.cloud.firestore.CollectionReference;
+import com.google.cloud.firestore.DocumentReference;
+import com.google.cloud.firestore.DocumentSnapshot;
+import com.google.cloud.firestore.FieldMask;
+import com.google.cloud.firestore.FieldPath;
+import com.google.cloud.firestore.Firestore;
+import com.google.cloud.firestore.Query;
+import com.speakerspace.dto.SessionSummary;
+import com.speakerspace.model.DashboardEvent;
+import com.speakerspace.model.Session;
+import com.speakerspace.model.SpeakerDashboard;
+import com.speakerspace.model.Task;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import static com.speakerspace.repository.FirestoreFutures.toCompletableFuture;
+
+@Repository
+public class SessionRepository {
+
+    private static final String COLLECTION_NAME = FirestoreCollections.SESSIONS;
+
+    static final String[] SUMMARY_FIELDS = {"title", "startDate", "endDate", "location", "event", "speakers"};
+
+    private static final FieldProjection FIELDS = FieldProjection.of("idSession",
+                    "title", "description", "startDate", "endDate", "location", "openfeedbackLink", "event", "speakers");
+
+    @Autowired
+    private Firestore firestore;
+
+    @Autowired
+    private FirestoreMetrics firestoreMetrics;
+
+    @Autowired
+    private SpeakerDashboardRepository speakerDashboardRepository;
+
+    @Autowired
+    private SessionItemRepository sessionItemRepository;
+
+    public CompletableFuture<Versioned<Session>> findVersionedById(String sessionId) {
+        return firestoreMetrics.record(COLLECTION_NAME, "get",
+                () -> toCompletableFuture(sessions().document(sessionId).get()))
+                .thenApply(snapshot -> Versioned.of(snapshot, Session.class));
+    }
+
+    public CompletableFuture<Versioned<Map<String, Object>>> findFieldsById(String sessionId, Collection<String> fields) {
+        FieldMask mask = FIELDS.mask(fields);
+        return firestoreMetrics.record(COLLECTION_NAME, "get",
+                () -> toCompletableFuture(sessions().document(sessionId).get(mask)))
+                .thenApply(snapshot -> snapshot.exists()
+                        ? new Versioned<>(FIELDS.read(snapshot, fields), Versioned.toInstant(snapshot.getUpdateTime()))
+                        : new Versioned<>(null, null));
+    }
+
+    public CompletableFuture<Page<SessionSummary>> findByEvent(String eventId, int pageSize, String pageToken) {
+        return findPageByEvent(eventId, SUMMARY_FIELDS, pageSize, pageToken, SessionRepository::toSummary);
+    }
+
+    public CompletableFuture<Page<Map<String, Object>>> findFieldsByEvent(String eventId, Collection<String> fields,
+                                                                         int pageSize, String pageToken) {
+        return findPageByEvent(eventId, FIELDS.storedNames(fields, "startDate"), pageSize, pageToken,
+                document -> FIELDS.read(document, fields));
+    }
+
+    public CompletableFuture<List<SessionSummary>> findAllByEvent(String eventId) {
+        Query query = sessions().whereEqualTo("event", eventId).select(SUMMARY_FIELDS);
+
+        return firestoreMetrics.record(COLLECTION_NAME, "list", () -> toCompletableFuture(query.get()))
+                .thenApply(snapshot -> snapshot.getDocuments().stream().map(SessionRepository::toSummary).toList());
+    }
+
+    private <T> CompletableFuture<Page<T>> findPageByEvent(String eventId, String[] fields, int pageSize,
+                                                           String pageToken, Function<DocumentSnapshot, T> mapper) {
+        Query query = sessions()
+                .whereEqualTo("event", eventId)
+                .orderBy("startDate")
+                .orderBy(FieldPath.documentId())
+                .select(fields)
+                .limit(pageSize + 1);
+        Query page = pageToken == null ? query : query.startAfter(PageCursor.decode(pageToken, 2).toArray());
+
+        return firestoreMetrics.record(COLLECTION_NAME, "list", () -> toCompletableFuture(page.get()))
+                .thenApply(snapshot -> Page.of(snapshot.getDocuments(), pageSize, mapper,
+                        document -> PageCursor.of(document.getTimestamp("startDate"), document.getId())));
+    }
+
+    @SuppressWarnings("unchecked")
+    static SessionSummary toSummary(DocumentSnapshot snapshot) {
+        return new SessionSummary(
+                snapshot.getId(),
+                snapshot.getString("title"),
+                snapshot.getTimestamp("startDate"),
+                snapshot.getTimestamp("endDate"),
+                snapshot.getString("location"),
+                snapshot.getString("event"),
+                (List<String>) snapshot.get("speakers"));
+    }
+
+    public CompletableFuture<Session> save(Session session) {
+        DocumentReference sessionReference = session.getIdSession() != null
+                ? sessions().document(session.getIdSession())
+                : sessions().document();
+        session.setIdSession(sessionReference.getId());
+
+        return firestoreMetrics.record(COLLECTION_NAME, "save",
+                () -> toCompletableFuture(firestore.runTransaction(transaction -> {
+                    DocumentSnapshot previousSnapshot = transaction.get(sessionReference).get();
+                    Session previous = previousSnapshot.toObject(Session.class);
+                    Map<DocumentReference, SpeakerDashboard> dashboards =
+                            speakerDashboardRepository.readForUpdate(transaction, speakers(previous, session));
+                    DashboardEvent event = speakerDashboardRepository.readEvent(transaction, session.getEvent());
+                    List<Task> tasks = sessionItemRepository.readTasks(transaction, sessionReference.getId());
+
+                    tasks.addAll(sessionItemRepository.moveEmbeddedItems(transaction, previousSnapshot));
+                    transaction.set(sessionReference, session);
+                    dashboards.forEach((reference, dashboard) -> {
+                        dashboard.applySession(sessionReference.getId(), session, tasks, event);
+                        transaction.set(reference, dashboard);
+                    });
+                    return session;
+                })));
+    }
+
+    public CompletableFuture<Page<String>> findIds(int pageSize, String pageToken) {
+        Query query = sessions().orderBy(FieldPath.documentId()).select(FieldPath.documentId()).limit(pageSize + 1);
+        Query page = pageToken == null ? query : query.startAfter(PageCursor.decode(pageToken, 1).toArray());
+
+        return firestoreMetrics.record(COLLECTION_NAME, "list", () -> toCompletableFuture(page.get()))
+                .thenApply(snapshot -> Page.of(snapshot.getDocuments(), pageSize, DocumentSnapshot::getId,
+                        document -> PageCursor.of(document.getId())));
+    }
+
+    public CompletableFuture<Boolean> refreshDashboards(String sessionId) {
+        DocumentReference sessionReference = sessions().document(sessionId);
+
+        return firestoreMetrics.record(COLLECTION_NAME, "refreshDashboards",
+                () -> toCompletableFuture(firestore.runTransaction(transaction -> {
+                    DocumentSnapshot snapshot = transaction.get(sessionReference).get();
+                    Session session = snapshot.toObject(Session.class);
+                    if (session == null) {
+                        return false;
+                    }
+                    Map<DocumentReference, SpeakerDashboard> dashboards =
+                            speakerDashboardRepository.readForUpdate(transaction, speakers(session, null));
+                    DashboardEvent event = speakerDashboardRepository.readEvent(transaction, session.getEvent());
+                    List<Task> tasks = sessionItemRepository.readTasks(transaction, sessionId);
+
+                    if (SessionItemRepository.hasEmbeddedItems(snapshot)) {
+                        sessionItemRepository.migrateInline(transaction, snapshot, tasks);
+                    }
+                    dashboards.forEach((reference, dashboard) -> {
+                        dashboard.applySession(sessionId, session, tasks, event);
+                        transaction.set(reference, dashboard);
+                    });
+                    return true;
+                })));
+    }
+
+    public CompletableFuture<Boolean> delete(String sessionId) {
+        DocumentReference sessionReference = sessions().document(sessionId);
+
+        return firestoreMetrics.record(COLLECTION_NAME, "delete",
+                () -> toCompletableFuture(firestore.runTransaction(transaction -> {
+                    Session previous = transaction.get(sessionReference).get().toObject(Session.class);
+                    if (previous == null) {
+                        return false;
+                    }
+                    Map<DocumentReference, SpeakerDashboard> dashboards =
+                            speakerDashboardRepository.readForUpdate(transaction, speakers(previous, null));
+                    List<DocumentReference> items = sessionItemRepository.readItemReferences(transaction, sessionId);
+
+                    items.forEach(transaction::delete);
+                    transaction.delete(sessionReference);
+                    dashboards.forEach((reference, dashboard) -> {
+                        dashboard.applySession(sessionId, null, List.of(), null);
+                        transaction.set(reference, dashboard);
+                    });
+                    return true;
+                })));
+    }
+
+    private static Set<String> speakers(Session previous, Session current) {
+        Set<String> speakers = new LinkedHashSet<>();
+        if (previous != null && previous.getSpeakers() != null) {
+            speakers.addAll(previous.getSpeakers());
+        }
+        if (current != null && current.getSpeakers() != null) {
+            speakers.addAll(current.getSpeakers());
+        }
+        return speakers;
+    }
+
+    private CollectionReference sessions() {
+        return firestore.collection(COLLECTION_NAME);
+    }
+}
@@ -0,0 +1,138 @@
+package com.speakerspace.repository;
+
+import com.google.cloud.firestore.DocumentReference;
+import com.google.cloud.firestore.DocumentSnapshot;
+import com.google.cloud.firestore.FieldPath;
+import com.google.cloud.firestore.FieldValue;
+import com.google.cloud.firestore.Firestore;
+import com.google.cloud.firestore.Query;
+import com.google.cloud.firestore.QueryDocumentSnapshot;
+import com.google.cloud.firestore.SetOptions;
+import com.google.cloud.firestore.Transaction;
+import com.speakerspace.model.DashboardEvent;
+import com.speakerspace.model.DashboardTask;
+import com.speakerspace.model.SpeakerDashboard;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static com.speakerspace.repository.FirestoreFutures.toCompletableFuture;
+
+@Repository
+public class SpeakerDashboardRepository {
+
+    private static final String COLLECTION_NAME = FirestoreCollections.SPEAKER_DASHBOARDS;
+
+    @Autowired
+    private Firestore firestore;
+
+    @Autowired
+    private FirestoreMetrics firestoreMetrics;
+
+    public CompletableFuture<Versioned<SpeakerDashboard>> findVersionedByUid(String uid) {
+        return firestoreMetrics.record(COLLECTION_NAME, "get", () -> toCompletableFuture(dashboardReference(uid).get()))
+                .thenApply(snapshot -> snapshot.exists()
+                        ? Versioned.of(snapshot, SpeakerDashboard.class)
+                        : new Versioned<>(new SpeakerDashboard(uid), null));
+    }
+
+    Map<DocumentReference, SpeakerDashboard> readForUpdate(Transaction transaction, Collection<String> uids)
+            throws ExecutionException, InterruptedException {
+        DocumentReference[] references = uids.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .map(this::dashboardReference)
+                .toArray(DocumentReference[]::new);
+
+        Map<DocumentReference, SpeakerDashboard> dashboards = new LinkedHashMap<>();
+        if (references.length == 0) {
+            return dashboards;
+        }
+
+        List<DocumentSnapshot> snapshots = transaction.getAll(references).get();
+        for (DocumentSnapshot snapshot : snapshots) {
+            SpeakerDashboard dashboard = snapshot.exists()
+                    ? snapshot.toObject(SpeakerDashboard.class)
+                    : new SpeakerDashboard(snapshot.getId());
+            dashboards.put(snapshot.getReference(), dashboard);
+        }
+        return dashboards;
+    }
+
+    void mergeOpenTasks(Transaction transaction, Collection<String> uids, String sessionId, List<DashboardTask> openTasks) {
+        Object value = openTasks.isEmpty() ? FieldValue.delete() : openTasks;
+        uids.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .forEach(uid -> transaction.set(dashboardReference(uid),
+                        Map.of("openTasks", Map.of(sessionId, value)), SetOptions.merge()));
+    }
+
+    void replaceOpenTask(Transaction transaction, Collection<String> uids, String sessionId, DashboardTask previous,
+                         DashboardTask current) {
+        if (Objects.equals(previous, current)) {
+            return;
+        }
+        uids.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .forEach(uid -> {
+                    if (previous != null) {
+                        transaction.set(dashboardReference(uid),
+                                Map.of("openTasks", Map.of(sessionId, FieldValue.arrayRemove(previous))), SetOptions.merge());
+                    }
+                    if (current != null) {
+                        transaction.set(dashboardReference(uid),
+                                Map.of("openTasks", Map.of(sessionId, FieldValue.arrayUnion(current))), SetOptions.merge());
+                    }
+                });
+    }
+
+    public CompletableFuture<Integer> refreshEvent(String eventId, DocumentSnapshot event) {
+        FieldPath field = FieldPath.of("events", eventId);
+        DashboardEvent current = toDashboardEvent(event);
+        Query referencing = firestore.collection(COLLECTION_NAME).orderBy(field);
+
+        return firestoreMetrics.record(COLLECTION_NAME, "refreshEvent",
+                () -> toCompletableFuture(firestore.runTransaction(transaction -> {
+                    int updated = 0;
+                    for (QueryDocumentSnapshot dashboard : transaction.get(referencing).get().getDocuments()) {
+                        if (current == null) {
+                            transaction.update(dashboard.getReference(), field, FieldValue.delete());
+                        } else if (!current.equals(dashboard.get(field, DashboardEvent.class))) {
+                            transaction.update(dashboard.getReference(), field, current);
+                        } else {
+                            continue;
+                        }
+                        updated++;
+                    }
+                    return updated;
+                })));
+    }
+
+    DashboardEvent readEvent(Transaction transaction, String eventId) throws ExecutionException, InterruptedException {
+        if (eventId == null) {
+            return null;
+        }
+        return toDashboardEvent(transaction.get(firestore.collection(FirestoreCollections.EVENTS).document(eventId)).get());
+    }
+
+    static DashboardEvent toDashboardEvent(DocumentSnapshot snapshot) {
+        if (snapshot == null || !snapshot.exists()) {
+            return null;
+        }
+        return new DashboardEvent(snapshot.getString("eventName"), snapshot.getTimestamp("startDate"),
+                snapshot.getTimestamp("endDate"), snapshot.getString("city"));
+    }
+
+    private DocumentReference dashboardReference(String uid) {
+        return firestore.collection(COLLECTION_NAME).document(uid);
+    }
+}
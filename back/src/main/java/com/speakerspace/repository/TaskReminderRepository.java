@@ -0,0 +1,86 @@
+package com.speakerspace.repository;
+
+import com.google.cloud.firestore.CollectionReference;
+import com.google.cloud.firestore.DocumentReference;
+import com.google.cloud.firestore.DocumentSnapshot;
+import com.google.cloud.firestore.EventListener;
+import com.google.cloud.firestore.FieldMask;
+import com.google.cloud.firestore.Firestore;
+import com.google.cloud.firestore.ListenerRegistration;
+import com.google.cloud.firestore.QuerySnapshot;
+import com.google.cloud.firestore.Transaction;
+import com.google.cloud.firestore.WriteBatch;
+import com.speakerspace.model.TaskReminder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import static com.speakerspace.repository.FirestoreFutures.toCompletableFuture;
+
+@Repository
+public class TaskReminderRepository {
+
+    private static final String COLLECTION_NAME = FirestoreCollections.TASK_REMINDERS;
+
+    @Autowired
+    private Firestore firestore;
+
+    @Autowired
+    private FirestoreMetrics firestoreMetrics;
+
+    public void set(Transaction transaction, TaskReminder reminder) {
+        transaction.set(reminders().document(reminder.getId()), reminder);
+    }
+
+    public void delete(Transaction transaction, String reminderId) {
+        transaction.delete(reminders().document(reminderId));
+    }
+
+    public CompletableFuture<Set<String>> findExistingIds(Collection<String> reminderIds) {
+        if (reminderIds.isEmpty()) {
+            return CompletableFuture.completedFuture(Set.of());
+        }
+
+        DocumentReference[] references = reminderIds.stream()
+                .map(reminderId -> reminders().document(reminderId))
+                .toArray(DocumentReference[]::new);
+        return firestoreMetrics.record(COLLECTION_NAME, "getAll",
+                () -> toCompletableFuture(firestore.getAll(references, FieldMask.of())))
+                .thenApply(snapshots -> snapshots.stream()
+                        .filter(DocumentSnapshot::exists)
+                        .map(DocumentSnapshot::getId)
+                        .collect(Collectors.toSet()));
+    }
+
+    public CompletableFuture<Void> apply(Collection<TaskReminder> updated, Collection<String> deleted) {
+        if (updated.isEmpty() && deleted.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        WriteBatch batch = firestore.batch();
+        updated.forEach(reminder -> batch.set(reminders().document(reminder.getId()), reminder));
+        deleted.forEach(reminderId -> batch.delete(reminders().document(reminderId)));
+        return firestoreMetrics.record(COLLECTION_NAME, "batch", () -> toCompletableFuture(batch.commit()))
+                .thenApply(writeResults -> null);
+    }
+
+    public CompletableFuture<Void> deleteBySession(String sessionId) {
+        return firestoreMetrics.record(COLLECTION_NAME, "list",
+                () -> toCompletableFuture(reminders().whereEqualTo("sessionId", sessionId).select().get()))
+                .thenCompose(snapshot -> apply(List.of(),
+                        snapshot.getDocuments().stream().map(DocumentSnapshot::getId).toList()));
+    }
+
+    public ListenerRegistration listen(EventListener<QuerySnapshot> listener) {
+        return reminders().addSnapshotListener(listener);
+    }
+
+    private CollectionReference reminders() {
+        return firestore.collection(COLLECTION_NAME);
+    }
+}
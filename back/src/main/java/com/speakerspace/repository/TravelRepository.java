@@ -0,0 +1,129 @@
+package com.speakerspace.repository;
+
+import com.google.cloud.firestore.CollectionReference;
+import com.google.cloud.firestore.DocumentReference;
+import com.google.cloud.firestore.DocumentSnapshot;
+import com.google.cloud.firestore.FieldPath;
+import com.google.cloud.firestore.Firestore;
+import com.google.cloud.firestore.Query;
+import com.speakerspace.model.DashboardEvent;
+import com.speakerspace.model.SpeakerDashboard;
+import com.speakerspace.model.Travel;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static com.speakerspace.repository.FirestoreFutures.toCompletableFuture;
+
+@Repository
+public class TravelRepository {
+
+    private static final String COLLECTION_NAME = FirestoreCollections.TRAVELS;
+
+    @Autowired
+    private Firestore firestore;
+
+    @Autowired
+    private FirestoreMetrics firestoreMetrics;
+
+    @Autowired
+    private SpeakerDashboardRepository speakerDashboardRepository;
+
+    public CompletableFuture<Travel> findById(String travelId) {
+        return firestoreMetrics.record(COLLECTION_NAME, "get",
+                () -> toCompletableFuture(travels().document(travelId).get()))
+                .thenApply(snapshot -> snapshot.toObject(Travel.class));
+    }
+
+    public CompletableFuture<Travel> save(Travel travel) {
+        DocumentReference travelReference = travel.getIdTravel() != null
+                ? travels().document(travel.getIdTravel())
+                : travels().document();
+        travel.setIdTravel(travelReference.getId());
+
+        return firestoreMetrics.record(COLLECTION_NAME, "save",
+                () -> toCompletableFuture(firestore.runTransaction(transaction -> {
+                    Travel previous = transaction.get(travelReference).get().toObject(Travel.class);
+                    Map<DocumentReference, SpeakerDashboard> dashboards =
+                            speakerDashboardRepository.readForUpdate(transaction, travellers(previous, travel));
+                    DashboardEvent event = speakerDashboardRepository.readEvent(transaction, travel.getEventId());
+
+                    transaction.set(travelReference, travel);
+                    dashboards.forEach((reference, dashboard) -> {
+                        dashboard.applyTravel(travelReference.getId(), travel, event);
+                        transaction.set(reference, dashboard);
+                    });
+                    return travel;
+                })));
+    }
+
+    public CompletableFuture<Page<String>> findIds(int pageSize, String pageToken) {
+        Query query = travels().orderBy(FieldPath.documentId()).select(FieldPath.documentId()).limit(pageSize + 1);
+        Query page = pageToken == null ? query : query.startAfter(PageCursor.decode(pageToken, 1).toArray());
+
+        return firestoreMetrics.record(COLLECTION_NAME, "list", () -> toCompletableFuture(page.get()))
+                .thenApply(snapshot -> Page.of(snapshot.getDocuments(), pageSize, DocumentSnapshot::getId,
+                        document -> PageCursor.of(document.getId())));
+    }
+
+    public CompletableFuture<Boolean> refreshDashboards(String travelId) {
+        DocumentReference travelReference = travels().document(travelId);
+
+        return firestoreMetrics.record(COLLECTION_NAME, "refreshDashboards",
+                () -> toCompletableFuture(firestore.runTransaction(transaction -> {
+                    Travel travel = transaction.get(travelReference).get().toObject(Travel.class);
+                    if (travel == null) {
+                        return false;
+                    }
+                    Map<DocumentReference, SpeakerDashboard> dashboards =
+                            speakerDashboardRepository.readForUpdate(transaction, travellers(travel, null));
+                    DashboardEvent event = speakerDashboardRepository.readEvent(transaction, travel.getEventId());
+
+                    dashboards.forEach((reference, dashboard) -> {
+                        dashboard.applyTravel(travelId, travel, event);
+                        transaction.set(reference, dashboard);
+                    });
+                    return true;
+                })));
+    }
+
+    public CompletableFuture<Boolean> delete(String travelId) {
+        DocumentReference travelReference = travels().document(travelId);
+
+        return firestoreMetrics.record(COLLECTION_NAME, "delete",
+                () -> toCompletableFuture(firestore.runTransaction(transaction -> {
+                    Travel previous = transaction.get(travelReference).get().toObject(Travel.class);
+                    if (previous == null) {
+                        return false;
+                    }
+                    Map<DocumentReference, SpeakerDashboard> dashboards =
+                            speakerDashboardRepository.readForUpdate(transaction, travellers(previous, null));
+
+                    transaction.delete(travelReference);
+                    dashboards.forEach((reference, dashboard) -> {
+                        dashboard.applyTravel(travelId, null, null);
+                        transaction.set(reference, dashboard);
+                    });
+                    return true;
+                })));
+    }
+
+    private static Set<String> travellers(Travel previous, Travel current) {
+        Set<String> travellers = new LinkedHashSet<>();
+        if (previous != null && previous.getUserId() != null) {
+            travellers.add(previous.getUserId());
+        }
+        if (current != null && current.getUserId() != null) {
+            travellers.add(current.getUserId());
+        }
+        return travellers;
+    }
+
+    private CollectionReference travels() {
+        return firestore.collection(COLLECTION_NAME);
+    }
+}
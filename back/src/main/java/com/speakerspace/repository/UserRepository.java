@@ -0,0 +1,118 @@
+package com.speakerspace.repository;
+
+import com.google.cloud.firestore.BulkWriter;
+import com.google.cloud.firestore.BulkWriterOptions;
+import com.google.cloud.firestore.CollectionReference;
+import com.google.cloud.firestore.FieldPath;
+import com.google.cloud.firestore.Firestore;
+import com.google.cloud.firestore.Query;
+import com.speakerspace.model.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static com.speakerspace.repository.FirestoreFutures.toCompletableFuture;
+
+@Repository
+public class UserRepository {
+
+    private static final String COLLECTION_NAME = FirestoreCollections.USERS;
+
+    private static final int MAX_UID_BYTES = 1500;
+
+    static final String[] LIST_FIELDS = {"uid", "email", "displayName", "photoURL"};
+
+    @Autowired
+    private Firestore firestore;
+
+    @Autowired
+    private FirestoreMetrics firestoreMetrics;
+
+    @Value("${users.import.max-ops-per-second:500}")
+    private int bulkMaxOpsPerSecond;
+
+    public CompletableFuture<User> findByUid(String uid) {
+        return findVersionedByUid(uid).thenApply(Versioned::value);
+    }
+
+    public CompletableFuture<Versioned<User>> findVersionedByUid(String uid) {
+        return firestoreMetrics.record(COLLECTION_NAME, "get", () -> toCompletableFuture(users().document(uid).get()))
+                .thenApply(snapshot -> Versioned.of(snapshot, User.class));
+    }
+
+    public CompletableFuture<Page<User>> findAll(int pageSize, String pageToken) {
+        Query query = users()
+                .orderBy(FieldPath.documentId())
+                .select(LIST_FIELDS)
+                .limit(pageSize + 1);
+        Query page = pageToken == null ? query : query.startAfter(PageCursor.decode(pageToken, 1).toArray());
+
+        return firestoreMetrics.record(COLLECTION_NAME, "list", () -> toCompletableFuture(page.get()))
+                .thenApply(snapshot -> Page.of(snapshot.getDocuments(), pageSize,
+                        document -> document.toObject(User.class),
+                        document -> PageCursor.of(document.getId())));
+    }
+
+    public CompletableFuture<User> save(User user) {
+        return firestoreMetrics.record(COLLECTION_NAME, "set",
+                () -> toCompletableFuture(users().document(user.getUid()).set(user)))
+                .thenApply(writeResult -> user);
+    }
+
+    public CompletableFuture<User> create(User user) {
+        return firestoreMetrics.record(COLLECTION_NAME, "create",
+                () -> toCompletableFuture(users().document(user.getUid()).create(user)))
+                .thenApply(writeResult -> user);
+    }
+
+    public List<CompletableFuture<User>> saveAll(List<User> users) {
+        BulkWriter bulkWriter = firestore.bulkWriter(BulkWriterOptions.builder()
+                .setInitialOpsPerSecond(Math.min(bulkMaxOpsPerSecond, users.size()))
+                .setMaxOpsPerSecond(bulkMaxOpsPerSecond)
+                .build());
+
+        List<CompletableFuture<User>> results = new ArrayList<>(users.size());
+        try {
+            for (User user : users) {
+                results.add(bulkSet(bulkWriter, user));
+            }
+        } finally {
+            try {
+                bulkWriter.close();
+            } catch (InterruptedException | ExecutionException e) {
+                throw new RuntimeException("Failed to flush bulk user write", e);
+            }
+        }
+        return results;
+    }
+
+    public static boolean isValidUid(String uid) {
+        return uid != null
+                && !uid.isBlank()
+                && !uid.contains("/")
+                && !uid.equals(".")
+                && !uid.equals("..")
+                && !(uid.startsWith("__") && uid.endsWith("__"))
+                && uid.getBytes(StandardCharsets.UTF_8).length <= MAX_UID_BYTES;
+    }
+
+    private CompletableFuture<User> bulkSet(BulkWriter bulkWriter, User user) {
+        try {
+            return firestoreMetrics.record(COLLECTION_NAME, "bulkSet",
+                            () -> toCompletableFuture(bulkWriter.set(users().document(user.getUid()), user)))
+                    .thenApply(writeResult -> user);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private CollectionReference users() {
+        return firestore.collection(COLLECTION_NAME);
+    }
+}
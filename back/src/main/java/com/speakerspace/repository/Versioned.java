@@ -0,0 +1,17 @@
+package com.speakerspace.repository;
+
+import com.google.cloud.Timestamp;
+import com.google.cloud.firestore.DocumentSnapshot;
+
+import java.time.Instant;
+
+public record Versioned<T>(T value, Instant updateTime) {
+
+    public static <T> Versioned<T> of(DocumentSnapshot snapshot, Class<T> type) {
+        return new Versioned<>(snapshot.toObject(type), toInstant(snapshot.getUpdateTime()));
+    }
+
+    public static Instant toInstant(Timestamp timestamp) {
+        return timestamp == null ? null : Instant.ofEpochSecond(timestamp.getSeconds(), timestamp.getNanos());
+    }
+}
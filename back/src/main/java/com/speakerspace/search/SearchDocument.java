@@ -0,0 +1,19 @@
+package com.speakerspace.search;
+
+import java.util.List;
+
+public record SearchDocument(Type type, String id, String eventId, String title, List<Field> fields) {
+
+    public enum Type {
+        EVENT,
+        SESSION,
+        FAQ
+    }
+
+    public record Field(String text, float boost) {
+    }
+
+    String key() {
+        return type + ":" + id;
+    }
+}
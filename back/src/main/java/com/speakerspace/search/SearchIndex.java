@@ -0,0 +1,238 @@
+package com.speakerspace.search;
+
+import com.speakerspace.dto.SearchHit;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Component
+public class SearchIndex implements MeterBinder {
+
+    static final String SEARCH_TIMER = "search.query";
+
+    static final float EXACT_WEIGHT = 1.0f;
+    static final float PREFIX_WEIGHT = 0.7f;
+    static final float TYPO_WEIGHT = 0.5f;
+
+    private static final int MAX_QUERY_TOKENS = 8;
+    private static final int MAX_EXPANSIONS = 64;
+
+    private final NavigableMap<String, Map<String, Float>> postings = new TreeMap<>();
+    private final Map<String, Indexed> documents = new HashMap<>();
+    private final Map<String, List<String>> keysBySource = new HashMap<>();
+    private final Set<String> hiddenEvents = new HashSet<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Timer searchTimer;
+
+    public void replace(String source, List<SearchDocument> sourceDocuments) {
+        lock.writeLock().lock();
+        try {
+            removeSource(source);
+            List<String> keys = new ArrayList<>(sourceDocuments.size());
+            for (SearchDocument document : sourceDocuments) {
+                keys.add(document.key());
+                add(document);
+            }
+            if (!keys.isEmpty()) {
+                keysBySource.put(source, keys);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String source) {
+        replace(source, List.of());
+    }
+
+    public void setEventHidden(String eventId, boolean hidden) {
+        lock.writeLock().lock();
+        try {
+            if (hidden) {
+                hiddenEvents.add(eventId);
+            } else {
+                hiddenEvents.remove(eventId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear(String sourcePrefix) {
+        lock.writeLock().lock();
+        try {
+            for (String source : new ArrayList<>(keysBySource.keySet())) {
+                if (source.startsWith(sourcePrefix)) {
+                    removeSource(source);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<SearchHit> search(String query, Set<SearchDocument.Type> types, int limit) {
+        Timer.Sample sample = searchTimer == null ? null : Timer.start();
+        lock.readLock().lock();
+        try {
+            return topHits(score(query), types, limit);
+        } finally {
+            lock.readLock().unlock();
+            if (sample != null) {
+                sample.stop(searchTimer);
+            }
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("search.documents", this, SearchIndex::size)
+                .description("Documents held by the in-memory search index")
+                .register(registry);
+        searchTimer = Timer.builder(SEARCH_TIMER)
+                .description("Latency of in-memory search queries")
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private Map<String, Float> score(String query) {
+        Set<String> tokens = new LinkedHashSet<>(TextAnalyzer.tokens(query));
+        if (tokens.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, Float> scores = null;
+        Iterator<String> iterator = tokens.stream().limit(MAX_QUERY_TOKENS).iterator();
+        while (iterator.hasNext()) {
+            Map<String, Float> tokenScores = new HashMap<>();
+            expand(iterator.next()).forEach((term, weight) -> postings.get(term).forEach((key, termWeight) ->
+                    tokenScores.merge(key, weight * termWeight, Math::max)));
+
+            if (scores == null) {
+                scores = tokenScores;
+            } else {
+                scores.keySet().retainAll(tokenScores.keySet());
+                scores.replaceAll((key, score) -> score + tokenScores.get(key));
+            }
+            if (scores.isEmpty()) {
+                break;
+            }
+        }
+        return scores;
+    }
+
+    private Map<String, Float> expand(String token) {
+        Map<String, Float> terms = new HashMap<>();
+        if (postings.containsKey(token)) {
+            terms.put(token, EXACT_WEIGHT);
+        }
+
+        int expansions = 0;
+        for (String term : postings.subMap(token, false, token + Character.MAX_VALUE, false).keySet()) {
+            if (++expansions > MAX_EXPANSIONS) {
+                break;
+            }
+            terms.putIfAbsent(term, PREFIX_WEIGHT);
+        }
+
+        int maxEdits = TextAnalyzer.maxEdits(token);
+        if (maxEdits > 0) {
+            String first = token.substring(0, 1);
+            for (String term : postings.subMap(first, true, first + Character.MAX_VALUE, false).keySet()) {
+                if (terms.containsKey(term) || Math.abs(term.length() - token.length()) > maxEdits) {
+                    continue;
+                }
+                int distance = TextAnalyzer.distance(token, term, maxEdits);
+                if (distance <= maxEdits) {
+                    terms.put(term, TYPO_WEIGHT / distance);
+                }
+            }
+        }
+        return terms;
+    }
+
+    private List<SearchHit> topHits(Map<String, Float> scores, Set<SearchDocument.Type> types, int limit) {
+        Comparator<SearchHit> ranking = Comparator.comparingDouble(SearchHit::score)
+                .thenComparing(SearchHit::title, Comparator.nullsFirst(Comparator.reverseOrder()));
+        PriorityQueue<SearchHit> top = new PriorityQueue<>(ranking);
+        scores.forEach((key, score) -> {
+            SearchDocument document = documents.get(key).document();
+            if (!types.isEmpty() && !types.contains(document.type())
+                    || document.eventId() != null && hiddenEvents.contains(document.eventId())) {
+                return;
+            }
+            top.add(new SearchHit(document.type().name().toLowerCase(Locale.ROOT), document.id(), document.eventId(),
+                    document.title(), score));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        });
+
+        List<SearchHit> hits = new ArrayList<>(top);
+        hits.sort(ranking.reversed());
+        return hits;
+    }
+
+    private void add(SearchDocument document) {
+        String key = document.key();
+        Map<String, Float> weights = new HashMap<>();
+        for (SearchDocument.Field field : document.fields()) {
+            for (String token : TextAnalyzer.tokens(field.text())) {
+                weights.merge(token, field.boost(), Float::sum);
+            }
+        }
+        weights.forEach((term, weight) -> postings.computeIfAbsent(term, ignored -> new HashMap<>())
+                .put(key, weight));
+        documents.put(key, new Indexed(document, weights.keySet()));
+    }
+
+    private void removeSource(String source) {
+        List<String> keys = keysBySource.remove(source);
+        if (keys == null) {
+            return;
+        }
+        for (String key : keys) {
+            Indexed indexed = documents.remove(key);
+            if (indexed == null) {
+                continue;
+            }
+            for (String term : indexed.terms()) {
+                Map<String, Float> posting = postings.get(term);
+                posting.remove(key);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private record Indexed(SearchDocument document, Set<String> terms) {
+    }
+}
@@ -0,0 +1,118 @@
+package com.speakerspace.search;
+
+import com.google.cloud.firestore.DocumentSnapshot;
+import com.google.cloud.firestore.Firestore;
+import com.google.cloud.firestore.QueryDocumentSnapshot;
+import com.speakerspace.changefeed.ChangeEvent;
+import com.speakerspace.changefeed.ChangeListener;
+import com.speakerspace.repository.FirestoreCollections;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Component
+public class SearchIndexChangeListener implements ChangeListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchIndexChangeListener.class);
+
+    private static final float TITLE_BOOST = 3f;
+    private static final float PLACE_BOOST = 2f;
+    private static final float TEXT_BOOST = 1f;
+
+    @Autowired
+    private SearchIndex searchIndex;
+
+    @Autowired
+    private Firestore firestore;
+
+    @Override
+    public Set<String> collections() {
+        return Set.of(FirestoreCollections.EVENTS, FirestoreCollections.SESSIONS);
+    }
+
+    @Override
+    public void onChange(ChangeEvent event) {
+        String source = source(event.collection(), event.documentId());
+        if (event.type() == ChangeEvent.Type.REMOVED) {
+            searchIndex.remove(source);
+            if (FirestoreCollections.EVENTS.equals(event.collection())) {
+                searchIndex.setEventHidden(event.documentId(), false);
+            }
+            return;
+        }
+        index(event.collection(), event.document());
+    }
+
+    @Override
+    public void onOverflow(String collection) {
+        logger.warn("Search index missed {} changes, reloading the collection", collection);
+        try {
+            List<QueryDocumentSnapshot> documents = firestore.collection(collection).get().get().getDocuments();
+            searchIndex.clear(collection + "/");
+            documents.forEach(document -> index(collection, document));
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            logger.error("Error reloading {} into the search index", collection, e);
+        }
+    }
+
+    private void index(String collection, DocumentSnapshot document) {
+        String source = source(collection, document.getId());
+        switch (collection) {
+            case FirestoreCollections.EVENTS -> {
+                searchIndex.replace(source, eventDocuments(document));
+                searchIndex.setEventHidden(document.getId(), Boolean.TRUE.equals(document.getBoolean("private")));
+            }
+            case FirestoreCollections.SESSIONS -> searchIndex.replace(source, List.of(sessionDocument(document)));
+            default -> {
+            }
+        }
+    }
+
+    static List<SearchDocument> eventDocuments(DocumentSnapshot event) {
+        String eventId = event.getId();
+        String eventName = event.getString("eventName");
+
+        List<SearchDocument> documents = new ArrayList<>();
+        documents.add(new SearchDocument(SearchDocument.Type.EVENT, eventId, eventId, eventName, List.of(
+                new SearchDocument.Field(eventName, TITLE_BOOST),
+                new SearchDocument.Field(event.getString("city"), PLACE_BOOST),
+                new SearchDocument.Field(event.getString("description"), TEXT_BOOST))));
+
+        if (event.get("faq") instanceof List<?> faqs) {
+            for (int i = 0; i < faqs.size(); i++) {
+                if (faqs.get(i) instanceof Map<?, ?> faq) {
+                    String title = text(faq.get("title"));
+                    documents.add(new SearchDocument(SearchDocument.Type.FAQ, eventId + "#" + i, eventId, title,
+                            List.of(new SearchDocument.Field(title, TITLE_BOOST),
+                                    new SearchDocument.Field(text(faq.get("description")), TEXT_BOOST))));
+                }
+            }
+        }
+        return documents;
+    }
+
+    static SearchDocument sessionDocument(DocumentSnapshot session) {
+        String title = session.getString("title");
+        return new SearchDocument(SearchDocument.Type.SESSION, session.getId(), session.getString("event"), title,
+                List.of(new SearchDocument.Field(title, TITLE_BOOST),
+                        new SearchDocument.Field(session.getString("location"), PLACE_BOOST),
+                        new SearchDocument.Field(session.getString("description"), TEXT_BOOST)));
+    }
+
+    private static String source(String collection, String documentId) {
+        return collection + "/" + documentId;
+    }
+
+    private static String text(Object value) {
+        return value instanceof String string ? string : null;
+    }
+}
@@ -0,0 +1,10 @@
+package com.speakerspace.security;
+
+import java.time.Instant;
+
+public record AuthSession(String id, VerifiedIdToken idToken, Instant createdAt, Instant cookieIssuedAt) {
+
+    AuthSession withCookieIssuedAt(Instant issuedAt) {
+        return new AuthSession(id, idToken, createdAt, issuedAt);
+    }
+}
@@ -0,0 +1,20 @@
+package com.speakerspace.security;
+
+import com.google.firebase.auth.FirebaseAuth;
+import com.google.firebase.auth.FirebaseAuthException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "security.token-verifier.mode", havingValue = "firebase")
+public class FirebaseAdminTokenVerifier implements IdTokenVerifier {
+
+    @Autowired
+    private FirebaseAuth firebaseAuth;
+
+    @Override
+    public VerifiedIdToken verifyIdToken(String token) throws FirebaseAuthException {
+        return VerifiedIdToken.from(firebaseAuth.verifyIdToken(token));
+    }
+}
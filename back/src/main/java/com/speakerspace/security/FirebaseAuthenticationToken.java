@@ -0,0 +1,41 @@
+package com.speakerspace.security;
+
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+
+public class FirebaseAuthenticationToken extends AbstractAuthenticationToken {
+
+    private static final String ADMIN_ROLE = "ROLE_ADMIN";
+
+    private final VerifiedIdToken idToken;
+
+    public FirebaseAuthenticationToken(VerifiedIdToken idToken, Collection<? extends GrantedAuthority> authorities) {
+        super(authorities);
+        this.idToken = idToken;
+        setAuthenticated(true);
+    }
+
+    public VerifiedIdToken getIdToken() {
+        return idToken;
+    }
+
+    public String getUid() {
+        return idToken.uid();
+    }
+
+    public boolean isAdmin() {
+        return getAuthorities().stream().anyMatch(authority -> ADMIN_ROLE.equals(authority.getAuthority()));
+    }
+
+    @Override
+    public Object getPrincipal() {
+        return idToken.email();
+    }
+
+    @Override
+    public Object getCredentials() {
+        return null;
+    }
+}
@@ -0,0 +1,135 @@
+package com.speakerspace.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.google.firebase.auth.FirebaseAuthException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class FirebaseTokenCache implements MeterBinder {
+
+    static final String VERIFY_TIMER = "firebase.auth.verify";
+
+    private final IdTokenVerifier idTokenVerifier;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, VerifiedIdToken> cache;
+
+    public FirebaseTokenCache(IdTokenVerifier idTokenVerifier, MeterRegistry meterRegistry,
+                              @Value("${security.token-cache.maximum-size:10000}") long maximumSize) {
+        this.idTokenVerifier = idTokenVerifier;
+        this.meterRegistry = meterRegistry;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+    }
+
+    public VerifiedIdToken verifyIdToken(String token) throws FirebaseAuthException {
+        String key = hash(token);
+
+        VerifiedIdToken cachedToken = cache.getIfPresent(key);
+        if (cachedToken != null) {
+            return cachedToken;
+        }
+
+        VerifiedIdToken decodedToken = verify(token);
+        if (remainingNanos(decodedToken) > 0) {
+            cache.put(key, decodedToken);
+        }
+        return decodedToken;
+    }
+
+    private VerifiedIdToken verify(String token) throws FirebaseAuthException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "valid";
+        try {
+            return idTokenVerifier.verifyIdToken(token);
+        } catch (FirebaseAuthException e) {
+            outcome = e.getAuthErrorCode() != null ? e.getAuthErrorCode().name() : e.getErrorCode().name();
+            throw e;
+        } catch (IllegalArgumentException e) {
+            outcome = "MALFORMED";
+            throw e;
+        } catch (RuntimeException e) {
+            outcome = "ERROR";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(VERIFY_TIMER)
+                    .description("Latency of Firebase ID token verification")
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "firebaseTokens");
+    }
+
+    public void invalidate(String token) {
+        cache.invalidate(hash(token));
+    }
+
+    public long getHitCount() {
+        return cache.stats().hitCount();
+    }
+
+    public long getMissCount() {
+        return cache.stats().missCount();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static long remainingNanos(VerifiedIdToken token) {
+        long expSeconds = token.expiresAtEpochSecond();
+        if (expSeconds <= 0) {
+            return 0;
+        }
+        long remainingMillis = TimeUnit.SECONDS.toMillis(expSeconds) - System.currentTimeMillis();
+        return Math.max(0, TimeUnit.MILLISECONDS.toNanos(remainingMillis));
+    }
+
+    private static class TokenExpiry implements Expiry<String, VerifiedIdToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedIdToken value, long currentTime) {
+            return remainingNanos(value);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedIdToken value, long currentTime, long currentDuration) {
+            return remainingNanos(value);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedIdToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
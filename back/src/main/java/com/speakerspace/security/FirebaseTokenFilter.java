@@ -1,9 +1,8 @@
 package com.speakerspace.security;
 
-import com.google.firebase.auth.FirebaseAuth;
-import com.google.firebase.auth.FirebaseAuthException;
-import com.google.firebase.auth.FirebaseToken;
 import com.speakerspace.config.CookieService;
+import com.speakerspace.config.SampledLogger;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -12,7 +11,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -30,12 +28,26 @@ public class FirebaseTokenFilter extends OncePerRequestFilter {
 
     private static final Logger logger = LoggerFactory.getLogger(FirebaseTokenFilter.class);
 
+    static final String TOKEN_SOURCE_COUNTER = "auth.token.source";
+
     @Autowired
-    private FirebaseAuth firebaseAuth;
+    private FirebaseTokenCache firebaseTokenCache;
 
     @Autowired
     private CookieService cookieService;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private SampledLogger sampledLogger;
+
+    @Autowired
+    private PublicRoutes publicRoutes;
+
+    @Autowired
+    private SessionManager sessionManager;
+
     @Value("${admin.email}")
     private String adminEmail;
 
@@ -43,57 +55,77 @@ public class FirebaseTokenFilter extends OncePerRequestFilter {
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
-        String path = request.getRequestURI();
+        if (publicRoutes.matches(request)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
 
-        if (path.contains("/auth/login") || path.contains("/auth/logout") || path.contains("/public/")) {
+        if (SecurityContextHolder.getContext().getAuthentication() instanceof FirebaseAuthenticationToken) {
             filterChain.doFilter(request, response);
             return;
         }
 
         String authorizationHeader = request.getHeader("Authorization");
         String token = null;
+        String tokenSource = "none";
+        AuthSession session = null;
 
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
             token = authorizationHeader.substring(7);
+            tokenSource = "header";
         }
         else {
-            token = cookieService.getAuthTokenFromCookies(request);
-            if (token != null) {
+            String cookieValue = cookieService.getAuthTokenFromCookies(request);
+            if (sessionManager.isSessionCookie(cookieValue)) {
+                session = sessionManager.resume(cookieValue, response);
+                tokenSource = "session";
+            } else if (cookieValue != null) {
+                token = cookieValue;
+                tokenSource = "cookie";
             }
         }
 
+        meterRegistry.counter(TOKEN_SOURCE_COUNTER, "source", tokenSource).increment();
+
+        if (session != null) {
+            authenticate(request, session.idToken());
+            filterChain.doFilter(request, response);
+            return;
+        }
+
         if (token == null) {
             filterChain.doFilter(request, response);
             return;
         }
 
         try {
-            FirebaseToken decodedToken = firebaseAuth.verifyIdToken(token);
-            String email = decodedToken.getEmail();
-            String uid = decodedToken.getUid();
-
-            List<GrantedAuthority> authorities = new ArrayList<>();
-            authorities.add(new SimpleGrantedAuthority("ROLE_USER"));
-
-            if (email != null && email.equals(adminEmail)) {
-                logger.info("Admin role granted to: {}", email);
-                authorities.add(new SimpleGrantedAuthority("ROLE_ADMIN"));
-            } else {
-                logger.info("User email: {}, Admin email from config: {}", email, adminEmail);
-            }
-
-            UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                    email, null, authorities);
-
-            authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-            SecurityContextHolder.getContext().setAuthentication(authentication);
-
+            authenticate(request, firebaseTokenCache.verifyIdToken(token));
         } catch (Exception e) {
             // Toutes les exceptions (y compris RuntimeException) devraient être capturées ici
             // Nettoyage du contexte de sécurité si nécessaire
+            sampledLogger.warn(logger, "token-rejected", "Rejected Firebase token: {}", e.getClass().getSimpleName());
             SecurityContextHolder.clearContext();
         }
 
         filterChain.doFilter(request, response);
     }
+
+    private void authenticate(HttpServletRequest request, VerifiedIdToken decodedToken) {
+        String email = decodedToken.email();
+
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        authorities.add(new SimpleGrantedAuthority("ROLE_USER"));
+
+        if (email != null && email.equals(adminEmail)) {
+            sampledLogger.info(logger, "admin-role-granted", "Admin role granted");
+            authorities.add(new SimpleGrantedAuthority("ROLE_ADMIN"));
+        } else {
+            sampledLogger.debug(logger, "user-authenticated", "User authenticated");
+        }
+
+        FirebaseAuthenticationToken authentication = new FirebaseAuthenticationToken(decodedToken, authorities);
+
+        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
 }
\ No newline at end of file
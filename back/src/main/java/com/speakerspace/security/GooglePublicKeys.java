@@ -0,0 +1,182 @@
+package com.speakerspace.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Component
+@ConditionalOnProperty(name = "security.token-verifier.mode", havingValue = "local", matchIfMissing = true)
+public class GooglePublicKeys implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(GooglePublicKeys.class);
+    private static final Pattern MAX_AGE = Pattern.compile("max-age=(\\d+)");
+    private static final Duration DEFAULT_MAX_AGE = Duration.ofHours(1);
+
+    private final URI jwksUri;
+    private final Duration refreshAhead;
+    private final Duration minRefreshInterval;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Clock clock;
+    private final Executor refreshExecutor;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    private volatile KeySet keySet = new KeySet(Map.of(), Instant.EPOCH, Instant.EPOCH);
+    private volatile Instant lastAttemptAt = Instant.EPOCH;
+
+    @Autowired
+    public GooglePublicKeys(@Value("${security.token-verifier.jwks-uri:https://www.googleapis.com/service_accounts/v1/jwk/securetoken@system.gserviceaccount.com}") URI jwksUri,
+                            @Value("${security.token-verifier.refresh-ahead:10m}") Duration refreshAhead,
+                            @Value("${security.token-verifier.min-refresh-interval:1m}") Duration minRefreshInterval) {
+        this(jwksUri, refreshAhead, minRefreshInterval, HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build(), Clock.systemUTC(), Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    GooglePublicKeys(URI jwksUri, Duration refreshAhead, Duration minRefreshInterval, HttpClient httpClient,
+                     Clock clock, Executor refreshExecutor) {
+        this.jwksUri = jwksUri;
+        this.refreshAhead = refreshAhead;
+        this.minRefreshInterval = minRefreshInterval;
+        this.httpClient = httpClient;
+        this.clock = clock;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        refreshIfNeeded();
+    }
+
+    public RSAPublicKey get(String keyId) {
+        RSAPublicKey key = keySet.keys().get(keyId);
+        if (key == null && refreshAllowed() && !refreshing.get()) {
+            refreshExecutor.execute(this::refreshQuietly);
+        }
+        return key;
+    }
+
+    public boolean isEmpty() {
+        return keySet.keys().isEmpty();
+    }
+
+    public Instant getExpiresAt() {
+        return keySet.expiresAt();
+    }
+
+    @Scheduled(fixedDelayString = "${security.token-verifier.refresh-check-interval-ms:60000}")
+    public void refreshIfNeeded() {
+        if (keySet.keys().isEmpty() || !clock.instant().isBefore(keySet.expiresAt().minus(refreshAhead))) {
+            refreshQuietly();
+        }
+    }
+
+    private boolean refreshAllowed() {
+        return !clock.instant().isBefore(lastAttemptAt.plus(minRefreshInterval));
+    }
+
+    private void refreshQuietly() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            if (!refreshAllowed()) {
+                return;
+            }
+            lastAttemptAt = clock.instant();
+            refresh();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Interrupted while refreshing Google public keys from {}", jwksUri);
+        } catch (Exception e) {
+            logger.warn("Unable to refresh Google public keys from {}, keeping {} cached keys",
+                    jwksUri, keySet.keys().size(), e);
+        } finally {
+            refreshing.set(false);
+        }
+    }
+
+    private void refresh() throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(jwksUri)
+                .timeout(Duration.ofSeconds(10))
+                .GET()
+                .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IOException("Unexpected status " + response.statusCode() + " fetching " + jwksUri);
+        }
+        load(response.body(), maxAge(response.headers().firstValue("Cache-Control").orElse(null)));
+        logger.info("Loaded {} Google public keys, valid until {}", keySet.keys().size(), keySet.expiresAt());
+    }
+
+    void load(String jwks, Duration maxAge) throws IOException {
+        JsonNode keysNode = objectMapper.readTree(jwks).path("keys");
+        if (!keysNode.isArray() || keysNode.isEmpty()) {
+            throw new IOException("JWKS document does not contain any key");
+        }
+
+        Map<String, RSAPublicKey> keys = new HashMap<>();
+        for (JsonNode keyNode : keysNode) {
+            if (!"RSA".equals(keyNode.path("kty").asText()) || !keyNode.hasNonNull("kid")) {
+                continue;
+            }
+            keys.put(keyNode.get("kid").asText(), toPublicKey(keyNode.path("n").asText(), keyNode.path("e").asText()));
+        }
+
+        Instant now = clock.instant();
+        keySet = new KeySet(Map.copyOf(keys), now.plus(maxAge), now);
+    }
+
+    private static RSAPublicKey toPublicKey(String modulus, String exponent) throws IOException {
+        try {
+            Base64.Decoder decoder = Base64.getUrlDecoder();
+            RSAPublicKeySpec spec = new RSAPublicKeySpec(new BigInteger(1, decoder.decode(modulus)),
+                    new BigInteger(1, decoder.decode(exponent)));
+            return (RSAPublicKey) KeyFactory.getInstance("RSA").generatePublic(spec);
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IOException("Invalid RSA key in JWKS document", e);
+        }
+    }
+
+    static Duration maxAge(String cacheControl) {
+        if (cacheControl != null) {
+            Matcher matcher = MAX_AGE.matcher(cacheControl);
+            if (matcher.find()) {
+                return Duration.ofSeconds(Long.parseLong(matcher.group(1)));
+            }
+        }
+        return DEFAULT_MAX_AGE;
+    }
+
+    private record KeySet(Map<String, RSAPublicKey> keys, Instant expiresAt, Instant fetchedAt) {
+    }
+}
@@ -0,0 +1,8 @@
+package com.speakerspace.security;
+
+import com.google.firebase.auth.FirebaseAuthException;
+
+public interface IdTokenVerifier {
+
+    VerifiedIdToken verifyIdToken(String token) throws FirebaseAuthException;
+}
@@ -0,0 +1,137 @@
+package com.speakerspace.security;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.firebase.ErrorCode;
+import com.google.firebase.auth.AuthErrorCode;
+import com.google.firebase.auth.FirebaseAuthException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Signature;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+
+@Component
+@ConditionalOnProperty(name = "security.token-verifier.mode", havingValue = "local", matchIfMissing = true)
+public class LocalIdTokenVerifier implements IdTokenVerifier {
+
+    private static final String ISSUER_PREFIX = "https://securetoken.google.com/";
+    private static final TypeReference<Map<String, Object>> JSON_OBJECT = new TypeReference<>() {
+    };
+
+    private final GooglePublicKeys publicKeys;
+    private final String projectId;
+    private final long clockSkewSeconds;
+    private final Clock clock;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Autowired
+    public LocalIdTokenVerifier(GooglePublicKeys publicKeys,
+                                @Value("${security.token-verifier.project-id}") String projectId,
+                                @Value("${security.token-verifier.clock-skew:5m}") Duration clockSkew) {
+        this(publicKeys, projectId, clockSkew, Clock.systemUTC());
+    }
+
+    LocalIdTokenVerifier(GooglePublicKeys publicKeys, String projectId, Duration clockSkew, Clock clock) {
+        if (projectId == null || projectId.isBlank()) {
+            throw new IllegalStateException("security.token-verifier.project-id must be set to verify tokens locally");
+        }
+        this.publicKeys = publicKeys;
+        this.projectId = projectId;
+        this.clockSkewSeconds = clockSkew.toSeconds();
+        this.clock = clock;
+    }
+
+    @Override
+    public VerifiedIdToken verifyIdToken(String token) throws FirebaseAuthException {
+        if (token == null || token.isBlank()) {
+            throw invalid("ID token must not be empty");
+        }
+
+        String[] segments = token.split("\\.", -1);
+        if (segments.length != 3) {
+            throw invalid("ID token must have three segments");
+        }
+
+        Map<String, Object> header = decode(segments[0]);
+        Map<String, Object> claims = decode(segments[1]);
+
+        if (!"RS256".equals(header.get("alg"))) {
+            throw invalid("ID token has incorrect algorithm");
+        }
+        if (!(header.get("kid") instanceof String keyId)) {
+            throw invalid("ID token has no kid claim");
+        }
+
+        RSAPublicKey publicKey = publicKeys.get(keyId);
+        if (publicKey == null) {
+            if (publicKeys.isEmpty()) {
+                throw new FirebaseAuthException(ErrorCode.UNAVAILABLE, "Google public keys are not available",
+                        null, null, AuthErrorCode.CERTIFICATE_FETCH_FAILED);
+            }
+            throw invalid("ID token has no matching public key");
+        }
+        if (!hasValidSignature(segments, publicKey)) {
+            throw invalid("ID token has invalid signature");
+        }
+
+        verifyClaims(claims);
+        return VerifiedIdToken.fromClaims(claims);
+    }
+
+    private void verifyClaims(Map<String, Object> claims) throws FirebaseAuthException {
+        long now = clock.instant().getEpochSecond();
+
+        if (!projectId.equals(claims.get("aud"))) {
+            throw invalid("ID token has incorrect audience");
+        }
+        if (!(ISSUER_PREFIX + projectId).equals(claims.get("iss"))) {
+            throw invalid("ID token has incorrect issuer");
+        }
+        if (!(claims.get("sub") instanceof String subject) || subject.isEmpty() || subject.length() > 128) {
+            throw invalid("ID token has invalid subject");
+        }
+        if (!(claims.get("iat") instanceof Number issuedAt) || issuedAt.longValue() > now + clockSkewSeconds) {
+            throw invalid("ID token is issued in the future");
+        }
+        if (!(claims.get("exp") instanceof Number expiresAt)) {
+            throw invalid("ID token has no expiration");
+        }
+        if (expiresAt.longValue() <= now - clockSkewSeconds) {
+            throw new FirebaseAuthException(ErrorCode.INVALID_ARGUMENT, "ID token has expired",
+                    null, null, AuthErrorCode.EXPIRED_ID_TOKEN);
+        }
+    }
+
+    private static boolean hasValidSignature(String[] segments, RSAPublicKey publicKey) throws FirebaseAuthException {
+        try {
+            Signature signature = Signature.getInstance("SHA256withRSA");
+            signature.initVerify(publicKey);
+            signature.update((segments[0] + "." + segments[1]).getBytes(StandardCharsets.US_ASCII));
+            return signature.verify(Base64.getUrlDecoder().decode(segments[2]));
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw invalid("ID token signature could not be verified");
+        }
+    }
+
+    private Map<String, Object> decode(String segment) throws FirebaseAuthException {
+        try {
+            return objectMapper.readValue(Base64.getUrlDecoder().decode(segment), JSON_OBJECT);
+        } catch (IOException | IllegalArgumentException e) {
+            throw invalid("ID token is not a valid JWT");
+        }
+    }
+
+    private static FirebaseAuthException invalid(String message) {
+        return new FirebaseAuthException(ErrorCode.INVALID_ARGUMENT, message, null, null, AuthErrorCode.INVALID_ID_TOKEN);
+    }
+}
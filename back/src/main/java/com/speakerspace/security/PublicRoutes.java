@@ -0,0 +1,59 @@
+package com.speakerspace.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.List;
+
+@Component
+public class PublicRoutes implements RequestMatcher {
+
+    static final List<String> PATTERNS = List.of(
+            "/auth",
+            "/auth/login",
+            "/auth/logout",
+            "/public/**",
+            "/actuator/health",
+            "/error"
+    );
+
+    private final List<PathPattern> patterns;
+
+    public PublicRoutes() {
+        PathPatternParser parser = new PathPatternParser();
+        this.patterns = PATTERNS.stream()
+                .map(parser::parse)
+                .toList();
+    }
+
+    @Override
+    public boolean matches(HttpServletRequest request) {
+        return matches(pathWithinApplication(request));
+    }
+
+    public boolean matches(String path) {
+        if (path == null) {
+            return false;
+        }
+        PathContainer pathContainer = PathContainer.parsePath(path);
+        for (PathPattern pattern : patterns) {
+            if (pattern.matches(pathContainer)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String pathWithinApplication(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        if (uri != null && contextPath != null && !contextPath.isEmpty() && uri.startsWith(contextPath)) {
+            return uri.substring(contextPath.length());
+        }
+        return uri;
+    }
+}
@@ -0,0 +1,270 @@
+package com.speakerspace.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.speakerspace.config.CookieService;
+import com.speakerspace.repository.RevokedSessionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.Map;
+
+@Component
+public class SessionManager implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionManager.class);
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int SESSION_ID_BYTES = 24;
+    private static final String COOKIE_VERSION = "v1";
+    private static final String FIELD_SEPARATOR = "~";
+
+    private final CookieService cookieService;
+    private final RevokedSessionRepository revokedSessionRepository;
+    private final boolean enabled;
+    private final Duration idleTimeout;
+    private final Duration maxLifetime;
+    private final SecretKeySpec signingKey;
+    private final Clock clock;
+    private final Cache<String, AuthSession> sessions;
+    private final Cache<String, Boolean> ended;
+    private final Cache<String, Boolean> revocationChecked;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    @Autowired
+    public SessionManager(CookieService cookieService, RevokedSessionRepository revokedSessionRepository,
+                          @Value("${security.session.enabled:true}") boolean enabled,
+                          @Value("${security.session.secret:}") String secret,
+                          @Value("${security.session.generate-secret:false}") boolean generateSecret,
+                          @Value("${security.session.idle-timeout:7d}") Duration idleTimeout,
+                          @Value("${security.session.max-lifetime:30d}") Duration maxLifetime,
+                          @Value("${security.session.revocation-check-interval:1m}") Duration revocationCheckInterval,
+                          @Value("${security.session.maximum-size:100000}") long maximumSize) {
+        this(cookieService, revokedSessionRepository, enabled, checkSecret(enabled, secret, generateSecret), idleTimeout,
+                maxLifetime, revocationCheckInterval, maximumSize, Clock.systemUTC(), Ticker.systemTicker());
+    }
+
+    SessionManager(CookieService cookieService, RevokedSessionRepository revokedSessionRepository, boolean enabled,
+                   String secret, Duration idleTimeout, Duration maxLifetime, Duration revocationCheckInterval,
+                   long maximumSize, Clock clock, Ticker ticker) {
+        this.cookieService = cookieService;
+        this.revokedSessionRepository = revokedSessionRepository;
+        this.enabled = enabled;
+        this.idleTimeout = idleTimeout;
+        this.maxLifetime = maxLifetime;
+        this.signingKey = new SecretKeySpec(secretBytes(secret), HMAC_ALGORITHM);
+        this.clock = clock;
+        this.sessions = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(idleTimeout)
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        this.ended = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(idleTimeout)
+                .ticker(ticker)
+                .build();
+        this.revocationChecked = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(revocationCheckInterval)
+                .ticker(ticker)
+                .build();
+    }
+
+    public void start(VerifiedIdToken idToken, String rawToken, HttpServletResponse response) {
+        if (!enabled) {
+            cookieService.setAuthCookie(response, rawToken);
+            return;
+        }
+
+        Instant now = clock.instant();
+        AuthSession session = new AuthSession(newSessionId(), idToken, truncate(now), truncate(now));
+        sessions.put(session.id(), session);
+        cookieService.setAuthCookie(response, sign(session), idleTimeout);
+    }
+
+    public boolean isSessionCookie(String cookieValue) {
+        return enabled && cookieValue != null && cookieValue.indexOf('.') > 0
+                && cookieValue.indexOf('.') == cookieValue.lastIndexOf('.');
+    }
+
+    public AuthSession resume(String cookieValue, HttpServletResponse response) {
+        AuthSession signed = verify(cookieValue);
+        Instant now = clock.instant();
+
+        if (signed == null || ended.getIfPresent(signed.id()) != null
+                || !now.isBefore(signed.createdAt().plus(maxLifetime))
+                || !now.isBefore(signed.cookieIssuedAt().plus(idleTimeout))
+                || isRevoked(signed.id())) {
+            if (signed != null) {
+                sessions.invalidate(signed.id());
+            }
+            cookieService.clearAuthCookie(response);
+            return null;
+        }
+
+        AuthSession cached = sessions.getIfPresent(signed.id());
+        AuthSession session = cached != null && cached.idToken().uid().equals(signed.idToken().uid())
+                ? cached.withCookieIssuedAt(signed.cookieIssuedAt())
+                : signed;
+
+        if (!now.isBefore(session.cookieIssuedAt().plus(idleTimeout.dividedBy(2)))) {
+            session = session.withCookieIssuedAt(truncate(now));
+            cookieService.setAuthCookie(response, sign(session), idleTimeout);
+        }
+        sessions.put(session.id(), session);
+        return session;
+    }
+
+    public void end(HttpServletRequest request, HttpServletResponse response) {
+        String cookieValue = cookieService.getAuthTokenFromCookies(request);
+        if (isSessionCookie(cookieValue)) {
+            AuthSession session = verify(cookieValue);
+            if (session != null) {
+                sessions.invalidate(session.id());
+                ended.put(session.id(), Boolean.TRUE);
+                try {
+                    revokedSessionRepository.revoke(session.id(), session.createdAt().plus(maxLifetime)).join();
+                } catch (RuntimeException e) {
+                    logger.error("Error persisting the revocation of a session", e);
+                }
+            }
+        }
+        cookieService.clearAuthCookie(response);
+    }
+
+    public long getActiveSessionCount() {
+        return sessions.estimatedSize();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, sessions, "authSessions");
+    }
+
+    private boolean isRevoked(String sessionId) {
+        if (revocationChecked.getIfPresent(sessionId) != null) {
+            return false;
+        }
+        try {
+            if (revokedSessionRepository.isRevoked(sessionId).join()) {
+                ended.put(sessionId, Boolean.TRUE);
+                return true;
+            }
+            revocationChecked.put(sessionId, Boolean.TRUE);
+        } catch (RuntimeException e) {
+            logger.warn("Error checking whether a session was revoked, accepting it until the next check", e);
+        }
+        return false;
+    }
+
+    private String newSessionId() {
+        byte[] bytes = new byte[SESSION_ID_BYTES];
+        secureRandom.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    String sign(AuthSession session) {
+        VerifiedIdToken idToken = session.idToken();
+        String payload = String.join(FIELD_SEPARATOR, COOKIE_VERSION, session.id(), encode(idToken.uid()),
+                encode(idToken.email()), encode(idToken.name()),
+                Long.toString(session.createdAt().getEpochSecond()),
+                Long.toString(session.cookieIssuedAt().getEpochSecond()));
+        return payload + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(mac(payload));
+    }
+
+    AuthSession verify(String cookieValue) {
+        int separator = cookieValue.indexOf('.');
+        if (separator <= 0) {
+            return null;
+        }
+        String payload = cookieValue.substring(0, separator);
+        byte[] signature;
+        try {
+            signature = Base64.getUrlDecoder().decode(cookieValue.substring(separator + 1));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (!MessageDigest.isEqual(mac(payload), signature)) {
+            return null;
+        }
+
+        String[] fields = payload.split(FIELD_SEPARATOR, -1);
+        if (fields.length != 7 || !COOKIE_VERSION.equals(fields[0]) || fields[2].isEmpty()) {
+            return null;
+        }
+        try {
+            VerifiedIdToken idToken = new VerifiedIdToken(decode(fields[2]), decode(fields[3]), decode(fields[4]),
+                    null, Map.of());
+            return new AuthSession(fields[1], idToken, Instant.ofEpochSecond(Long.parseLong(fields[5])),
+                    Instant.ofEpochSecond(Long.parseLong(fields[6])));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static String encode(String value) {
+        return value == null ? "" : Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decode(String value) {
+        return value.isEmpty() ? null : new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+    }
+
+    private static Instant truncate(Instant instant) {
+        return instant.truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    private byte[] mac(String value) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(signingKey);
+            return mac.doFinal(value.getBytes(StandardCharsets.US_ASCII));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available", e);
+        }
+    }
+
+    private static String checkSecret(boolean enabled, String secret, boolean generateSecret) {
+        if (enabled && (secret == null || secret.isBlank())) {
+            if (!generateSecret) {
+                throw new IllegalStateException(
+                        "security.session.secret (SESSION_SECRET) must be set when session cookies are enabled");
+            }
+            logger.warn("SESSION_SECRET is not set, session cookies are signed with a random key "
+                    + "and will not survive a restart or be accepted by other instances");
+        }
+        return secret;
+    }
+
+    private static byte[] secretBytes(String secret) {
+        if (secret != null && !secret.isBlank()) {
+            return secret.getBytes(StandardCharsets.UTF_8);
+        }
+        byte[] generated = new byte[32];
+        new SecureRandom().nextBytes(generated);
+        return generated;
+    }
+}
@@ -0,0 +1,29 @@
+package com.speakerspace.security;
+
+import com.google.firebase.auth.FirebaseToken;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+public record VerifiedIdToken(String uid, String email, String name, String picture, Map<String, Object> claims) {
+
+    public static VerifiedIdToken from(FirebaseToken token) {
+        return new VerifiedIdToken(token.getUid(), token.getEmail(), token.getName(), token.getPicture(),
+                token.getClaims());
+    }
+
+    public static VerifiedIdToken fromClaims(Map<String, Object> claims) {
+        return new VerifiedIdToken(asString(claims.get("sub")), asString(claims.get("email")),
+                asString(claims.get("name")), asString(claims.get("picture")), Collections.unmodifiableMap(new HashMap<>(claims)));
+    }
+
+    public long expiresAtEpochSecond() {
+        Object exp = claims != null ? claims.get("exp") : null;
+        return exp instanceof Number expSeconds ? expSeconds.longValue() : 0;
+    }
+
+    private static String asString(Object value) {
+        return value instanceof String string ? string : null;
+    }
+}
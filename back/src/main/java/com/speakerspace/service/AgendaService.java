@@ -0,0 +1,136 @@
+package com.speakerspace.service;
+
+import com.google.cloud.Timestamp;
+import com.speakerspace.dto.Agenda;
+import com.speakerspace.dto.AgendaDay;
+import com.speakerspace.dto.ScheduleConflict;
+import com.speakerspace.dto.SessionSummary;
+import com.speakerspace.repository.SessionRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+
+@Service
+public class AgendaService {
+
+    @Autowired
+    private SessionRepository sessionRepository;
+
+    @Value("${agenda.zone-id:Europe/Paris}")
+    private String defaultZoneId;
+
+    @Value("${agenda.default-session-duration:45m}")
+    private Duration defaultSessionDuration;
+
+    public CompletableFuture<Agenda> getAgenda(String eventId, String zoneId) {
+        ZoneId zone = zone(zoneId == null || zoneId.isBlank() ? defaultZoneId : zoneId);
+        return sessionRepository.findAllByEvent(eventId)
+                .thenApply(sessions -> buildAgenda(eventId, sessions, zone, defaultSessionDuration));
+    }
+
+    static Agenda buildAgenda(String eventId, List<SessionSummary> sessions, ZoneId zone, Duration defaultDuration) {
+        List<Slot> slots = new ArrayList<>(sessions.size());
+        List<SessionSummary> unscheduled = new ArrayList<>();
+        for (SessionSummary session : sessions) {
+            if (session.startDate() == null) {
+                unscheduled.add(session);
+            } else {
+                slots.add(Slot.of(session, defaultDuration));
+            }
+        }
+        unscheduled.sort(Comparator.comparing(SessionSummary::title, Comparator.nullsLast(Comparator.naturalOrder())));
+
+        IntervalTree<Slot> agenda = new IntervalTree<>(slots, Slot::start, Slot::end);
+        Map<LocalDate, List<SessionSummary>> days = new TreeMap<>();
+        for (int i = 0; i < agenda.size(); i++) {
+            LocalDate day = Instant.ofEpochMilli(agenda.start(i)).atZone(zone).toLocalDate();
+            days.computeIfAbsent(day, ignored -> new ArrayList<>()).add(agenda.get(i).session());
+        }
+
+        Map<String, List<Slot>> rooms = new LinkedHashMap<>();
+        Map<String, List<Slot>> speakers = new LinkedHashMap<>();
+        for (Slot slot : slots) {
+            String location = slot.session().location();
+            if (location != null && !location.isBlank()) {
+                rooms.computeIfAbsent(location.trim().toLowerCase(Locale.ROOT), ignored -> new ArrayList<>()).add(slot);
+            }
+            if (slot.session().speakers() != null) {
+                for (String speaker : new LinkedHashSet<>(slot.session().speakers())) {
+                    speakers.computeIfAbsent(speaker, ignored -> new ArrayList<>()).add(slot);
+                }
+            }
+        }
+
+        List<ScheduleConflict> conflicts = new ArrayList<>();
+        rooms.values().forEach(roomSlots -> findConflicts(ScheduleConflict.Resource.ROOM,
+                roomSlots.get(0).session().location().trim(), roomSlots, conflicts));
+        speakers.forEach((speaker, speakerSlots) ->
+                findConflicts(ScheduleConflict.Resource.SPEAKER, speaker, speakerSlots, conflicts));
+        conflicts.sort(Comparator.comparing(ScheduleConflict::overlapStart)
+                .thenComparing(ScheduleConflict::resource)
+                .thenComparing(ScheduleConflict::resourceId));
+
+        return new Agenda(eventId, zone.getId(),
+                days.entrySet().stream().map(day -> new AgendaDay(day.getKey(), day.getValue())).toList(),
+                unscheduled, conflicts);
+    }
+
+    private static void findConflicts(ScheduleConflict.Resource resource, String resourceId, List<Slot> slots,
+                                      List<ScheduleConflict> conflicts) {
+        if (slots.size() < 2) {
+            return;
+        }
+        IntervalTree<Slot> tree = new IntervalTree<>(slots, Slot::start, Slot::end);
+        for (int i = 0; i < tree.size(); i++) {
+            int current = i;
+            tree.forEachOverlap(tree.start(i), tree.end(i), other -> {
+                if (other > current) {
+                    conflicts.add(new ScheduleConflict(resource, resourceId,
+                            tree.get(current).session().idSession(), tree.get(other).session().idSession(),
+                            timestamp(Math.max(tree.start(current), tree.start(other))),
+                            timestamp(Math.min(tree.end(current), tree.end(other)))));
+                }
+            });
+        }
+    }
+
+    private static ZoneId zone(String zoneId) {
+        try {
+            return ZoneId.of(zoneId);
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("Unknown zone: " + zoneId);
+        }
+    }
+
+    private static Timestamp timestamp(long epochMillis) {
+        return Timestamp.ofTimeMicroseconds(epochMillis * 1000);
+    }
+
+    private record Slot(SessionSummary session, long start, long end) {
+
+        static Slot of(SessionSummary session, Duration defaultDuration) {
+            long start = millis(session.startDate());
+            long end = session.endDate() == null ? start + defaultDuration.toMillis() : millis(session.endDate());
+            return new Slot(session, start, end > start ? end : start + defaultDuration.toMillis());
+        }
+
+        private static long millis(Timestamp timestamp) {
+            return timestamp.getSeconds() * 1000 + timestamp.getNanos() / 1_000_000;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.speakerspace.service;
+
+public record BulkImportItemResult(int index, String uid, boolean success, String error) {
+
+    public static BulkImportItemResult success(int index, String uid) {
+        return new BulkImportItemResult(index, uid, true, null);
+    }
+
+    public static BulkImportItemResult failure(int index, String uid, String error) {
+        return new BulkImportItemResult(index, uid, false, error);
+    }
+}
@@ -0,0 +1,11 @@
+package com.speakerspace.service;
+
+import java.util.List;
+
+public record BulkImportResult(int total, int succeeded, int failed, List<BulkImportItemResult> items, String error) {
+
+    public static BulkImportResult of(List<BulkImportItemResult> items, String error) {
+        int succeeded = (int) items.stream().filter(BulkImportItemResult::success).count();
+        return new BulkImportResult(items.size(), succeeded, items.size() - succeeded, items, error);
+    }
+}
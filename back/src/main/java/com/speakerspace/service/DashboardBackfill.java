@@ -0,0 +1,69 @@
+package com.speakerspace.service;
+
+import com.speakerspace.repository.Page;
+import com.speakerspace.repository.SessionRepository;
+import com.speakerspace.repository.TravelRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+@Component
+@ConditionalOnProperty(name = "dashboards.backfill.enabled", havingValue = "true")
+public class DashboardBackfill implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(DashboardBackfill.class);
+
+    private final SessionRepository sessionRepository;
+    private final TravelRepository travelRepository;
+    private final int pageSize;
+
+    public DashboardBackfill(SessionRepository sessionRepository, TravelRepository travelRepository,
+                             @Value("${dashboards.backfill.page-size:200}") int pageSize) {
+        this.sessionRepository = sessionRepository;
+        this.travelRepository = travelRepository;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        backfill("sessions", sessionRepository::findIds, sessionRepository::refreshDashboards);
+        backfill("travels", travelRepository::findIds, travelRepository::refreshDashboards);
+    }
+
+    private void backfill(String collection, BiFunction<Integer, String, CompletableFuture<Page<String>>> findIds,
+                          Function<String, CompletableFuture<Boolean>> refresh) {
+        int applied = 0;
+        int failed = 0;
+        String pageToken = null;
+
+        try {
+            do {
+                Page<String> page = findIds.apply(pageSize, pageToken).join();
+                for (String id : page.items()) {
+                    try {
+                        if (refresh.apply(id).join()) {
+                            applied++;
+                        }
+                    } catch (RuntimeException e) {
+                        failed++;
+                        logger.error("Error applying {} {} to the speaker dashboards", collection, id, e);
+                    }
+                }
+                pageToken = page.nextPageToken();
+            } while (pageToken != null);
+        } catch (RuntimeException e) {
+            logger.error("Error listing {} for the dashboard backfill, {} applied so far", collection, applied, e);
+            return;
+        }
+
+        logger.info("Applied {} {} to the speaker dashboards, {} failed", applied, collection, failed);
+    }
+}
@@ -0,0 +1,41 @@
+package com.speakerspace.service;
+
+import com.speakerspace.changefeed.ChangeEvent;
+import com.speakerspace.changefeed.ChangeListener;
+import com.speakerspace.repository.FirestoreCollections;
+import com.speakerspace.repository.SpeakerDashboardRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+@Component
+public class DashboardEventChangeListener implements ChangeListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(DashboardEventChangeListener.class);
+
+    @Autowired
+    private SpeakerDashboardRepository speakerDashboardRepository;
+
+    @Override
+    public Set<String> collections() {
+        return Set.of(FirestoreCollections.EVENTS);
+    }
+
+    @Override
+    public void onChange(ChangeEvent event) {
+        int updated = speakerDashboardRepository.refreshEvent(event.documentId(),
+                event.type() == ChangeEvent.Type.REMOVED ? null : event.document()).join();
+        if (updated > 0) {
+            logger.debug("Refreshed event {} on {} dashboards", event.documentId(), updated);
+        }
+    }
+
+    @Override
+    public void onOverflow(String collection) {
+        logger.warn("Dashboards missed {} changes, their event summaries stay stale until the next change "
+                + "or a run with DASHBOARDS_BACKFILL_ENABLED=true", collection);
+    }
+}
@@ -0,0 +1,140 @@
+package com.speakerspace.service;
+
+import com.speakerspace.dto.EventDetail;
+import com.speakerspace.model.Event;
+import com.speakerspace.model.Group;
+import com.speakerspace.model.Session;
+import com.speakerspace.model.Travel;
+import com.speakerspace.model.User;
+import com.speakerspace.repository.DocumentBatchReader;
+import com.speakerspace.repository.EventRepository;
+import com.speakerspace.repository.FirestoreCollections;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class EventDetailService {
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private DocumentBatchReader documentBatchReader;
+
+    @Autowired
+    private UserCache userCache;
+
+    public CompletableFuture<EventDetail> getEventDetail(String eventId, String uid, boolean admin) {
+        return eventRepository.findById(eventId)
+                .thenCompose(event -> event == null
+                        ? CompletableFuture.<EventDetail>completedFuture(null)
+                        : hydrate(event, admin || isOrganizer(event, uid), uid));
+    }
+
+    private CompletableFuture<EventDetail> hydrate(Event event, boolean organizer, String uid) {
+        Map<String, User> users = new ConcurrentHashMap<>();
+
+        CompletableFuture<List<Session>> sessions =
+                documentBatchReader.getAll(FirestoreCollections.SESSIONS, event.getSessions(), Session.class);
+        if (event.isPrivate() && !organizer) {
+            return sessions.thenCompose(loadedSessions -> uid != null && speakerIds(loadedSessions).contains(uid)
+                    ? hydrate(event, false, users, sessions)
+                    : CompletableFuture.completedFuture(null));
+        }
+        return hydrate(event, organizer, users, sessions);
+    }
+
+    private CompletableFuture<EventDetail> hydrate(Event event, boolean organizer, Map<String, User> users,
+                                                   CompletableFuture<List<Session>> sessions) {
+        CompletableFuture<List<Group>> groups =
+                documentBatchReader.getAll(FirestoreCollections.GROUPS, event.getGroups(), Group.class);
+        CompletableFuture<List<Travel>> travels = organizer
+                ? documentBatchReader.getAll(FirestoreCollections.TRAVELS, event.getTravels(), Travel.class)
+                : CompletableFuture.completedFuture(List.of());
+        CompletableFuture<Void> organizers = loadUsers(event.getOrganizers(), users);
+
+        CompletableFuture<Void> speakers = sessions.thenCombine(organizers, (loadedSessions, ignored) -> loadedSessions)
+                .thenCompose(loadedSessions -> loadUsers(speakerIds(loadedSessions), users));
+
+        if (!organizer) {
+            event.setTravels(null);
+        }
+        return CompletableFuture.allOf(groups, travels, speakers)
+                .thenApply(ignored -> new EventDetail(
+                        event,
+                        sessions.join(),
+                        groups.join(),
+                        travels.join(),
+                        profiles(resolve(event.getOrganizers(), users), organizer),
+                        profiles(resolve(speakerIds(sessions.join()), users), organizer)));
+    }
+
+    private static boolean isOrganizer(Event event, String uid) {
+        return uid != null && event.getOrganizers() != null && event.getOrganizers().contains(uid);
+    }
+
+    private static List<User> profiles(List<User> users, boolean organizer) {
+        if (organizer) {
+            return users;
+        }
+        return users.stream()
+                .map(user -> new User(user.getUid(), null, user.getDisplayName(), user.getPhotoURL()))
+                .toList();
+    }
+
+    private CompletableFuture<Void> loadUsers(Collection<String> uids, Map<String, User> users) {
+        Set<String> missing = new LinkedHashSet<>();
+        for (String uid : uids == null ? List.<String>of() : uids) {
+            if (uid == null || users.containsKey(uid)) {
+                continue;
+            }
+            User cachedUser = userCache.get(uid);
+            if (cachedUser != null) {
+                users.put(uid, cachedUser);
+            } else {
+                missing.add(uid);
+            }
+        }
+
+        return documentBatchReader.getAll(FirestoreCollections.USERS, missing, User.class)
+                .thenAccept(loadedUsers -> {
+                    for (User user : loadedUsers) {
+                        if (user.getUid() != null) {
+                            users.put(user.getUid(), user);
+                            userCache.put(user);
+                        }
+                    }
+                });
+    }
+
+    private static Set<String> speakerIds(List<Session> sessions) {
+        Set<String> speakerIds = new LinkedHashSet<>();
+        for (Session session : sessions) {
+            if (session.getSpeakers() != null) {
+                speakerIds.addAll(session.getSpeakers());
+            }
+        }
+        return speakerIds;
+    }
+
+    private static List<User> resolve(Collection<String> uids, Map<String, User> users) {
+        if (uids == null) {
+            return List.of();
+        }
+        return uids.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .map(users::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
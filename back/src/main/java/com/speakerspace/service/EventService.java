@@ -0,0 +1,41 @@
+package com.speakerspace.service;
+
+import com.speakerspace.dto.EventSummary;
+import com.speakerspace.model.Event;
+import com.speakerspace.repository.EventRepository;
+import com.speakerspace.repository.Page;
+import com.speakerspace.repository.Versioned;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+@Service
+public class EventService {
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private PageSizes pageSizes;
+
+    public CompletableFuture<Versioned<Event>> getEvent(String eventId) {
+        return eventRepository.findVersionedById(eventId);
+    }
+
+    public CompletableFuture<Versioned<Map<String, Object>>> getEventFields(String eventId, Collection<String> fields) {
+        return eventRepository.findFieldsById(eventId, fields);
+    }
+
+    public CompletableFuture<Page<EventSummary>> listEventsByOrganizer(String organizer, Integer pageSize,
+                                                                       String pageToken) {
+        return eventRepository.findByOrganizer(organizer, pageSizes.resolve(pageSize), pageToken);
+    }
+
+    public CompletableFuture<Page<Map<String, Object>>> listEventFieldsByOrganizer(String organizer, Collection<String> fields,
+                                                                                  Integer pageSize, String pageToken) {
+        return eventRepository.findFieldsByOrganizer(organizer, fields, pageSizes.resolve(pageSize), pageToken);
+    }
+}
@@ -0,0 +1,76 @@
+package com.speakerspace.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.IntConsumer;
+import java.util.function.ToLongFunction;
+
+final class IntervalTree<T> {
+
+    private final List<T> values;
+    private final long[] starts;
+    private final long[] ends;
+    private final long[] maxEnds;
+
+    IntervalTree(List<T> items, ToLongFunction<T> start, ToLongFunction<T> end) {
+        values = new ArrayList<>(items);
+        values.sort(Comparator.comparingLong(start).thenComparingLong(end));
+
+        int size = values.size();
+        starts = new long[size];
+        ends = new long[size];
+        maxEnds = new long[size];
+        for (int i = 0; i < size; i++) {
+            starts[i] = start.applyAsLong(values.get(i));
+            ends[i] = end.applyAsLong(values.get(i));
+        }
+        buildMaxEnds(0, size);
+    }
+
+    int size() {
+        return values.size();
+    }
+
+    T get(int index) {
+        return values.get(index);
+    }
+
+    long start(int index) {
+        return starts[index];
+    }
+
+    long end(int index) {
+        return ends[index];
+    }
+
+    void forEachOverlap(long start, long end, IntConsumer consumer) {
+        forEachOverlap(0, values.size(), start, end, consumer);
+    }
+
+    private long buildMaxEnds(int from, int to) {
+        if (from >= to) {
+            return Long.MIN_VALUE;
+        }
+        int mid = (from + to) >>> 1;
+        maxEnds[mid] = Math.max(ends[mid], Math.max(buildMaxEnds(from, mid), buildMaxEnds(mid + 1, to)));
+        return maxEnds[mid];
+    }
+
+    private void forEachOverlap(int from, int to, long start, long end, IntConsumer consumer) {
+        if (from >= to) {
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        if (maxEnds[mid] <= start) {
+            return;
+        }
+        forEachOverlap(from, mid, start, end, consumer);
+        if (starts[mid] < end) {
+            if (ends[mid] > start) {
+                consumer.accept(mid);
+            }
+            forEachOverlap(mid + 1, to, start, end, consumer);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.speakerspace.service;
+
+import com.speakerspace.model.TaskReminder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(name = "reminders.sender", havingValue = "log", matchIfMissing = true)
+public class LoggingReminderSender implements ReminderSender {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoggingReminderSender.class);
+
+    @Override
+    public void send(List<TaskReminder> reminders) {
+        for (TaskReminder reminder : reminders) {
+            logger.info("Reminder for task {} of session {}: \"{}\" is due {}", reminder.getTaskId(),
+                    reminder.getSessionId(), reminder.getTitle(), reminder.getDeadline());
+        }
+    }
+}
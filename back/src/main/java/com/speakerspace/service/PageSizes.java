@@ -0,0 +1,27 @@
+package com.speakerspace.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PageSizes {
+
+    private final int defaultPageSize;
+    private final int maxPageSize;
+
+    public PageSizes(@Value("${pagination.default-page-size:20}") int defaultPageSize,
+                     @Value("${pagination.max-page-size:100}") int maxPageSize) {
+        this.defaultPageSize = Math.min(defaultPageSize, maxPageSize);
+        this.maxPageSize = maxPageSize;
+    }
+
+    public int resolve(Integer requested) {
+        if (requested == null) {
+            return defaultPageSize;
+        }
+        if (requested < 1) {
+            throw new IllegalArgumentException("pageSize must be positive");
+        }
+        return Math.min(requested, maxPageSize);
+    }
+}
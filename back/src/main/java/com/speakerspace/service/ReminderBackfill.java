@@ -0,0 +1,77 @@
+package com.speakerspace.service;
+
+import com.speakerspace.model.TaskReminder;
+import com.speakerspace.repository.Page;
+import com.speakerspace.repository.SessionItemRepository;
+import com.speakerspace.repository.TaskReminderRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@ConditionalOnProperty(name = "reminders.backfill.enabled", havingValue = "true")
+public class ReminderBackfill implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReminderBackfill.class);
+
+    private final SessionItemRepository sessionItemRepository;
+    private final TaskReminderRepository taskReminderRepository;
+    private final int pageSize;
+    private final Clock clock;
+
+    @Autowired
+    public ReminderBackfill(SessionItemRepository sessionItemRepository, TaskReminderRepository taskReminderRepository,
+                            @Value("${reminders.backfill.page-size:200}") int pageSize) {
+        this(sessionItemRepository, taskReminderRepository, pageSize, Clock.systemUTC());
+    }
+
+    ReminderBackfill(SessionItemRepository sessionItemRepository, TaskReminderRepository taskReminderRepository,
+                     int pageSize, Clock clock) {
+        this.sessionItemRepository = sessionItemRepository;
+        this.taskReminderRepository = taskReminderRepository;
+        this.pageSize = Math.min(Math.max(pageSize, 1), ReminderScheduler.MAX_BATCH_SIZE);
+        this.clock = clock;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int created = 0;
+        String pageToken = null;
+
+        try {
+            do {
+                Page<SessionItemRepository.SessionTask> page = sessionItemRepository.findAllTasks(pageSize, pageToken).join();
+                Instant now = clock.instant();
+
+                Map<String, TaskReminder> missing = new LinkedHashMap<>();
+                for (SessionItemRepository.SessionTask sessionTask : page.items()) {
+                    TaskReminder reminder = TaskReminderService.reminderFor(sessionTask.sessionId(), sessionTask.task(), now);
+                    if (reminder != null) {
+                        missing.put(reminder.getId(), reminder);
+                    }
+                }
+                missing.keySet().removeAll(taskReminderRepository.findExistingIds(missing.keySet()).join());
+
+                taskReminderRepository.apply(missing.values(), List.of()).join();
+                created += missing.size();
+                pageToken = page.nextPageToken();
+            } while (pageToken != null);
+        } catch (RuntimeException e) {
+            logger.error("Error creating the reminders of existing tasks, {} created so far", created, e);
+            return;
+        }
+
+        logger.info("Created {} reminders for open tasks without one", created);
+    }
+}
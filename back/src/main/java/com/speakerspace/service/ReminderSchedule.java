@@ -0,0 +1,43 @@
+package com.speakerspace.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+
+final class ReminderSchedule {
+
+    private ReminderSchedule() {
+    }
+
+    static Duration frequency(String reminderFrequency) {
+        if (reminderFrequency == null || reminderFrequency.isBlank()) {
+            return null;
+        }
+        return switch (reminderFrequency.trim().toUpperCase(Locale.ROOT)) {
+            case "DAILY" -> Duration.ofDays(1);
+            case "WEEKLY" -> Duration.ofDays(7);
+            case "MONTHLY" -> Duration.ofDays(30);
+            case "NONE", "NEVER" -> null;
+            default -> parse(reminderFrequency.trim());
+        };
+    }
+
+    static Instant nextReminder(Instant deadline, Duration frequency, Instant after) {
+        if (deadline == null || frequency == null || !after.isBefore(deadline)) {
+            return null;
+        }
+        long periods = Duration.between(after, deadline).toNanos() / frequency.toNanos();
+        Instant next = deadline.minus(frequency.multipliedBy(periods));
+        return next.isAfter(after) ? next : next.plus(frequency);
+    }
+
+    private static Duration parse(String reminderFrequency) {
+        try {
+            Duration frequency = Duration.parse(reminderFrequency);
+            return frequency.isNegative() || frequency.isZero() ? null : frequency;
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.speakerspace.service;
+
+import com.google.cloud.firestore.DocumentChange;
+import com.google.cloud.firestore.FirestoreException;
+import com.google.cloud.firestore.ListenerRegistration;
+import com.google.cloud.firestore.QuerySnapshot;
+import com.speakerspace.changefeed.RetryBackoff;
+import com.speakerspace.model.TaskReminder;
+import com.speakerspace.repository.LeaseRepository;
+import com.speakerspace.repository.TaskReminderRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@ConditionalOnProperty(name = "reminders.enabled", havingValue = "true")
+public class ReminderScheduler implements SmartInitializingSingleton, DisposableBean {
+
+    static final String SENT_COUNTER = "reminders.sent";
+    static final String RESUBSCRIBE_COUNTER = "reminders.resubscribes";
+    static final String LEASE_NAME = "reminderScheduler";
+    static final int MAX_BATCH_SIZE = 500;
+
+    private static final Logger logger = LoggerFactory.getLogger(ReminderScheduler.class);
+
+    private final TaskReminderRepository taskReminderRepository;
+    private final LeaseRepository leaseRepository;
+    private final ReminderSender reminderSender;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+    private final Duration leaseDuration;
+    private final RetryBackoff backoff;
+    private final Clock clock;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final PriorityQueue<Entry> queue = new PriorityQueue<>(
+            Comparator.comparing(Entry::fireAt).thenComparing(entry -> entry.reminder().getId()));
+    private final Map<String, TaskReminder> pending = new HashMap<>();
+    private ListenerRegistration registration;
+    private ScheduledExecutorService retryExecutor;
+    private volatile boolean running;
+
+    @Autowired
+    public ReminderScheduler(TaskReminderRepository taskReminderRepository, LeaseRepository leaseRepository,
+                             ReminderSender reminderSender, MeterRegistry meterRegistry,
+                             @Value("${reminders.batch-size:100}") int batchSize,
+                             @Value("${reminders.lease-duration:3m}") Duration leaseDuration,
+                             @Value("${reminders.retry.initial-delay:1s}") Duration initialDelay,
+                             @Value("${reminders.retry.max-delay:1m}") Duration maxDelay) {
+        this(taskReminderRepository, leaseRepository, reminderSender, meterRegistry, batchSize, leaseDuration,
+                initialDelay, maxDelay, Clock.systemUTC());
+    }
+
+    ReminderScheduler(TaskReminderRepository taskReminderRepository, LeaseRepository leaseRepository,
+                      ReminderSender reminderSender, MeterRegistry meterRegistry, int batchSize,
+                      Duration leaseDuration, Duration initialDelay, Duration maxDelay, Clock clock) {
+        this.taskReminderRepository = taskReminderRepository;
+        this.leaseRepository = leaseRepository;
+        this.reminderSender = reminderSender;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = Math.min(Math.max(batchSize, 1), MAX_BATCH_SIZE);
+        this.leaseDuration = leaseDuration;
+        this.backoff = new RetryBackoff(initialDelay, maxDelay);
+        this.clock = clock;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        running = true;
+        retryExecutor = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("reminders-retry").daemon().factory());
+        listen();
+    }
+
+    @Override
+    public void destroy() {
+        running = false;
+        synchronized (this) {
+            if (registration != null) {
+                registration.remove();
+                registration = null;
+            }
+        }
+        if (retryExecutor != null) {
+            retryExecutor.shutdownNow();
+        }
+        try {
+            leaseRepository.release(LEASE_NAME, instanceId).join();
+        } catch (RuntimeException e) {
+            logger.warn("Error releasing the reminder scheduler lease", e);
+        }
+    }
+
+    private synchronized void listen() {
+        if (!running) {
+            return;
+        }
+        queue.clear();
+        pending.clear();
+        registration = taskReminderRepository.listen(this::onSnapshot);
+    }
+
+    private void onSnapshot(QuerySnapshot snapshot, FirestoreException error) {
+        if (error != null) {
+            onError(error);
+            return;
+        }
+        backoff.reset();
+        for (DocumentChange change : snapshot.getDocumentChanges()) {
+            if (change.getType() == DocumentChange.Type.REMOVED) {
+                remove(change.getDocument().getId());
+            } else {
+                schedule(change.getDocument().toObject(TaskReminder.class));
+            }
+        }
+    }
+
+    private synchronized void onError(FirestoreException error) {
+        if (registration != null) {
+            registration.remove();
+            registration = null;
+        }
+        if (!running) {
+            return;
+        }
+        long delay = backoff.nextDelayMillis();
+        logger.warn("Task reminder listener failed, resubscribing in {} ms", delay, error);
+        Counter.builder(RESUBSCRIBE_COUNTER).register(meterRegistry).increment();
+        retryExecutor.schedule(this::listen, delay, TimeUnit.MILLISECONDS);
+    }
+
+    synchronized void schedule(TaskReminder reminder) {
+        if (reminder.getNextReminderAt() == null || reminder.getDeadline() == null) {
+            remove(reminder.getId());
+            return;
+        }
+        pending.put(reminder.getId(), reminder);
+        queue.add(new Entry(TaskReminderService.toInstant(reminder.getNextReminderAt()), reminder));
+    }
+
+    synchronized void remove(String reminderId) {
+        pending.remove(reminderId);
+    }
+
+    synchronized int size() {
+        return pending.size();
+    }
+
+    @Scheduled(fixedDelayString = "${reminders.tick-interval-ms:60000}")
+    public void tick() {
+        Instant now = clock.instant();
+        if (!holdsLease(now)) {
+            return;
+        }
+        List<TaskReminder> due;
+        while (!(due = pollDue(now)).isEmpty()) {
+            if (!fire(due, now)) {
+                return;
+            }
+        }
+    }
+
+    private boolean holdsLease(Instant now) {
+        try {
+            return leaseRepository.tryAcquire(LEASE_NAME, instanceId, now, leaseDuration).join();
+        } catch (RuntimeException e) {
+            logger.warn("Error acquiring the reminder scheduler lease, skipping this tick", e);
+            return false;
+        }
+    }
+
+    private synchronized List<TaskReminder> pollDue(Instant now) {
+        List<TaskReminder> due = new ArrayList<>();
+        while (due.size() < batchSize && !queue.isEmpty() && !queue.peek().fireAt().isAfter(now)) {
+            Entry entry = queue.poll();
+            if (pending.get(entry.reminder().getId()) == entry.reminder()) {
+                pending.remove(entry.reminder().getId());
+                due.add(entry.reminder());
+            }
+        }
+        return due;
+    }
+
+    private boolean fire(List<TaskReminder> due, Instant now) {
+        try {
+            reminderSender.send(due);
+            Counter.builder(SENT_COUNTER).register(meterRegistry).increment(due.size());
+        } catch (RuntimeException e) {
+            logger.error("Error sending {} task reminders, they will be retried on the next tick", due.size(), e);
+            due.forEach(this::schedule);
+            return false;
+        }
+
+        List<TaskReminder> updated = new ArrayList<>();
+        List<String> deleted = new ArrayList<>();
+        for (TaskReminder reminder : due) {
+            Instant next = ReminderSchedule.nextReminder(TaskReminderService.toInstant(reminder.getDeadline()),
+                    ReminderSchedule.frequency(reminder.getReminderFrequency()), now);
+            if (next == null) {
+                deleted.add(reminder.getId());
+            } else {
+                TaskReminder rescheduled = new TaskReminder(reminder.getId(), reminder.getSessionId(),
+                        reminder.getTaskId(), reminder.getTitle(), reminder.getDeadline(),
+                        reminder.getReminderFrequency(), TaskReminderService.toTimestamp(next));
+                schedule(rescheduled);
+                updated.add(rescheduled);
+            }
+        }
+
+        taskReminderRepository.apply(updated, deleted)
+                .exceptionally(e -> {
+                    logger.error("Error saving the reminder checkpoint of {} tasks", due.size(), e);
+                    return null;
+                });
+        return true;
+    }
+
+    private record Entry(Instant fireAt, TaskReminder reminder) {
+    }
+}
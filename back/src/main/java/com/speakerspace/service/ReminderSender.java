@@ -0,0 +1,10 @@
+package com.speakerspace.service;
+
+import com.speakerspace.model.TaskReminder;
+
+import java.util.List;
+
+public interface ReminderSender {
+
+    void send(List<TaskReminder> reminders);
+}
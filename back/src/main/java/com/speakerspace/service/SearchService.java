@@ -0,0 +1,53 @@
+package com.speakerspace.service;
+
+import com.speakerspace.dto.SearchHit;
+import com.speakerspace.search.SearchDocument;
+import com.speakerspace.search.SearchIndex;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+@Service
+public class SearchService {
+
+    @Autowired
+    private SearchIndex searchIndex;
+
+    @Autowired
+    private PageSizes pageSizes;
+
+    @Value("${changefeed.enabled:false}")
+    private boolean changeFeedEnabled;
+
+    public boolean isAvailable() {
+        return changeFeedEnabled;
+    }
+
+    public List<SearchHit> search(String query, Collection<String> types, Integer pageSize) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("q is required");
+        }
+        return searchIndex.search(query, parseTypes(types), pageSizes.resolve(pageSize));
+    }
+
+    private static Set<SearchDocument.Type> parseTypes(Collection<String> types) {
+        Set<SearchDocument.Type> parsed = EnumSet.noneOf(SearchDocument.Type.class);
+        if (types == null) {
+            return parsed;
+        }
+        for (String type : types) {
+            try {
+                parsed.add(SearchDocument.Type.valueOf(type.trim().toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown type: " + type);
+            }
+        }
+        return parsed;
+    }
+}
@@ -0,0 +1,51 @@
+package com.speakerspace.service;
+
+import com.speakerspace.repository.Page;
+import com.speakerspace.repository.SessionItemRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "sessions.migration.enabled", havingValue = "true")
+public class SessionItemsMigration implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionItemsMigration.class);
+
+    private final SessionItemRepository sessionItemRepository;
+    private final int pageSize;
+
+    public SessionItemsMigration(SessionItemRepository sessionItemRepository,
+                                 @Value("${sessions.migration.page-size:200}") int pageSize) {
+        this.sessionItemRepository = sessionItemRepository;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int migrated = 0;
+        int failed = 0;
+        String pageToken = null;
+
+        do {
+            Page<String> page = sessionItemRepository.findIdsWithEmbeddedItems(pageSize, pageToken).join();
+            for (String sessionId : page.items()) {
+                try {
+                    if (sessionItemRepository.migrateEmbeddedItems(sessionId).join()) {
+                        migrated++;
+                    }
+                } catch (RuntimeException e) {
+                    failed++;
+                    logger.error("Error migrating tasks and resources of session {}", sessionId, e);
+                }
+            }
+            pageToken = page.nextPageToken();
+        } while (pageToken != null);
+
+        logger.info("Moved embedded tasks and resources of {} sessions to subcollections, {} failed", migrated, failed);
+    }
+}
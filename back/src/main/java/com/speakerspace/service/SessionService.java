@@ -0,0 +1,120 @@
+package com.speakerspace.service;
+
+import com.speakerspace.dto.ResourcePatch;
+import com.speakerspace.dto.SessionSummary;
+import com.speakerspace.dto.TaskPatch;
+import com.speakerspace.model.Resource;
+import com.speakerspace.model.Session;
+import com.speakerspace.model.Task;
+import com.speakerspace.repository.Page;
+import com.speakerspace.repository.SessionItemRepository;
+import com.speakerspace.repository.SessionRepository;
+import com.speakerspace.repository.Versioned;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+@Service
+public class SessionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionService.class);
+
+    @Autowired
+    private SessionRepository sessionRepository;
+
+    @Autowired
+    private SessionItemRepository sessionItemRepository;
+
+    @Autowired
+    private PageSizes pageSizes;
+
+    @Autowired
+    private TaskReminderService taskReminderService;
+
+    public CompletableFuture<Versioned<Session>> getSession(String sessionId) {
+        return sessionRepository.findVersionedById(sessionId);
+    }
+
+    public CompletableFuture<Versioned<Map<String, Object>>> getSessionFields(String sessionId, Collection<String> fields) {
+        return sessionRepository.findFieldsById(sessionId, fields);
+    }
+
+    public CompletableFuture<Page<SessionSummary>> listSessionsByEvent(String eventId, Integer pageSize,
+                                                                       String pageToken) {
+        return sessionRepository.findByEvent(eventId, pageSizes.resolve(pageSize), pageToken);
+    }
+
+    public CompletableFuture<Page<Map<String, Object>>> listSessionFieldsByEvent(String eventId, Collection<String> fields,
+                                                                                Integer pageSize, String pageToken) {
+        return sessionRepository.findFieldsByEvent(eventId, fields, pageSizes.resolve(pageSize), pageToken);
+    }
+
+    public CompletableFuture<Session> saveSession(Session session) {
+        return sessionRepository.save(session)
+                .whenComplete((savedSession, e) -> {
+                    if (e != null) {
+                        logger.error("Error saving session to Firestore", e);
+                    }
+                });
+    }
+
+    public CompletableFuture<Boolean> deleteSession(String sessionId) {
+        return sessionRepository.delete(sessionId)
+                .thenCompose(deleted -> deleted
+                        ? taskReminderService.onSessionDeleted(sessionId).thenApply(ignored -> true)
+                        : CompletableFuture.completedFuture(false))
+                .whenComplete((deleted, e) -> {
+                    if (e != null) {
+                        logger.error("Error deleting session from Firestore", e);
+                    }
+                });
+    }
+
+    public CompletableFuture<List<Task>> getTasks(String sessionId) {
+        return sessionItemRepository.findTasks(sessionId);
+    }
+
+    public CompletableFuture<Task> createTask(String sessionId, Task task) {
+        return sessionItemRepository.createTask(sessionId, task);
+    }
+
+    public CompletableFuture<Task> updateTask(String sessionId, String taskId, TaskPatch patch) {
+        return sessionItemRepository.updateTask(sessionId, taskId, patch)
+                .whenComplete((task, e) -> {
+                    if (e != null) {
+                        logger.error("Error updating session task in Firestore", e);
+                    }
+                });
+    }
+
+    public CompletableFuture<Boolean> deleteTask(String sessionId, String taskId) {
+        return sessionItemRepository.deleteTask(sessionId, taskId);
+    }
+
+    public CompletableFuture<List<Resource>> getResources(String sessionId) {
+        return sessionItemRepository.findResources(sessionId);
+    }
+
+    public CompletableFuture<Resource> createResource(String sessionId, Resource resource) {
+        return sessionItemRepository.createResource(sessionId, resource);
+    }
+
+    public CompletableFuture<Boolean> updateResource(String sessionId, String resourceId, ResourcePatch patch) {
+        return sessionItemRepository.updateResource(sessionId, resourceId, patch)
+                .whenComplete((updated, e) -> {
+                    if (e != null) {
+                        logger.error("Error updating session resource in Firestore", e);
+                    }
+                });
+    }
+
+    public CompletableFuture<Boolean> deleteResource(String sessionId, String resourceId) {
+        return sessionItemRepository.deleteResource(sessionId, resourceId);
+    }
+}
@@ -0,0 +1,20 @@
+package com.speakerspace.service;
+
+import com.speakerspace.model.SpeakerDashboard;
+import com.speakerspace.repository.SpeakerDashboardRepository;
+import com.speakerspace.repository.Versioned;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+
+@Service
+public class SpeakerDashboardService {
+
+    @Autowired
+    private SpeakerDashboardRepository speakerDashboardRepository;
+
+    public CompletableFuture<Versioned<SpeakerDashboard>> getDashboard(String uid) {
+        return speakerDashboardRepository.findVersionedByUid(uid);
+    }
+}
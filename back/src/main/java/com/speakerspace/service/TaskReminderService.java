@@ -0,0 +1,53 @@
+package com.speakerspace.service;
+
+import com.google.cloud.Timestamp;
+import com.speakerspace.model.Task;
+import com.speakerspace.model.TaskReminder;
+import com.speakerspace.repository.TaskReminderRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+
+@Service
+public class TaskReminderService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskReminderService.class);
+
+    @Autowired
+    private TaskReminderRepository taskReminderRepository;
+
+    public CompletableFuture<Void> onSessionDeleted(String sessionId) {
+        return taskReminderRepository.deleteBySession(sessionId)
+                .exceptionally(e -> {
+                    logger.error("Error deleting reminders of session {} from Firestore", sessionId, e);
+                    return null;
+                });
+    }
+
+    public static TaskReminder reminderFor(String sessionId, Task task, Instant now) {
+        if (task.isFinished() || task.getDeadline() == null) {
+            return null;
+        }
+        Duration frequency = ReminderSchedule.frequency(task.getReminderFrequency());
+        Instant deadline = toInstant(task.getDeadline());
+        Instant next = ReminderSchedule.nextReminder(deadline, frequency, now);
+        if (next == null) {
+            return null;
+        }
+        return new TaskReminder(TaskReminder.id(sessionId, task.getIdTask()), sessionId, task.getIdTask(),
+                task.getTitle(), task.getDeadline(), task.getReminderFrequency(), toTimestamp(next));
+    }
+
+    static Instant toInstant(Timestamp timestamp) {
+        return Instant.ofEpochSecond(timestamp.getSeconds(), timestamp.getNanos());
+    }
+
+    static Timestamp toTimestamp(Instant instant) {
+        return Timestamp.ofTimeSecondsAndNanos(instant.getEpochSecond(), instant.getNano());
+    }
+}
@@ -0,0 +1,37 @@
+package com.speakerspace.service;
+
+import com.speakerspace.model.Travel;
+import com.speakerspace.repository.TravelRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+
+@Service
+public class TravelService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TravelService.class);
+
+    @Autowired
+    private TravelRepository travelRepository;
+
+    public CompletableFuture<Travel> saveTravel(Travel travel) {
+        return travelRepository.save(travel)
+                .whenComplete((savedTravel, e) -> {
+                    if (e != null) {
+                        logger.error("Error saving travel to Firestore", e);
+                    }
+                });
+    }
+
+    public CompletableFuture<Boolean> deleteTravel(String travelId) {
+        return travelRepository.delete(travelId)
+                .whenComplete((deleted, e) -> {
+                    if (e != null) {
+                        logger.error("Error deleting travel from Firestore", e);
+                    }
+                });
+    }
+}
@@ -0,0 +1,86 @@
+package com.speakerspace.service;
+
+import com.speakerspace.dto.BlobReference;
+import com.speakerspace.storage.BlobStore;
+import com.speakerspace.storage.ContentTypes;
+import com.speakerspace.storage.StoredBlob;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+
+@Service
+public class UploadService {
+
+    static final String UPLOADS_COUNTER = "uploads.stored";
+    static final String URL_PREFIX = "/uploads/";
+
+    private static final Logger logger = LoggerFactory.getLogger(UploadService.class);
+
+    @Autowired(required = false)
+    private BlobStore blobStore;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${storage.blob.max-size:10MB}")
+    private DataSize maxSize;
+
+    public boolean isAvailable() {
+        return blobStore != null;
+    }
+
+    public BlobReference upload(MultipartFile file) throws IOException {
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("file is required");
+        }
+        String contentType = sniff(file);
+        if (contentType == null) {
+            throw new IllegalArgumentException("Only PNG, JPEG, GIF, WebP and PDF files can be uploaded");
+        }
+
+        StoredBlob blob = blobStore.store(target -> file.transferTo(target.toAbsolutePath().toFile()),
+                maxSize.toBytes());
+        Counter.builder(UPLOADS_COUNTER)
+                .tag("outcome", blob.created() ? "created" : "deduplicated")
+                .register(meterRegistry)
+                .increment();
+        if (!blob.created()) {
+            logger.debug("Upload of {} bytes matched stored blob {}", blob.size(), blob.hash());
+        }
+        return new BlobReference(blob.hash(), blob.size(), contentType, URL_PREFIX + blob.hash());
+    }
+
+    public Optional<Download> download(String hash) throws IOException {
+        Optional<Resource> resource = blobStore.open(hash);
+        if (resource.isEmpty()) {
+            return Optional.empty();
+        }
+        byte[] head;
+        try (InputStream input = resource.get().getInputStream()) {
+            head = input.readNBytes(ContentTypes.SNIFF_LENGTH);
+        }
+        String contentType = ContentTypes.sniff(head);
+        return Optional.of(new Download(resource.get(), resource.get().contentLength(),
+                contentType != null ? contentType : "application/octet-stream"));
+    }
+
+    private static String sniff(MultipartFile file) throws IOException {
+        try (InputStream input = file.getInputStream()) {
+            return ContentTypes.sniff(input.readNBytes(ContentTypes.SNIFF_LENGTH));
+        }
+    }
+
+    public record Download(Resource resource, long size, String contentType) {
+    }
+}
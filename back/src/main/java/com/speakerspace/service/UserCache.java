@@ -0,0 +1,84 @@
+package com.speakerspace.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.speakerspace.model.User;
+import com.speakerspace.repository.Versioned;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+public class UserCache implements MeterBinder {
+
+    private final Cache<String, Versioned<User>> cache;
+
+    public UserCache(@Value("${cache.users.maximum-size:10000}") long maximumSize,
+                     @Value("${cache.users.ttl:5m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public User get(String uid) {
+        Versioned<User> user = cache.getIfPresent(uid);
+        return user == null ? null : user.value();
+    }
+
+    public Versioned<User> getVersioned(String uid) {
+        return cache.getIfPresent(uid);
+    }
+
+    public void put(User user) {
+        put(new Versioned<>(user, null));
+    }
+
+    public void put(Versioned<User> user) {
+        if (user != null && user.value() != null && user.value().getUid() != null) {
+            cache.put(user.value().getUid(), user);
+        }
+    }
+
+    public void refresh(Versioned<User> user) {
+        if (user == null || user.value() == null || user.value().getUid() == null) {
+            return;
+        }
+        cache.asMap().computeIfPresent(user.value().getUid(), (uid, cached) ->
+                cached.updateTime() != null && user.updateTime() != null
+                        && !user.updateTime().isAfter(cached.updateTime()) ? cached : user);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public void invalidate(String uid) {
+        if (uid != null) {
+            cache.invalidate(uid);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "users");
+    }
+
+    public double getHitRatio() {
+        return cache.stats().hitRate();
+    }
+
+    public long getEvictionCount() {
+        return cache.stats().evictionCount();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
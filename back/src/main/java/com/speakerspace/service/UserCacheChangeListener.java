@@ -0,0 +1,36 @@
+package com.speakerspace.service;
+
+import com.speakerspace.changefeed.ChangeEvent;
+import com.speakerspace.changefeed.ChangeListener;
+import com.speakerspace.model.User;
+import com.speakerspace.repository.FirestoreCollections;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+@Component
+public class UserCacheChangeListener implements ChangeListener {
+
+    @Autowired
+    private UserCache userCache;
+
+    @Override
+    public Set<String> collections() {
+        return Set.of(FirestoreCollections.USERS);
+    }
+
+    @Override
+    public void onChange(ChangeEvent event) {
+        if (event.type() == ChangeEvent.Type.REMOVED) {
+            userCache.invalidate(event.documentId());
+        } else {
+            userCache.refresh(event.toVersioned(User.class));
+        }
+    }
+
+    @Override
+    public void onOverflow(String collection) {
+        userCache.invalidateAll();
+    }
+}
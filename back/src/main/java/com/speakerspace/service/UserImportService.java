@@ -0,0 +1,132 @@
+package com.speakerspace.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.speakerspace.model.User;
+import com.speakerspace.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+@Service
+public class UserImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserImportService.class);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserCache userCache;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${users.import.chunk-size:500}")
+    private int chunkSize;
+
+    public BulkImportResult importUsers(InputStream json) throws IOException {
+        List<BulkImportItemResult> results = new ArrayList<>();
+        List<User> chunk = new ArrayList<>(chunkSize);
+        List<Integer> chunkIndexes = new ArrayList<>(chunkSize);
+        String error = null;
+        int index = 0;
+
+        try (JsonParser parser = objectMapper.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("Expected a JSON array of users");
+            }
+
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    error = "Unexpected end of input after " + index + " items";
+                    break;
+                }
+
+                User user = toUser(index, parser.readValueAsTree(), results);
+                if (user != null) {
+                    chunk.add(user);
+                    chunkIndexes.add(index);
+                }
+                index++;
+
+                if (chunk.size() >= chunkSize) {
+                    writeChunk(chunk, chunkIndexes, results);
+                }
+            }
+        } catch (JsonProcessingException e) {
+            logger.warn("Bulk user import stopped on malformed input after {} items", index);
+            error = "Malformed JSON input after " + index + " items: " + e.getOriginalMessage();
+        }
+
+        if (!chunk.isEmpty()) {
+            writeChunk(chunk, chunkIndexes, results);
+        }
+
+        results.sort(Comparator.comparingInt(BulkImportItemResult::index));
+        return BulkImportResult.of(results, error);
+    }
+
+    private User toUser(int index, JsonNode node, List<BulkImportItemResult> results) {
+        String uid = node.hasNonNull("uid") ? node.get("uid").asText() : null;
+        try {
+            User user = objectMapper.treeToValue(node, User.class);
+            if (user.getUid() == null || user.getUid().isBlank()) {
+                results.add(BulkImportItemResult.failure(index, uid, "Missing uid"));
+                return null;
+            }
+            if (!UserRepository.isValidUid(user.getUid())) {
+                results.add(BulkImportItemResult.failure(index, uid, "Invalid uid"));
+                return null;
+            }
+            return user;
+        } catch (JsonProcessingException e) {
+            results.add(BulkImportItemResult.failure(index, uid, "Invalid user: " + e.getOriginalMessage()));
+            return null;
+        }
+    }
+
+    private void writeChunk(List<User> chunk, List<Integer> chunkIndexes, List<BulkImportItemResult> results) {
+        List<CompletableFuture<User>> writes;
+        try {
+            writes = userRepository.saveAll(chunk);
+        } catch (RuntimeException e) {
+            logger.error("Error writing user chunk to Firestore", e);
+            for (int i = 0; i < chunk.size(); i++) {
+                userCache.invalidate(chunk.get(i).getUid());
+                results.add(BulkImportItemResult.failure(chunkIndexes.get(i), chunk.get(i).getUid(), "Write failed"));
+            }
+            chunk.clear();
+            chunkIndexes.clear();
+            return;
+        }
+
+        for (int i = 0; i < chunk.size(); i++) {
+            User user = chunk.get(i);
+            int index = chunkIndexes.get(i);
+            try {
+                userCache.put(writes.get(i).join());
+                results.add(BulkImportItemResult.success(index, user.getUid()));
+            } catch (CompletionException e) {
+                userCache.invalidate(user.getUid());
+                results.add(BulkImportItemResult.failure(index, user.getUid(), "Write failed: " + e.getCause().getMessage()));
+            }
+        }
+        chunk.clear();
+        chunkIndexes.clear();
+    }
+}
@@ -1,52 +1,99 @@
 package com.speakerspace.service;
 
-import com.google.cloud.firestore.CollectionReference;
-import com.google.cloud.firestore.Firestore;
-import com.google.firebase.cloud.FirestoreClient;
+import com.google.api.gax.rpc.StatusCode;
+import com.speakerspace.config.SampledLogger;
 import com.speakerspace.model.User;
+import com.speakerspace.repository.FirestoreFutures;
+import com.speakerspace.repository.Page;
+import com.speakerspace.repository.UserRepository;
+import com.speakerspace.repository.Versioned;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 public class UserService {
 
     private static final Logger logger = LoggerFactory.getLogger(UserService.class);
-    private static final String COLLECTION_NAME = "users";
-
-    public User saveUser(User user) {
-        try {
-            logger.info("Saving user to Firestore: {}", user.getUid());
-            Firestore firestore = FirestoreClient.getFirestore();
-            CollectionReference usersCollection = firestore.collection(COLLECTION_NAME);
-
-            User existingUser = getUserByUid(user.getUid());
-            if (existingUser != null) {
-                logger.info("User already exists, updating: {}", user.getUid());
-            } else {
-                logger.info("Creating new user: {}", user.getUid());
-            }
-
-            usersCollection.document(user.getUid()).set(user).get();
-
-            return user;
-        } catch (InterruptedException | ExecutionException e) {
-            logger.error("Error saving user to Firestore", e);
-            throw new RuntimeException("Failed to save user", e);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserCache userCache;
+
+    @Autowired
+    private SampledLogger sampledLogger;
+
+    @Autowired
+    private PageSizes pageSizes;
+
+    public CompletableFuture<User> saveUser(User user) {
+        sampledLogger.debug(logger, "user-save", "Saving user to Firestore");
+
+        return userRepository.save(user)
+                .whenComplete((savedUser, e) -> {
+                    if (e != null) {
+                        userCache.invalidate(user.getUid());
+                        logger.error("Error saving user to Firestore", e);
+                    } else {
+                        userCache.put(savedUser);
+                    }
+                });
+    }
+
+    public CompletableFuture<UserWriteResult> createUserIfAbsent(User user) {
+        return userRepository.create(user)
+                .thenApply(createdUser -> {
+                    sampledLogger.info(logger, "user-created", "Created new user");
+                    userCache.put(createdUser);
+                    return new UserWriteResult(createdUser, true);
+                })
+                .exceptionallyCompose(e -> {
+                    if (FirestoreFutures.hasStatus(e, StatusCode.Code.ALREADY_EXISTS)) {
+                        userCache.invalidate(user.getUid());
+                        return getUserByUid(user.getUid())
+                                .thenApply(existingUser -> new UserWriteResult(existingUser, false));
+                    }
+                    logger.error("Error creating user in Firestore", e);
+                    return CompletableFuture.failedFuture(e);
+                });
+    }
+
+    public CompletableFuture<User> getUserByUid(String uid) {
+        User cachedUser = userCache.get(uid);
+        if (cachedUser != null) {
+            return CompletableFuture.completedFuture(cachedUser);
         }
+
+        return loadUser(uid).thenApply(user -> user == null ? null : user.value());
     }
 
-    public User getUserByUid(String uid) {
-        try {
-            Firestore firestore = FirestoreClient.getFirestore();
-            User user = firestore.collection(COLLECTION_NAME).document(uid)
-                    .get().get().toObject(User.class);
-            return user;
-        } catch (InterruptedException | ExecutionException e) {
-            logger.error("Error fetching user from Firestore", e);
-            return null;
+    public CompletableFuture<Versioned<User>> getVersionedUser(String uid) {
+        Versioned<User> cachedUser = userCache.getVersioned(uid);
+        if (cachedUser != null && cachedUser.updateTime() != null) {
+            return CompletableFuture.completedFuture(cachedUser);
         }
+
+        return loadUser(uid);
+    }
+
+    public CompletableFuture<Page<User>> listUsers(Integer pageSize, String pageToken) {
+        return userRepository.findAll(pageSizes.resolve(pageSize), pageToken);
+    }
+
+    private CompletableFuture<Versioned<User>> loadUser(String uid) {
+        return userRepository.findVersionedByUid(uid)
+                .thenApply(user -> {
+                    userCache.put(user);
+                    return user;
+                })
+                .exceptionally(e -> {
+                    logger.error("Error fetching user from Firestore", e);
+                    return null;
+                });
     }
 }
@@ -0,0 +1,6 @@
+package com.speakerspace.service;
+
+import com.speakerspace.model.User;
+
+public record UserWriteResult(User user, boolean created) {
+}
@@ -0,0 +1,159 @@
+package com.speakerspace.service;
+
+import com.speakerspace.model.Session;
+import com.speakerspace.model.Travel;
+import com.speakerspace.repository.EventRepository;
+import com.speakerspace.repository.SessionRepository;
+import com.speakerspace.repository.TravelRepository;
+import com.speakerspace.security.FirebaseAuthenticationToken;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+@Service
+public class WriteAccessService {
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private SessionRepository sessionRepository;
+
+    @Autowired
+    private TravelRepository travelRepository;
+
+    public CompletableFuture<Boolean> canSaveSession(Authentication authentication, Session session) {
+        if (isAdmin(authentication)) {
+            return CompletableFuture.completedFuture(true);
+        }
+        String uid = uid(authentication);
+        if (uid == null) {
+            return CompletableFuture.completedFuture(false);
+        }
+        if (session.getIdSession() == null) {
+            return isOrganizer(uid, session.getEvent());
+        }
+
+        return findSession(session.getIdSession()).thenCompose(previous -> {
+            if (previous == null) {
+                return isOrganizer(uid, session.getEvent());
+            }
+            String previousEvent = (String) previous.get("event");
+            boolean sameEvent = Objects.equals(previousEvent, session.getEvent());
+            boolean sameSpeakers = Objects.equals(speakerSet(previous.get("speakers")), speakerSet(session.getSpeakers()));
+
+            return isOrganizer(uid, previousEvent).thenCompose(organizer -> {
+                if (organizer) {
+                    return sameEvent ? CompletableFuture.completedFuture(true) : isOrganizer(uid, session.getEvent());
+                }
+                return CompletableFuture.completedFuture(
+                        sameEvent && sameSpeakers && speakerSet(previous.get("speakers")).contains(uid));
+            });
+        });
+    }
+
+    public CompletableFuture<Boolean> canDeleteSession(Authentication authentication, String sessionId) {
+        if (isAdmin(authentication)) {
+            return CompletableFuture.completedFuture(true);
+        }
+        String uid = uid(authentication);
+        if (uid == null) {
+            return CompletableFuture.completedFuture(false);
+        }
+
+        return findSession(sessionId).thenCompose(previous -> {
+            if (previous == null) {
+                return CompletableFuture.completedFuture(true);
+            }
+            if (speakerSet(previous.get("speakers")).contains(uid)) {
+                return CompletableFuture.completedFuture(true);
+            }
+            return isOrganizer(uid, (String) previous.get("event"));
+        });
+    }
+
+    public CompletableFuture<Boolean> canEditSessionItems(Authentication authentication, String sessionId) {
+        return canDeleteSession(authentication, sessionId);
+    }
+
+    public CompletableFuture<Boolean> canSaveTravel(Authentication authentication, Travel travel) {
+        if (isAdmin(authentication)) {
+            return CompletableFuture.completedFuture(true);
+        }
+        String uid = uid(authentication);
+        if (uid == null) {
+            return CompletableFuture.completedFuture(false);
+        }
+
+        CompletableFuture<Travel> previous = travel.getIdTravel() == null
+                ? CompletableFuture.completedFuture(null)
+                : travelRepository.findById(travel.getIdTravel());
+        return previous.thenCompose(existing -> {
+            CompletableFuture<Boolean> current = canManageTravel(uid, travel);
+            return existing == null
+                    ? current
+                    : current.thenCombine(canManageTravel(uid, existing), Boolean::logicalAnd);
+        });
+    }
+
+    public CompletableFuture<Boolean> canDeleteTravel(Authentication authentication, String travelId) {
+        if (isAdmin(authentication)) {
+            return CompletableFuture.completedFuture(true);
+        }
+        String uid = uid(authentication);
+        if (uid == null) {
+            return CompletableFuture.completedFuture(false);
+        }
+
+        return travelRepository.findById(travelId).thenCompose(previous -> previous == null
+                ? CompletableFuture.completedFuture(true)
+                : canManageTravel(uid, previous));
+    }
+
+    private CompletableFuture<Boolean> canManageTravel(String uid, Travel travel) {
+        if (uid.equals(travel.getUserId())) {
+            return CompletableFuture.completedFuture(true);
+        }
+        return isOrganizer(uid, travel.getEventId());
+    }
+
+    private CompletableFuture<Map<String, Object>> findSession(String sessionId) {
+        return sessionRepository.findFieldsById(sessionId, List.of("event", "speakers"))
+                .thenApply(versioned -> versioned.value());
+    }
+
+    private CompletableFuture<Boolean> isOrganizer(String uid, String eventId) {
+        if (eventId == null) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return eventRepository.findFieldsById(eventId, List.of("organizers"))
+                .thenApply(versioned -> versioned.value() != null
+                        && versioned.value().get("organizers") instanceof Collection<?> organizers
+                        && organizers.contains(uid));
+    }
+
+    private static Set<Object> speakerSet(Object speakers) {
+        if (!(speakers instanceof Collection<?> values)) {
+            return Set.of();
+        }
+        return Set.copyOf(values.stream().filter(Objects::nonNull).toList());
+    }
+
+    private static boolean isAdmin(Authentication authentication) {
+        return authentication instanceof FirebaseAuthenticationToken firebaseAuthentication
+                && firebaseAuthentication.isAdmin();
+    }
+
+    private static String uid(Authentication authentication) {
+        return authentication instanceof FirebaseAuthenticationToken firebaseAuthentication
+                ? firebaseAuthentication.getUid()
+                : null;
+    }
+}
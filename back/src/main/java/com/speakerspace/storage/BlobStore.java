@@ -0,0 +1,29 @@
+package com.speakerspace.storage;
+
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+public interface BlobStore {
+
+    Pattern HASH = Pattern.compile("[0-9a-f]{64}");
+
+    StoredBlob store(Upload upload, long maxSize) throws IOException;
+
+    Optional<Resource> open(String hash) throws IOException;
+
+    static void checkHash(String hash) {
+        if (hash == null || !HASH.matcher(hash).matches()) {
+            throw new IllegalArgumentException("Invalid content hash");
+        }
+    }
+
+    @FunctionalInterface
+    interface Upload {
+
+        void transferTo(Path target) throws IOException;
+    }
+}
@@ -0,0 +1,8 @@
+package com.speakerspace.storage;
+
+public class BlobTooLargeException extends IllegalArgumentException {
+
+    public BlobTooLargeException(long maxSize) {
+        super("File is larger than " + maxSize + " bytes");
+    }
+}
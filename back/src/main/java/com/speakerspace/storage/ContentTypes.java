@@ -0,0 +1,48 @@
+package com.speakerspace.storage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+public final class ContentTypes {
+
+    public static final int SNIFF_LENGTH = 12;
+
+    private static final byte[] PNG = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n'};
+    private static final byte[] JPEG = {(byte) 0xff, (byte) 0xd8, (byte) 0xff};
+    private static final byte[] GIF87 = ascii("GIF87a");
+    private static final byte[] GIF89 = ascii("GIF89a");
+    private static final byte[] RIFF = ascii("RIFF");
+    private static final byte[] WEBP = ascii("WEBP");
+    private static final byte[] PDF = ascii("%PDF-");
+
+    private ContentTypes() {
+    }
+
+    public static String sniff(byte[] head) {
+        if (startsWith(head, 0, PNG)) {
+            return "image/png";
+        }
+        if (startsWith(head, 0, JPEG)) {
+            return "image/jpeg";
+        }
+        if (startsWith(head, 0, GIF87) || startsWith(head, 0, GIF89)) {
+            return "image/gif";
+        }
+        if (startsWith(head, 0, RIFF) && startsWith(head, 8, WEBP)) {
+            return "image/webp";
+        }
+        if (startsWith(head, 0, PDF)) {
+            return "application/pdf";
+        }
+        return null;
+    }
+
+    private static boolean startsWith(byte[] head, int offset, byte[] magic) {
+        return head.length >= offset + magic.length
+                && Arrays.equals(head, offset, offset + magic.length, magic, 0, magic.length);
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
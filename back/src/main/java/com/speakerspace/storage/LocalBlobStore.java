@@ -0,0 +1,91 @@
+package com.speakerspace.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+
+@Component
+@ConditionalOnProperty(name = "storage.blob.type", havingValue = "local")
+public class LocalBlobStore implements BlobStore {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path root;
+    private final Path uploads;
+
+    public LocalBlobStore(@Value("${storage.blob.local.root:${java.io.tmpdir}/speaker-space-blobs}") Path root)
+            throws IOException {
+        this.root = root;
+        this.uploads = root.resolve("tmp");
+        Files.createDirectories(uploads);
+    }
+
+    @Override
+    public StoredBlob store(Upload upload, long maxSize) throws IOException {
+        Path part = Files.createTempFile(uploads, "upload-", ".part");
+        try {
+            upload.transferTo(part);
+            long size = Files.size(part);
+            if (size > maxSize) {
+                throw new BlobTooLargeException(maxSize);
+            }
+
+            String hash = hash(part);
+            Path target = path(hash);
+            if (Files.exists(target)) {
+                return new StoredBlob(hash, size, false);
+            }
+            Files.createDirectories(target.getParent());
+            Files.move(part, target, StandardCopyOption.ATOMIC_MOVE);
+            return new StoredBlob(hash, size, true);
+        } finally {
+            Files.deleteIfExists(part);
+        }
+    }
+
+    @Override
+    public Optional<Resource> open(String hash) {
+        BlobStore.checkHash(hash);
+        Path path = path(hash);
+        return Files.isRegularFile(path) ? Optional.of(new FileSystemResource(path)) : Optional.empty();
+    }
+
+    private Path path(String hash) {
+        return root.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+    }
+
+    private static String hash(Path file) throws IOException {
+        MessageDigest digest = sha256();
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,4 @@
+package com.speakerspace.storage;
+
+public record StoredBlob(String hash, long size, boolean created) {
+}
@@ -0,0 +1,149 @@
+package com.speakerspace.benchmark;
+
+import com.speakerspace.config.CookieService;
+import com.speakerspace.config.SampledLogger;
+import com.speakerspace.repository.RevokedSessionRepository;
+import com.speakerspace.security.FirebaseTokenCache;
+import com.speakerspace.security.FirebaseTokenFilter;
+import com.speakerspace.security.IdTokenVerifier;
+import com.speakerspace.security.PublicRoutes;
+import com.speakerspace.security.SessionManager;
+import com.speakerspace.security.VerifiedIdToken;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AuthFilterBenchmark {
+
+    private static final String ADMIN_EMAIL = "admin@speaker-space.io";
+    private static final FilterChain NOOP_CHAIN = (request, response) -> { };
+
+    private FirebaseTokenFilter filter;
+    private FirebaseTokenCache firebaseTokenCache;
+    private SessionManager sessionManager;
+    private String token;
+    private String sessionCookie;
+
+    @State(Scope.Thread)
+    public static class Requests {
+        MockHttpServletRequest bearerRequest;
+        MockHttpServletRequest cookieRequest;
+        MockHttpServletRequest sessionRequest;
+        MockHttpServletRequest anonymousRequest;
+        MockHttpServletResponse response;
+
+        @Setup(Level.Trial)
+        public void setUp(AuthFilterBenchmark benchmark) {
+            bearerRequest = request("/api/events/ev-42/detail");
+            bearerRequest.addHeader("Authorization", "Bearer " + benchmark.token);
+
+            cookieRequest = request("/api/sessions/s-17");
+            cookieRequest.setCookies(BenchmarkData.browserCookies(benchmark.token));
+
+            sessionRequest = request("/api/dashboard/uid-speaker");
+            sessionRequest.setCookies(BenchmarkData.browserCookies(benchmark.sessionCookie));
+
+            anonymousRequest = request("/api/public/events");
+            anonymousRequest.setCookies(new Cookie("_ga", "GA1.1.1234567890.1700000000"));
+
+            response = new MockHttpServletResponse();
+        }
+
+        private static MockHttpServletRequest request(String uri) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+            request.setContextPath("/api");
+            request.setRemoteAddr("10.0.0.12");
+            return request;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        token = BenchmarkData.idToken();
+
+        VerifiedIdToken decodedToken = new VerifiedIdToken("uid-speaker", "speaker@example.com", "Jane Speaker", null,
+                Map.of("exp", System.currentTimeMillis() / 1000 + 3600));
+        IdTokenVerifier idTokenVerifier = idToken -> decodedToken;
+
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        firebaseTokenCache = new FirebaseTokenCache(idTokenVerifier, meterRegistry, 10_000);
+
+        CookieService cookieService = new CookieService();
+        ReflectionTestUtils.setField(cookieService, "sampledLogger", new SampledLogger(meterRegistry, Duration.ofSeconds(10)));
+        RevokedSessionRepository revokedSessionRepository = new RevokedSessionRepository() {
+            @Override
+            public CompletableFuture<Boolean> isRevoked(String sessionId) {
+                return CompletableFuture.completedFuture(false);
+            }
+        };
+        sessionManager = new SessionManager(cookieService, revokedSessionRepository, true, "benchmark-secret", false,
+                Duration.ofDays(7), Duration.ofDays(30), Duration.ofMinutes(1), 10_000);
+        MockHttpServletResponse loginResponse = new MockHttpServletResponse();
+        sessionManager.start(decodedToken, token, loginResponse);
+        sessionCookie = loginResponse.getCookie("auth_token").getValue();
+
+        filter = new FirebaseTokenFilter();
+        ReflectionTestUtils.setField(filter, "firebaseTokenCache", firebaseTokenCache);
+        ReflectionTestUtils.setField(filter, "cookieService", cookieService);
+        ReflectionTestUtils.setField(filter, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(filter, "sampledLogger", new SampledLogger(meterRegistry, Duration.ofSeconds(10)));
+        ReflectionTestUtils.setField(filter, "publicRoutes", new PublicRoutes());
+        ReflectionTestUtils.setField(filter, "sessionManager", sessionManager);
+        ReflectionTestUtils.setField(filter, "adminEmail", ADMIN_EMAIL);
+    }
+
+    @TearDown(Level.Invocation)
+    public void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public Object bearerTokenCached(Requests requests) throws ServletException, IOException {
+        filter.doFilter(requests.bearerRequest, requests.response, NOOP_CHAIN);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @Benchmark
+    public Object cookieTokenCached(Requests requests) throws ServletException, IOException {
+        filter.doFilter(requests.cookieRequest, requests.response, NOOP_CHAIN);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @Benchmark
+    public Object sessionCookie(Requests requests) throws ServletException, IOException {
+        filter.doFilter(requests.sessionRequest, requests.response, NOOP_CHAIN);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @Benchmark
+    public Object bearerTokenUncached(Requests requests) throws ServletException, IOException {
+        firebaseTokenCache.invalidate(token);
+        filter.doFilter(requests.bearerRequest, requests.response, NOOP_CHAIN);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @Benchmark
+    public Object publicPath(Requests requests) throws ServletException, IOException {
+        filter.doFilter(requests.anonymousRequest, requests.response, NOOP_CHAIN);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
@@ -0,0 +1,152 @@
+package com.speakerspace.benchmark;
+
+import com.google.cloud.Timestamp;
+import com.speakerspace.model.Event;
+import com.speakerspace.model.Faq;
+import com.speakerspace.model.Media;
+import com.speakerspace.model.Picture;
+import jakarta.servlet.http.Cookie;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+final class BenchmarkData {
+
+    private static final Timestamp START = Timestamp.ofTimeSecondsAndNanos(1_767_600_000L, 0);
+    private static final Timestamp END = Timestamp.ofTimeSecondsAndNanos(1_767_772_800L, 0);
+
+    private BenchmarkData() {
+    }
+
+    static String idToken() {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String header = "{\"alg\":\"RS256\",\"kid\":\"0d0b6d3c2f1e4a5b6c7d8e9f0a1b2c3d4e5f6a7b\",\"typ\":\"JWT\"}";
+        String payload = "{\"name\":\"Jane Speaker\",\"picture\":\"https://lh3.googleusercontent.com/a/ACg8ocJ\","
+                + "\"iss\":\"https://securetoken.google.com/speaker-space\",\"aud\":\"speaker-space\","
+                + "\"auth_time\":1767600000,\"user_id\":\"uid-speaker\",\"sub\":\"uid-speaker\","
+                + "\"iat\":1767600000,\"exp\":1767603600,\"email\":\"speaker@example.com\",\"email_verified\":true,"
+                + "\"firebase\":{\"identities\":{\"google.com\":[\"109876543210987654321\"],"
+                + "\"email\":[\"speaker@example.com\"]},\"sign_in_provider\":\"google.com\"}}";
+        byte[] signature = new byte[256];
+        for (int i = 0; i < signature.length; i++) {
+            signature[i] = (byte) (i * 31);
+        }
+        return encoder.encodeToString(header.getBytes(StandardCharsets.UTF_8)) + "."
+                + encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8)) + "."
+                + encoder.encodeToString(signature);
+    }
+
+    static Cookie[] browserCookies(String token) {
+        return new Cookie[] {
+                new Cookie("_ga", "GA1.1.1234567890.1700000000"),
+                new Cookie("_ga_X1Y2Z3", "GS1.1.1700000000.12.1.1700003600.0.0.0"),
+                new Cookie("_gid", "GA1.1.987654321.1700000000"),
+                new Cookie("cookie_consent", "analytics=true;marketing=false"),
+                new Cookie("lang", "fr"),
+                new Cookie("auth_token", token)
+        };
+    }
+
+    static Map<String, Object> userDocument() {
+        Map<String, Object> data = new HashMap<>();
+        data.put("uid", "uid-speaker");
+        data.put("email", "speaker@example.com");
+        data.put("displayName", "Jane Speaker");
+        data.put("photoURL", "https://lh3.googleusercontent.com/a/ACg8ocJ");
+        return data;
+    }
+
+    static Map<String, Object> sessionDocument() {
+        Map<String, Object> data = new HashMap<>();
+        data.put("title", "Scaling Firestore reads in Spring Boot");
+        data.put("description", "A deep dive into batching, caching and projections.");
+        data.put("startDate", START);
+        data.put("endDate", END);
+        data.put("location", "Room A");
+        data.put("openfeedbackLink", "https://openfeedback.io/speaker-space/0/s-17");
+        data.put("event", "ev-42");
+        data.put("speakers", List.of("uid-speaker", "uid-cospeaker"));
+        return data;
+    }
+
+    static List<Map<String, Object>> taskDocuments(int taskCount) {
+        List<Map<String, Object>> tasks = new ArrayList<>();
+        for (int i = 0; i < taskCount; i++) {
+            Map<String, Object> task = new HashMap<>();
+            task.put("title", "Send slides draft " + i);
+            task.put("description", "Share a first version of the slides with the program committee");
+            task.put("reminderFrequency", "WEEKLY");
+            task.put("deadline", START);
+            task.put("finished", i % 3 == 0);
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    static Map<String, Object> eventDocument(int pictureCount) {
+        List<Map<String, Object>> pictures = new ArrayList<>();
+        for (int i = 0; i < pictureCount; i++) {
+            Map<String, Object> picture = new HashMap<>();
+            picture.put("picture", "https://storage.googleapis.com/speaker-space/events/ev-42/" + i + ".jpg");
+            picture.put("title", "Venue picture " + i);
+            pictures.add(picture);
+        }
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("eventName", "Speaker Space Conf");
+        data.put("description", "Two days of talks about the JVM and the cloud.");
+        data.put("startDate", START);
+        data.put("endDate", END);
+        data.put("road", "10 rue de la Paix");
+        data.put("zipCode", "75002");
+        data.put("city", "Paris");
+        data.put("private", false);
+        data.put("webLinkUrl", "https://conf.speaker-space.io");
+        data.put("contactEmail", "orga@speaker-space.io");
+        data.put("finish", false);
+        data.put("picture", pictures);
+        data.put("organizers", List.of("uid-orga-1", "uid-orga-2"));
+        data.put("sessions", ids("s-", 40));
+        data.put("groups", ids("g-", 5));
+        data.put("travels", ids("t-", 30));
+        return data;
+    }
+
+    static Event event(int faqCount) {
+        List<Faq> faqs = new ArrayList<>();
+        for (int i = 0; i < faqCount; i++) {
+            List<Media> medias = new ArrayList<>();
+            for (int j = 0; j < 3; j++) {
+                medias.add(new Media(j, "https://storage.googleapis.com/speaker-space/faq/" + i + "/" + j + ".png",
+                        "Media " + j, null));
+            }
+            faqs.add(new Faq(i, "How do I get to the venue? (" + i + ")",
+                    "Take line 3 of the metro and get off at Opera, the venue is a five minute walk away.",
+                    "https://maps.google.com/?q=Opera+Paris", medias));
+        }
+
+        List<Picture> pictures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            pictures.add(new Picture("picture-" + i,
+                    "https://storage.googleapis.com/speaker-space/events/ev-42/" + i + ".jpg", "Venue picture " + i,
+                    null));
+        }
+
+        return new Event("ev-42", "Speaker Space Conf", "Two days of talks about the JVM and the cloud.",
+                START, END, "10 rue de la Paix", "75002", "Paris", false, "https://conf.speaker-space.io",
+                "orga@speaker-space.io", false, faqs, pictures,
+                List.of("uid-orga-1", "uid-orga-2"), ids("s-", 40), ids("g-", 5), ids("t-", 30));
+    }
+
+    private static List<String> ids(String prefix, int count) {
+        List<String> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(prefix + i);
+        }
+        return ids;
+    }
+}
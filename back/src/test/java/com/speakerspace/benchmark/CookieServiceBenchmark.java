@@ -0,0 +1,53 @@
+package com.speakerspace.benchmark;
+
+import com.speakerspace.config.CookieService;
+import jakarta.servlet.http.Cookie;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CookieServiceBenchmark {
+
+    private CookieService cookieService;
+    private MockHttpServletRequest browserRequest;
+    private MockHttpServletRequest anonymousRequest;
+    private MockHttpServletRequest noCookieRequest;
+
+    @Setup
+    public void setUp() {
+        cookieService = new CookieService();
+
+        browserRequest = new MockHttpServletRequest("GET", "/api/dashboard/uid-speaker");
+        browserRequest.setCookies(BenchmarkData.browserCookies(BenchmarkData.idToken()));
+
+        anonymousRequest = new MockHttpServletRequest("GET", "/api/events");
+        anonymousRequest.setCookies(
+                new Cookie("_ga", "GA1.1.1234567890.1700000000"),
+                new Cookie("_gid", "GA1.1.987654321.1700000000"),
+                new Cookie("cookie_consent", "analytics=false;marketing=false"));
+
+        noCookieRequest = new MockHttpServletRequest("GET", "/api/events");
+    }
+
+    @Benchmark
+    public String authCookiePresent() {
+        return cookieService.getAuthTokenFromCookies(browserRequest);
+    }
+
+    @Benchmark
+    public String authCookieMissing() {
+        return cookieService.getAuthTokenFromCookies(anonymousRequest);
+    }
+
+    @Benchmark
+    public String noCookies() {
+        return cookieService.getAuthTokenFromCookies(noCookieRequest);
+    }
+}
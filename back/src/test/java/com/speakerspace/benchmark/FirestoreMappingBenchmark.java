@@ -0,0 +1,102 @@
+package com.speakerspace.benchmark;
+
+import com.google.cloud.NoCredentials;
+import com.google.cloud.firestore.DocumentReference;
+import com.google.cloud.firestore.Firestore;
+import com.google.cloud.firestore.FirestoreOptions;
+import com.google.cloud.firestore.encoding.CustomClassMapper;
+import com.speakerspace.model.Event;
+import com.speakerspace.model.Session;
+import com.speakerspace.model.Task;
+import com.speakerspace.model.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FirestoreMappingBenchmark {
+
+    private Firestore firestore;
+    private DocumentReference userRef;
+    private DocumentReference sessionRef;
+    private DocumentReference eventRef;
+    private List<DocumentReference> taskRefs;
+    private Map<String, Object> userData;
+    private Map<String, Object> sessionData;
+    private Map<String, Object> eventData;
+    private List<Map<String, Object>> taskData;
+    private User user;
+    private Session session;
+
+    @Setup
+    public void setUp() {
+        firestore = FirestoreOptions.newBuilder()
+                .setProjectId("speaker-space-benchmark")
+                .setCredentials(NoCredentials.getInstance())
+                .build()
+                .getService();
+
+        userRef = firestore.collection("users").document("uid-speaker");
+        sessionRef = firestore.collection("sessions").document("s-17");
+        eventRef = firestore.collection("events").document("ev-42");
+
+        userData = BenchmarkData.userDocument();
+        sessionData = BenchmarkData.sessionDocument();
+        eventData = BenchmarkData.eventDocument(20);
+        taskData = BenchmarkData.taskDocuments(12);
+        taskRefs = new ArrayList<>();
+        for (int i = 0; i < taskData.size(); i++) {
+            taskRefs.add(sessionRef.collection("tasks").document("task-" + i));
+        }
+
+        user = CustomClassMapper.convertToCustomClass(userData, User.class, userRef);
+        session = CustomClassMapper.convertToCustomClass(sessionData, Session.class, sessionRef);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        firestore.close();
+    }
+
+    @Benchmark
+    public User readUser() {
+        return CustomClassMapper.convertToCustomClass(userData, User.class, userRef);
+    }
+
+    @Benchmark
+    public Session readSession() {
+        return CustomClassMapper.convertToCustomClass(sessionData, Session.class, sessionRef);
+    }
+
+    @Benchmark
+    public List<Task> readSessionTasks() {
+        List<Task> tasks = new ArrayList<>(taskData.size());
+        for (int i = 0; i < taskData.size(); i++) {
+            tasks.add(CustomClassMapper.convertToCustomClass(taskData.get(i), Task.class, taskRefs.get(i)));
+        }
+        return tasks;
+    }
+
+    @Benchmark
+    public Event readEvent() {
+        return CustomClassMapper.convertToCustomClass(eventData, Event.class, eventRef);
+    }
+
+    @Benchmark
+    public Object writeUser() {
+        return CustomClassMapper.convertToPlainJavaTypes(user);
+    }
+
+    @Benchmark
+    public Object writeSession() {
+        return CustomClassMapper.convertToPlainJavaTypes(session);
+    }
+}
@@ -0,0 +1,78 @@
+package com.speakerspace.benchmark;
+
+import com.speakerspace.dto.SearchHit;
+import com.speakerspace.search.SearchDocument;
+import com.speakerspace.search.SearchIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SearchIndexBenchmark {
+
+    private static final String[] CITIES = {"Paris", "Nantes", "Lille", "Lyon", "Bordeaux", "Toulouse", "Marseille",
+            "Rennes", "Strasbourg", "Montpellier", "Brussels", "Geneva", "Amsterdam", "Berlin", "London"};
+    private static final String[] WORDS = {"kotlin", "java", "spring", "cloud", "kubernetes", "security", "angular",
+            "firestore", "observability", "performance", "architecture", "testing", "serverless", "devops", "data",
+            "streaming", "accessibility", "design", "mobile", "compose", "reactive", "virtual", "threads", "graal",
+            "native", "containers", "platform", "engineering", "frontend", "backend", "machine", "learning"};
+
+    @Param({"1000", "5000"})
+    private int eventCount;
+
+    private SearchIndex searchIndex;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        searchIndex = new SearchIndex();
+        for (int e = 0; e < eventCount; e++) {
+            String eventId = "event-" + e;
+            String eventName = "DevConf " + CITIES[e % CITIES.length] + " " + (2000 + e % 30);
+            searchIndex.replace("events/" + eventId, List.of(new SearchDocument(SearchDocument.Type.EVENT, eventId,
+                    eventId, eventName, List.of(
+                            new SearchDocument.Field(eventName, 3f),
+                            new SearchDocument.Field(CITIES[e % CITIES.length], 2f),
+                            new SearchDocument.Field(sentence(random, 30), 1f)))));
+            for (int s = 0; s < 4; s++) {
+                String sessionId = eventId + "-session-" + s;
+                String title = sentence(random, 5);
+                searchIndex.replace("sessions/" + sessionId, List.of(new SearchDocument(SearchDocument.Type.SESSION,
+                        sessionId, eventId, title, List.of(
+                                new SearchDocument.Field(title, 3f),
+                                new SearchDocument.Field(sentence(random, 60), 1f)))));
+            }
+        }
+    }
+
+    @Benchmark
+    public List<SearchHit> exactTerms() {
+        return searchIndex.search("kotlin nantes", Set.of(), 20);
+    }
+
+    @Benchmark
+    public List<SearchHit> prefix() {
+        return searchIndex.search("observ", Set.of(), 20);
+    }
+
+    @Benchmark
+    public List<SearchHit> typo() {
+        return searchIndex.search("kubernetse", Set.of(), 20);
+    }
+
+    private static String sentence(Random random, int words) {
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            sentence.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        return sentence.toString();
+    }
+}
@@ -0,0 +1,89 @@
+package com.speakerspace.changefeed;
+
+import com.google.cloud.Timestamp;
+import com.google.cloud.firestore.DocumentChange;
+import com.google.cloud.firestore.QueryDocumentSnapshot;
+import com.google.cloud.firestore.QuerySnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class CollectionCursorTest {
+
+    private CollectionCursor cursor;
+
+    @BeforeEach
+    void setUp() {
+        cursor = new CollectionCursor("events");
+    }
+
+    @Test
+    void advance_OnFirstSnapshot_ShouldEmitEveryDocumentAsAdded() {
+        List<ChangeEvent> events = cursor.advance(fullSnapshot(document("a", 1), document("b", 1)));
+
+        assertEquals(List.of("a:ADDED", "b:ADDED"), describe(events));
+        assertEquals(2, cursor.size());
+    }
+
+    @Test
+    void advance_ShouldFollowDocumentChangesAndSkipReplays() {
+        cursor.advance(fullSnapshot(document("a", 1), document("b", 1)));
+
+        List<ChangeEvent> events = cursor.advance(changes(
+                change(DocumentChange.Type.MODIFIED, document("a", 2)),
+                change(DocumentChange.Type.MODIFIED, document("b", 1)),
+                change(DocumentChange.Type.ADDED, document("c", 3)),
+                change(DocumentChange.Type.REMOVED, document("b", 1)),
+                change(DocumentChange.Type.REMOVED, document("unknown", 1))));
+
+        assertEquals(List.of("a:MODIFIED", "c:ADDED", "b:REMOVED"), describe(events));
+        assertEquals(2, cursor.size());
+    }
+
+    @Test
+    void advance_AfterResync_ShouldOnlyEmitWhatChangedWhileDisconnected() {
+        cursor.advance(fullSnapshot(document("a", 1), document("b", 1), document("c", 1)));
+        cursor.resync();
+
+        List<ChangeEvent> events = cursor.advance(fullSnapshot(document("a", 1), document("b", 5), document("d", 5)));
+
+        assertEquals(List.of("b:MODIFIED", "d:ADDED", "c:REMOVED"), describe(events));
+        assertNull(events.get(2).document());
+        assertEquals(3, cursor.size());
+    }
+
+    private static List<String> describe(List<ChangeEvent> events) {
+        return events.stream().map(event -> event.documentId() + ":" + event.type()).toList();
+    }
+
+    private static QuerySnapshot fullSnapshot(QueryDocumentSnapshot... documents) {
+        QuerySnapshot snapshot = mock(QuerySnapshot.class);
+        when(snapshot.getDocuments()).thenReturn(Arrays.asList(documents));
+        return snapshot;
+    }
+
+    private static QuerySnapshot changes(DocumentChange... changes) {
+        QuerySnapshot snapshot = mock(QuerySnapshot.class);
+        when(snapshot.getDocumentChanges()).thenReturn(Arrays.asList(changes));
+        return snapshot;
+    }
+
+    private static DocumentChange change(DocumentChange.Type type, QueryDocumentSnapshot document) {
+        DocumentChange change = mock(DocumentChange.class);
+        when(change.getType()).thenReturn(type);
+        when(change.getDocument()).thenReturn(document);
+        return change;
+    }
+
+    private static QueryDocumentSnapshot document(String id, long updateSeconds) {
+        QueryDocumentSnapshot document = mock(QueryDocumentSnapshot.class);
+        when(document.getId()).thenReturn(id);
+        when(document.getUpdateTime()).thenReturn(Timestamp.ofTimeSecondsAndNanos(updateSeconds, 0));
+        return document;
+    }
+}
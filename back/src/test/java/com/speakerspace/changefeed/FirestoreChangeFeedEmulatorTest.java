@@ -0,0 +1,112 @@
+package com.speakerspace.changefeed;
+
+import com.google.cloud.firestore.Firestore;
+import com.google.cloud.firestore.FirestoreOptions;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("emulator")
+@EnabledIfEnvironmentVariable(named = "FIRESTORE_EMULATOR_HOST", matches = ".+")
+public class FirestoreChangeFeedEmulatorTest {
+
+    private final BlockingQueue<ChangeEvent> received = new LinkedBlockingQueue<>();
+
+    private String collection;
+    private Firestore firestore;
+    private ChangeEventBus changeEventBus;
+    private FirestoreChangeFeed changeFeed;
+
+    @BeforeEach
+    void setUp() {
+        collection = "changefeed-" + UUID.randomUUID();
+        firestore = FirestoreOptions.newBuilder()
+                .setProjectId("demo-speaker-space")
+                .setEmulatorHost(System.getenv("FIRESTORE_EMULATOR_HOST"))
+                .build()
+                .getService();
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        changeEventBus = new ChangeEventBus(List.of(new RecordingListener()), meterRegistry, 100, Duration.ofSeconds(5));
+        changeFeed = new FirestoreChangeFeed(firestore, changeEventBus, meterRegistry, List.of(collection),
+                Duration.ofMillis(100), Duration.ofSeconds(1));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        changeFeed.stop();
+        changeEventBus.destroy();
+        firestore.recursiveDelete(firestore.collection(collection)).get();
+        firestore.close();
+    }
+
+    @Test
+    void changeFeed_ShouldDeliverAddsUpdatesAndDeletesInOrder() throws Exception {
+        changeFeed.start();
+
+        firestore.collection(collection).document("a").set(Map.of("title", "first")).get();
+        assertEquals(Set.of("a:ADDED"), next(1));
+
+        firestore.collection(collection).document("a").set(Map.of("title", "second")).get();
+        assertEquals(Set.of("a:MODIFIED"), next(1));
+
+        firestore.collection(collection).document("a").delete().get();
+        assertEquals(Set.of("a:REMOVED"), next(1));
+    }
+
+    @Test
+    void changeFeed_AfterRestart_ShouldResumeWithoutDuplicates() throws Exception {
+        firestore.collection(collection).document("a").set(Map.of("title", "a")).get();
+        firestore.collection(collection).document("b").set(Map.of("title", "b")).get();
+        firestore.collection(collection).document("d").set(Map.of("title", "d")).get();
+        changeFeed.start();
+        assertEquals(Set.of("a:ADDED", "b:ADDED", "d:ADDED"), next(3));
+
+        changeFeed.stop();
+        firestore.collection(collection).document("a").set(Map.of("title", "a2")).get();
+        firestore.collection(collection).document("b").delete().get();
+        firestore.collection(collection).document("c").set(Map.of("title", "c")).get();
+        changeFeed.start();
+
+        assertEquals(Set.of("a:MODIFIED", "b:REMOVED", "c:ADDED"), next(3));
+        assertNull(received.poll(500, TimeUnit.MILLISECONDS));
+    }
+
+    private Set<String> next(int count) throws InterruptedException {
+        Set<String> events = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            ChangeEvent event = received.poll(10, TimeUnit.SECONDS);
+            assertNotNull(event, "Expected " + count + " change events, got " + events);
+            events.add(event.documentId() + ":" + event.type());
+        }
+        return events;
+    }
+
+    private class RecordingListener implements ChangeListener {
+
+        @Override
+        public Set<String> collections() {
+            return Set.of(collection);
+        }
+
+        @Override
+        public void onChange(ChangeEvent event) {
+            received.add(event);
+        }
+    }
+}
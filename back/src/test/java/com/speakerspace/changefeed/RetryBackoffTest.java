@@ -0,0 +1,25 @@
+package com.speakerspace.changefeed;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RetryBackoffTest {
+
+    @Test
+    void nextDelayMillis_ShouldDoubleUpToMaxDelayAndRestartAfterReset() {
+        RetryBackoff backoff = new RetryBackoff(Duration.ofSeconds(1), Duration.ofSeconds(5));
+
+        assertEquals(1000, backoff.nextDelayMillis());
+        assertEquals(2000, backoff.nextDelayMillis());
+        assertEquals(4000, backoff.nextDelayMillis());
+        assertEquals(5000, backoff.nextDelayMillis());
+        assertEquals(5000, backoff.nextDelayMillis());
+
+        backoff.reset();
+
+        assertEquals(1000, backoff.nextDelayMillis());
+    }
+}
@@ -0,0 +1,40 @@
+package com.speakerspace.config;
+
+import com.google.api.gax.retrying.RetrySettings;
+import com.google.cloud.NoCredentials;
+import com.google.cloud.ServiceOptions;
+import com.google.cloud.firestore.FirestoreOptions;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class FirestoreClientSettingsTest {
+
+    @Test
+    void apply_ShouldOnlyChangeRetryAttemptsAndDelays() {
+        FirestoreClientSettings settings = new FirestoreClientSettings();
+        ReflectionTestUtils.setField(settings, "channelPoolSize", 4);
+        ReflectionTestUtils.setField(settings, "keepAliveTime", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(settings, "keepAliveTimeout", Duration.ofSeconds(10));
+        ReflectionTestUtils.setField(settings, "maxAttempts", 5);
+        ReflectionTestUtils.setField(settings, "initialRetryDelay", Duration.ofMillis(100));
+        ReflectionTestUtils.setField(settings, "maxRetryDelay", Duration.ofSeconds(5));
+
+        RetrySettings retrySettings = settings.apply(FirestoreOptions.newBuilder()
+                        .setProjectId("speaker-space-test")
+                        .setCredentials(NoCredentials.getInstance()))
+                .build()
+                .getRetrySettings();
+
+        RetrySettings defaults = ServiceOptions.getDefaultRetrySettings();
+        assertEquals(5, retrySettings.getMaxAttempts());
+        assertEquals(Duration.ofMillis(100), retrySettings.getInitialRetryDelayDuration());
+        assertEquals(Duration.ofSeconds(5), retrySettings.getMaxRetryDelayDuration());
+        assertEquals(defaults.getInitialRpcTimeoutDuration(), retrySettings.getInitialRpcTimeoutDuration());
+        assertEquals(defaults.getMaxRpcTimeoutDuration(), retrySettings.getMaxRpcTimeoutDuration());
+        assertEquals(defaults.getTotalTimeoutDuration(), retrySettings.getTotalTimeoutDuration());
+    }
+}
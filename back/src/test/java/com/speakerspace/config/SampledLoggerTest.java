@@ -0,0 +1,100 @@
+package com.speakerspace.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SampledLoggerTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(SampledLoggerTest.class);
+
+    private SimpleMeterRegistry meterRegistry;
+    private ListAppender<ILoggingEvent> appender;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        appender = new ListAppender<>();
+        appender.start();
+        logbackLogger().addAppender(appender);
+        logbackLogger().setLevel(Level.DEBUG);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logbackLogger().detachAppender(appender);
+        logbackLogger().setLevel(null);
+    }
+
+    @Test
+    void info_WithinInterval_ShouldLogOnceAndCountEveryEvent() {
+        SampledLogger sampledLogger = new SampledLogger(meterRegistry, Duration.ofHours(1));
+
+        for (int i = 0; i < 5; i++) {
+            sampledLogger.info(logger, "user-created", "Created new user");
+        }
+
+        assertEquals(1, appender.list.size());
+        assertEquals(5, meterRegistry.get(SampledLogger.EVENTS_COUNTER).tag("reason", "user-created").counter().count());
+    }
+
+    @Test
+    void info_AfterInterval_ShouldReportSuppressedCount() {
+        SampledLogger sampledLogger = new SampledLogger(meterRegistry, Duration.ofMillis(20));
+
+        sampledLogger.info(logger, "user-created", "Created new user");
+        sampledLogger.info(logger, "user-created", "Created new user");
+        sampledLogger.info(logger, "user-created", "Created new user");
+        sleep(30);
+        sampledLogger.info(logger, "user-created", "Created new user");
+
+        assertEquals(2, appender.list.size());
+        ILoggingEvent last = appender.list.get(1);
+        assertTrue(last.getKeyValuePairs().stream()
+                .anyMatch(pair -> pair.key.equals("suppressed") && Long.valueOf(2).equals(pair.value)));
+    }
+
+    @Test
+    void info_WithDifferentReasons_ShouldSampleIndependently() {
+        SampledLogger sampledLogger = new SampledLogger(meterRegistry, Duration.ofHours(1));
+
+        sampledLogger.info(logger, "auth-cookie-set", "Setting auth cookie");
+        sampledLogger.info(logger, "auth-cookie-cleared", "Clearing auth cookie");
+
+        assertEquals(2, appender.list.size());
+    }
+
+    @Test
+    void debug_WhenLevelDisabled_ShouldOnlyCount() {
+        logbackLogger().setLevel(Level.INFO);
+        SampledLogger sampledLogger = new SampledLogger(meterRegistry, Duration.ZERO);
+
+        sampledLogger.debug(logger, "user-save", "Saving user to Firestore");
+
+        assertTrue(appender.list.isEmpty());
+        assertEquals(1, meterRegistry.get(SampledLogger.EVENTS_COUNTER).tag("reason", "user-save").counter().count());
+    }
+
+    private static ch.qos.logback.classic.Logger logbackLogger() {
+        return (ch.qos.logback.classic.Logger) logger;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -1,23 +1,38 @@
 package com.speakerspace.controller;
 
-import com.google.firebase.auth.FirebaseAuth;
-import com.google.firebase.auth.FirebaseToken;
-import com.speakerspace.config.CookieService;
 import com.speakerspace.config.FirebaseTokenRequest;
 import com.speakerspace.model.User;
+import com.speakerspace.repository.Versioned;
+import com.speakerspace.security.FirebaseTokenCache;
+import com.speakerspace.security.SessionManager;
+import com.speakerspace.security.VerifiedIdToken;
+import com.speakerspace.service.BulkImportItemResult;
+import com.speakerspace.service.BulkImportResult;
+import com.speakerspace.service.UserImportService;
 import com.speakerspace.service.UserService;
+import com.speakerspace.service.UserWriteResult;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -31,22 +46,28 @@ public class AuthControllerTest {
     private UserService userService;
 
     @Mock
-    private CookieService cookieService;
+    private UserImportService userImportService;
 
     @Mock
-    private FirebaseAuth firebaseAuth;
+    private SessionManager sessionManager;
 
     @Mock
-    private HttpServletResponse response;
+    private FirebaseTokenCache firebaseTokenCache;
 
     @Mock
-    private FirebaseToken firebaseToken;
+    private HttpServletResponse response;
+
+    @Spy
+    private ConditionalResponses conditionalResponses = new ConditionalResponses(Duration.ZERO);
 
     @InjectMocks
     private AuthController authController;
 
+    private static final Instant UPDATE_TIME = Instant.parse("2025-03-01T10:15:30.123456Z");
+
     private User testUser;
     private FirebaseTokenRequest tokenRequest;
+    private VerifiedIdToken idToken;
 
     @BeforeEach
     void setUp() {
@@ -59,56 +80,57 @@ public class AuthControllerTest {
         tokenRequest = new FirebaseTokenRequest();
         tokenRequest.idToken = "valid-token-123";
 
-        when(firebaseToken.getUid()).thenReturn(testUser.getUid());
-        when(firebaseToken.getEmail()).thenReturn(testUser.getEmail());
-        when(firebaseToken.getName()).thenReturn(testUser.getDisplayName());
-        when(firebaseToken.getPicture()).thenReturn(testUser.getPhotoURL());
+        idToken = new VerifiedIdToken(testUser.getUid(), testUser.getEmail(), testUser.getDisplayName(),
+                testUser.getPhotoURL(), Map.of());
     }
 
     @Test
     void login_WithValidTokenAndExistingUser_ShouldReturnUser() throws Exception {
-        when(firebaseAuth.verifyIdToken(anyString())).thenReturn(firebaseToken);
-        when(userService.getUserByUid(anyString())).thenReturn(testUser);
+        when(firebaseTokenCache.verifyIdToken(anyString())).thenReturn(idToken);
+        when(userService.getUserByUid(anyString())).thenReturn(CompletableFuture.completedFuture(testUser));
 
-        ResponseEntity<?> responseEntity = authController.login(tokenRequest, this.response);
+        ResponseEntity<?> responseEntity = authController.login(tokenRequest, this.response).join();
 
         assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
         assertEquals(testUser, responseEntity.getBody());
 
-        verify(firebaseAuth).verifyIdToken(anyString());
-        verify(cookieService).setAuthCookie(any(), anyString());
+        verify(firebaseTokenCache).verifyIdToken(anyString());
+        verify(sessionManager).start(eq(idToken), eq(tokenRequest.idToken), any());
         verify(userService).getUserByUid(anyString());
         verify(userService, never()).saveUser(any(User.class));
+        verify(userService, never()).createUserIfAbsent(any(User.class));
     }
 
     @Test
     void login_WithValidTokenAndNewUser_ShouldCreateAndReturnUser() throws Exception {
-        when(firebaseAuth.verifyIdToken(anyString())).thenReturn(firebaseToken);
-        when(userService.getUserByUid(anyString())).thenReturn(null);
-        when(userService.saveUser(any(User.class))).thenReturn(testUser);
+        when(firebaseTokenCache.verifyIdToken(anyString())).thenReturn(idToken);
+        when(userService.getUserByUid(anyString())).thenReturn(CompletableFuture.completedFuture(null));
+        when(userService.createUserIfAbsent(any(User.class)))
+                .thenReturn(CompletableFuture.completedFuture(new UserWriteResult(testUser, true)));
 
-        ResponseEntity<?> response = authController.login(tokenRequest, this.response);
+        ResponseEntity<?> response = authController.login(tokenRequest, this.response).join();
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(testUser, response.getBody());
 
-        verify(firebaseAuth).verifyIdToken(anyString());
-        verify(cookieService).setAuthCookie(any(), anyString());
+        verify(firebaseTokenCache).verifyIdToken(anyString());
+        verify(sessionManager).start(eq(idToken), eq(tokenRequest.idToken), any());
         verify(userService).getUserByUid(anyString());
-        verify(userService).saveUser(any(User.class));
+        verify(userService).createUserIfAbsent(any(User.class));
+        verify(userService, never()).saveUser(any(User.class));
     }
 
     @Test
     void login_WithInvalidToken_ShouldReturnUnauthorized() throws Exception {
-        when(firebaseAuth.verifyIdToken(anyString()))
+        when(firebaseTokenCache.verifyIdToken(anyString()))
                 .thenThrow(new IllegalArgumentException("Invalid token"));
 
-        ResponseEntity<?> response = authController.login(tokenRequest, this.response);
+        ResponseEntity<?> response = authController.login(tokenRequest, this.response).join();
 
         assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
 
-        verify(firebaseAuth).verifyIdToken(anyString());
-        verify(cookieService, never()).setAuthCookie(any(), anyString());
+        verify(firebaseTokenCache).verifyIdToken(anyString());
+        verify(sessionManager, never()).start(any(), anyString(), any());
         verify(userService, never()).getUserByUid(anyString());
         verify(userService, never()).saveUser(any(User.class));
     }
@@ -118,21 +140,21 @@ public class AuthControllerTest {
         FirebaseTokenRequest emptyRequest = new FirebaseTokenRequest();
         emptyRequest.idToken = null;
 
-        ResponseEntity<?> responseEntity = authController.login(emptyRequest, this.response);
+        ResponseEntity<?> responseEntity = authController.login(emptyRequest, this.response).join();
 
         assertEquals(HttpStatus.BAD_REQUEST, responseEntity.getStatusCode());
         assertEquals("No token provided", responseEntity.getBody());
 
-        verifyNoInteractions(firebaseAuth);
+        verifyNoInteractions(firebaseTokenCache);
         verifyNoInteractions(userService);
-        verifyNoInteractions(cookieService);
+        verifyNoInteractions(sessionManager);
     }
 
     @Test
     void createUser_ShouldSaveAndReturnUser() {
-        when(userService.saveUser(any(User.class))).thenReturn(testUser);
+        when(userService.saveUser(any(User.class))).thenReturn(CompletableFuture.completedFuture(testUser));
 
-        ResponseEntity<?> response = authController.createUser(testUser);
+        ResponseEntity<?> response = authController.createUser(testUser).join();
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(testUser, response.getBody());
@@ -141,36 +163,77 @@ public class AuthControllerTest {
     }
 
     @Test
-    void getUserByUid_ExistingUser_ShouldReturnUser() {
-        when(userService.getUserByUid(anyString())).thenReturn(testUser);
+    void getUserByUid_ExistingUser_ShouldReturnUserWithValidators() {
+        when(userService.getVersionedUser(anyString()))
+                .thenReturn(CompletableFuture.completedFuture(new Versioned<>(testUser, UPDATE_TIME)));
 
-        ResponseEntity<?> response = authController.getUserByUid(testUser.getUid());
+        ResponseEntity<?> response = authController.getUserByUid(testUser.getUid(), new HttpHeaders()).join();
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(testUser, response.getBody());
+        assertNotNull(response.getHeaders().getETag());
+        assertEquals(UPDATE_TIME.getEpochSecond() * 1000, response.getHeaders().getLastModified());
 
-        verify(userService).getUserByUid(anyString());
+        verify(userService).getVersionedUser(anyString());
+    }
+
+    @Test
+    void getUserByUid_WithMatchingETag_ShouldReturnNotModified() {
+        when(userService.getVersionedUser(anyString()))
+                .thenReturn(CompletableFuture.completedFuture(new Versioned<>(testUser, UPDATE_TIME)));
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(authController.getUserByUid(testUser.getUid(), new HttpHeaders()).join()
+                .getHeaders().getETag());
+
+        ResponseEntity<?> response = authController.getUserByUid(testUser.getUid(), headers).join();
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
     }
 
     @Test
     void getUserByUid_NonExistingUser_ShouldReturnNotFound() {
-        when(userService.getUserByUid(anyString())).thenReturn(null);
+        when(userService.getVersionedUser(anyString()))
+                .thenReturn(CompletableFuture.completedFuture(new Versioned<>(null, null)));
 
-        ResponseEntity<?> response = authController.getUserByUid("non-existing-uid");
+        ResponseEntity<?> response = authController.getUserByUid("non-existing-uid", new HttpHeaders()).join();
 
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
         assertNull(response.getBody());
 
-        verify(userService).getUserByUid(anyString());
+        verify(userService).getVersionedUser(anyString());
     }
 
     @Test
-    void logout_ShouldClearCookieAndReturnOk() {
+    void logout_ShouldEndSessionAndReturnOk() {
+        HttpServletRequest request = mock(HttpServletRequest.class);
 
-        ResponseEntity<?> response = authController.logout(this.response);
+        ResponseEntity<?> response = authController.logout(request, this.response);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
 
-        verify(cookieService).clearAuthCookie(this.response);
+        verify(sessionManager).end(request, this.response);
+    }
+
+    @Test
+    void importUsers_ShouldReturnImportSummary() throws IOException {
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        BulkImportResult result = BulkImportResult.of(List.of(BulkImportItemResult.success(0, "test-uid-123")), null);
+        when(userImportService.importUsers(any())).thenReturn(result);
+
+        ResponseEntity<?> response = authController.importUsers(request);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(result, response.getBody());
+    }
+
+    @Test
+    void importUsers_WithNonArrayBody_ShouldReturnBadRequest() throws IOException {
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        when(userImportService.importUsers(any())).thenThrow(new IllegalArgumentException("Expected a JSON array of users"));
+
+        ResponseEntity<?> response = authController.importUsers(request);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
     }
 }
@@ -0,0 +1,108 @@
+package com.speakerspace.controller;
+
+import com.speakerspace.repository.Versioned;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConditionalResponsesTest {
+
+    private static final Instant UPDATE_TIME = Instant.parse("2025-03-01T10:15:30.123456Z");
+
+    private final ConditionalResponses conditionalResponses = new ConditionalResponses(Duration.ZERO);
+
+    @Test
+    void of_WithoutConditionalHeaders_ShouldReturnBodyAndValidators() {
+        ResponseEntity<?> response = conditionalResponses.of(new HttpHeaders(), new Versioned<>("body", UPDATE_TIME));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("body", response.getBody());
+        assertEquals(ConditionalResponses.eTag(UPDATE_TIME), response.getHeaders().getETag());
+        assertEquals(UPDATE_TIME.getEpochSecond() * 1000, response.getHeaders().getLastModified());
+        assertEquals("no-cache, private", response.getHeaders().getCacheControl());
+    }
+
+    @Test
+    void of_WithMatchingWeakETag_ShouldReturnNotModified() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch("W/" + ConditionalResponses.eTag(UPDATE_TIME));
+
+        ResponseEntity<?> response = conditionalResponses.of(headers, new Versioned<>("body", UPDATE_TIME));
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+    }
+
+    @Test
+    void of_WithStaleETag_ShouldIgnoreIfModifiedSince() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(ConditionalResponses.eTag(UPDATE_TIME.minusSeconds(60)));
+        headers.setIfModifiedSince(UPDATE_TIME.plusSeconds(60));
+
+        ResponseEntity<?> response = conditionalResponses.of(headers, new Versioned<>("body", UPDATE_TIME));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+    }
+
+    @Test
+    void of_WithProjectedFields_ShouldTagEachProjectionSeparately() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(ConditionalResponses.eTag(UPDATE_TIME, List.of("eventName")));
+
+        ResponseEntity<?> full = conditionalResponses.of(headers, new Versioned<>("body", UPDATE_TIME));
+        ResponseEntity<?> other = conditionalResponses.of(headers, new Versioned<>("body", UPDATE_TIME),
+                List.of("eventName", "city"));
+        ResponseEntity<?> same = conditionalResponses.of(headers, new Versioned<>("body", UPDATE_TIME),
+                Set.of("eventName"));
+
+        assertEquals(HttpStatus.OK, full.getStatusCode());
+        assertEquals(ConditionalResponses.eTag(UPDATE_TIME), full.getHeaders().getETag());
+        assertEquals(HttpStatus.OK, other.getStatusCode());
+        assertEquals(ConditionalResponses.eTag(UPDATE_TIME, List.of("city", "eventName")), other.getHeaders().getETag());
+        assertEquals(HttpStatus.NOT_MODIFIED, same.getStatusCode());
+    }
+
+    @Test
+    void of_WithIfModifiedSince_ShouldCompareAtSecondPrecision() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfModifiedSince(UPDATE_TIME.getEpochSecond() * 1000);
+
+        assertEquals(HttpStatus.NOT_MODIFIED,
+                conditionalResponses.of(headers, new Versioned<>("body", UPDATE_TIME)).getStatusCode());
+        assertEquals(HttpStatus.OK,
+                conditionalResponses.of(headers, new Versioned<>("body", UPDATE_TIME.plusSeconds(1))).getStatusCode());
+    }
+
+    @Test
+    void of_WithoutUpdateTime_ShouldReturnBodyWithoutValidators() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch("*");
+
+        ResponseEntity<?> response = conditionalResponses.of(headers, new Versioned<>("body", null));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNull(response.getHeaders().getETag());
+    }
+
+    @Test
+    void of_WithMissingDocument_ShouldReturnNotFound() {
+        assertEquals(HttpStatus.NOT_FOUND,
+                conditionalResponses.of(new HttpHeaders(), new Versioned<>(null, null)).getStatusCode());
+    }
+
+    @Test
+    void constructor_WithMaxAge_ShouldRequireRevalidation() {
+        ResponseEntity<?> response = new ConditionalResponses(Duration.ofSeconds(30))
+                .of(new HttpHeaders(), new Versioned<>("body", UPDATE_TIME));
+
+        assertEquals("max-age=30, must-revalidate, private", response.getHeaders().getCacheControl());
+    }
+}
@@ -0,0 +1,47 @@
+package com.speakerspace.dto;
+
+import com.google.cloud.Timestamp;
+import com.speakerspace.model.Task;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TaskPatchTest {
+
+    @Test
+    void toFields_ShouldOnlyContainProvidedFields() {
+        TaskPatch patch = new TaskPatch(null, null, "Slides sent", null, null, true);
+
+        assertEquals(Map.of("speakerResponse", "Slides sent", "finished", true), patch.toFields());
+    }
+
+    @Test
+    void toFields_ShouldConvertDeadlineToTimestamp() {
+        Instant deadline = Instant.parse("2025-05-01T09:30:00.250Z");
+        TaskPatch patch = new TaskPatch(null, null, null, null, deadline, null);
+
+        assertEquals(Timestamp.ofTimeSecondsAndNanos(deadline.getEpochSecond(), deadline.getNano()),
+                patch.toFields().get("deadline"));
+    }
+
+    @Test
+    void toFields_WithoutAnyField_ShouldFail() {
+        TaskPatch patch = new TaskPatch(null, null, null, null, null, null);
+
+        assertThrows(IllegalArgumentException.class, patch::toFields);
+    }
+
+    @Test
+    void applyTo_ShouldKeepFieldsThatAreNotPatched() {
+        Task task = new Task("task-1", "Send slides", "Draft version", null, "WEEKLY", null, false);
+
+        new TaskPatch(null, null, null, null, null, true).applyTo(task);
+
+        assertTrue(task.isFinished());
+        assertEquals("Send slides", task.getTitle());
+        assertEquals("WEEKLY", task.getReminderFrequency());
+    }
+}
@@ -0,0 +1,227 @@
+package com.speakerspace.load;
+
+import com.google.cloud.firestore.Firestore;
+import com.speakerspace.model.SpeakerDashboard;
+import com.speakerspace.repository.SpeakerDashboardRepository;
+import com.speakerspace.repository.Versioned;
+import com.speakerspace.security.IdTokenVerifier;
+import com.speakerspace.security.VerifiedIdToken;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@Tag("load")
+public class ThreadModelLoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(ThreadModelLoadTest.class);
+
+    private static final int TOMCAT_MAX_THREADS = 200;
+    private static final int WARM_UP_REQUESTS = 200;
+    private static final int CONCURRENT_REQUESTS = 2_000;
+    private static final long VERIFY_ID_TOKEN_MILLIS = 20;
+    private static final long FIRESTORE_GET_MILLIS = 30;
+
+    private static final String PLATFORM = "platform pool";
+    private static final String VIRTUAL = "virtual threads";
+    private static final Map<String, LoadResult> results = new ConcurrentHashMap<>();
+
+    @AfterAll
+    static void virtualThreads_ShouldLowerP99UnderBlockingIoLoad() {
+        LoadResult platform = results.get(PLATFORM);
+        LoadResult virtual = results.get(VIRTUAL);
+        if (platform == null || virtual == null) {
+            return;
+        }
+
+        logger.info("platform pool ({} threads): {}", TOMCAT_MAX_THREADS, platform);
+        logger.info("virtual threads:             {}", virtual);
+
+        assertTrue(virtual.p99Millis() < platform.p99Millis());
+        assertTrue(virtual.peakConcurrency() > platform.peakConcurrency());
+    }
+
+    @Nested
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+            "server.tomcat.threads.max=" + TOMCAT_MAX_THREADS,
+            "server.tomcat.max-connections=" + 2 * CONCURRENT_REQUESTS})
+    @ActiveProfiles(value = "test", inheritProfiles = false)
+    class PlatformThreads extends LoadRun {
+
+        @Test
+        void dashboard_UnderLoad() throws Exception {
+            results.put(PLATFORM, run());
+        }
+    }
+
+    @Nested
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+            "server.tomcat.max-connections=" + 2 * CONCURRENT_REQUESTS})
+    @ActiveProfiles(value = {"test", "virtual-threads"}, inheritProfiles = false)
+    class VirtualThreads extends LoadRun {
+
+        @Test
+        void dashboard_UnderLoad() throws Exception {
+            results.put(VIRTUAL, run());
+        }
+    }
+
+    @TestPropertySource(properties = {
+            "admin.email=admin@example.com",
+            "cors.allowedOrigins=http://localhost:4200",
+            "spring.cloud.gcp.project-id=speaker-space-load",
+            "spring.cloud.gcp.firestore.project-id=speaker-space-load",
+            "spring.cloud.gcp.firestore.enabled=false",
+            "spring.cloud.gcp.secretmanager.enabled=false",
+            "security.token-verifier.mode=firebase",
+            "security.session.enabled=false",
+            "firestore.client.warm-up=false"})
+    abstract static class LoadRun {
+
+        @LocalServerPort
+        private int port;
+
+        @MockitoBean
+        private Firestore firestore;
+
+        @MockitoBean
+        private IdTokenVerifier idTokenVerifier;
+
+        @MockitoBean
+        private SpeakerDashboardRepository speakerDashboardRepository;
+
+        private final AtomicInteger tokens = new AtomicInteger();
+        private final InFlightCounter inFlight = new InFlightCounter();
+
+        @BeforeEach
+        void stubBackends() throws Exception {
+            when(idTokenVerifier.verifyIdToken(anyString())).thenAnswer(invocation -> {
+                inFlight.enter();
+                try {
+                    Thread.sleep(VERIFY_ID_TOKEN_MILLIS);
+                } finally {
+                    inFlight.exit();
+                }
+                String uid = uid(invocation.getArgument(0));
+                return new VerifiedIdToken(uid, uid + "@example.com", uid, null,
+                        Map.of("exp", Instant.now().plusSeconds(3600).getEpochSecond()));
+            });
+            when(speakerDashboardRepository.findVersionedByUid(anyString())).thenAnswer(invocation ->
+                    CompletableFuture.supplyAsync(
+                            () -> new Versioned<>(new SpeakerDashboard(invocation.getArgument(0)), Instant.now()),
+                            CompletableFuture.delayedExecutor(FIRESTORE_GET_MILLIS, TimeUnit.MILLISECONDS)));
+        }
+
+        LoadResult run() throws Exception {
+            try (ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+                HttpClient client = HttpClient.newBuilder()
+                        .version(HttpClient.Version.HTTP_1_1)
+                        .executor(clientExecutor)
+                        .build();
+
+                send(client, WARM_UP_REQUESTS);
+                inFlight.reset();
+
+                long start = System.nanoTime();
+                long[] latencies = send(client, CONCURRENT_REQUESTS);
+                long elapsed = System.nanoTime() - start;
+
+                Arrays.sort(latencies);
+                return new LoadResult(
+                        inFlight.peak(),
+                        TimeUnit.NANOSECONDS.toMillis(latencies[latencies.length / 2]),
+                        TimeUnit.NANOSECONDS.toMillis(latencies[(int) (latencies.length * 0.99) - 1]),
+                        CONCURRENT_REQUESTS * 1_000_000_000.0 / elapsed);
+            }
+        }
+
+        private long[] send(HttpClient client, int count) throws Exception {
+            List<CompletableFuture<Long>> futures = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                String token = "token-" + tokens.incrementAndGet();
+                HttpRequest request = HttpRequest.newBuilder(
+                                URI.create("http://localhost:" + port + "/api/dashboard/" + uid(token)))
+                        .header("Authorization", "Bearer " + token)
+                        .GET()
+                        .build();
+                long submittedAt = System.nanoTime();
+                futures.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                        .thenApply(response -> {
+                            assertEquals(200, response.statusCode());
+                            return System.nanoTime() - submittedAt;
+                        }));
+            }
+
+            long[] latencies = new long[count];
+            for (int i = 0; i < count; i++) {
+                latencies[i] = futures.get(i).get(1, TimeUnit.MINUTES);
+            }
+            return latencies;
+        }
+
+        private static String uid(String token) {
+            return "speaker-" + token.substring(token.indexOf('-') + 1);
+        }
+    }
+
+    private record LoadResult(int peakConcurrency, long p50Millis, long p99Millis, double requestsPerSecond) {
+
+        @Override
+        public String toString() {
+            return String.format("peak concurrency=%d, p50=%dms, p99=%dms, throughput=%.0f req/s",
+                    peakConcurrency, p50Millis, p99Millis, requestsPerSecond);
+        }
+    }
+
+    private static class InFlightCounter {
+
+        private int current;
+        private int peak;
+
+        synchronized void enter() {
+            current++;
+            peak = Math.max(peak, current);
+        }
+
+        synchronized void exit() {
+            current--;
+        }
+
+        synchronized void reset() {
+            peak = current;
+        }
+
+        synchronized int peak() {
+            return peak;
+        }
+    }
+}
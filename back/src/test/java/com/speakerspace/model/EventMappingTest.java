@@ -0,0 +1,57 @@
+package com.speakerspace.model;
+
+import com.google.cloud.NoCredentials;
+import com.google.cloud.Timestamp;
+import com.google.cloud.firestore.DocumentReference;
+import com.google.cloud.firestore.Firestore;
+import com.google.cloud.firestore.FirestoreOptions;
+import com.google.cloud.firestore.encoding.CustomClassMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EventMappingTest {
+
+    private Firestore firestore;
+    private DocumentReference eventRef;
+
+    @BeforeEach
+    void setUp() {
+        firestore = FirestoreOptions.newBuilder()
+                .setProjectId("speaker-space-test")
+                .setCredentials(NoCredentials.getInstance())
+                .build()
+                .getService();
+        eventRef = firestore.collection("events").document("event-1");
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        firestore.close();
+    }
+
+    @Test
+    void toObject_EventWithFaqsAndPictures_ShouldKeepEmbeddedIds() {
+        Event event = new Event();
+        event.setEventName("Devfest");
+        event.setStartDate(Timestamp.ofTimeSecondsAndNanos(1_700_000_000L, 0));
+        event.setFaqs(List.of(new Faq(3, "Where is the venue?", "Near the station", null,
+                List.of(new Media(7, "https://example.com/map.png", "Map", null)))));
+        event.setPictures(List.of(new Picture("picture-1", "https://example.com/venue.jpg", "Venue", null)));
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> data = (Map<String, Object>) CustomClassMapper.convertToPlainJavaTypes(event);
+        Event mapped = CustomClassMapper.convertToCustomClass(data, Event.class, eventRef);
+
+        assertEquals("event-1", mapped.getIdEvent());
+        assertEquals(1, mapped.getFaqs().size());
+        assertEquals(3, mapped.getFaqs().get(0).getIdFaq());
+        assertEquals(7, mapped.getFaqs().get(0).getMedias().get(0).getIdMedia());
+        assertEquals("picture-1", mapped.getPictures().get(0).getIdPicture());
+    }
+}
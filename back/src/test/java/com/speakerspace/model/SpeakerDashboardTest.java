@@ -0,0 +1,80 @@
+package com.speakerspace.model;
+
+import com.google.cloud.Timestamp;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SpeakerDashboardTest {
+
+    private static final String UID = "speaker-1";
+
+    @Test
+    void applySession_WhenSpeakerIsListed_ShouldProjectSessionOpenTasksAndEvent() {
+        SpeakerDashboard dashboard = new SpeakerDashboard(UID);
+        Session session = session("session-1", "event-1", List.of(UID));
+
+        dashboard.applySession("session-1", session, List.of(task("task-1", false), task("task-2", true)),
+                event("Devfest"));
+
+        assertEquals("Session session-1", dashboard.getSessions().get("session-1").getTitle());
+        assertEquals(1, dashboard.getOpenTasks().get("session-1").size());
+        assertEquals("task-1", dashboard.getOpenTasks().get("session-1").get(0).getTaskId());
+        assertEquals("Devfest", dashboard.getEvents().get("event-1").getEventName());
+    }
+
+    @Test
+    void applySession_WhenSpeakerIsRemoved_ShouldDropSessionTasksAndUnreferencedEvent() {
+        SpeakerDashboard dashboard = new SpeakerDashboard(UID);
+        dashboard.applySession("session-1", session("session-1", "event-1", List.of(UID)),
+                List.of(task("task-1", false)), event("Devfest"));
+
+        dashboard.applySession("session-1", session("session-1", "event-1", List.of("someone-else")),
+                List.of(task("task-1", false)), event("Devfest"));
+
+        assertTrue(dashboard.getSessions().isEmpty());
+        assertTrue(dashboard.getOpenTasks().isEmpty());
+        assertTrue(dashboard.getEvents().isEmpty());
+    }
+
+    @Test
+    void applyTravel_ShouldKeepEventReferencedByTravelWhenSessionIsDeleted() {
+        SpeakerDashboard dashboard = new SpeakerDashboard(UID);
+        dashboard.applySession("session-1", session("session-1", "event-1", List.of(UID)), List.of(), event("Devfest"));
+        Travel travel = new Travel();
+        travel.setTitle("Train");
+        travel.setUserId(UID);
+        travel.setEventId("event-1");
+        dashboard.applyTravel("travel-1", travel, event("Devfest"));
+
+        dashboard.applySession("session-1", null, List.of(), null);
+
+        assertTrue(dashboard.getSessions().isEmpty());
+        assertEquals("Train", dashboard.getTravels().get("travel-1").getTitle());
+        assertTrue(dashboard.getEvents().containsKey("event-1"));
+    }
+
+    private static Session session(String id, String eventId, List<String> speakers) {
+        Session session = new Session();
+        session.setIdSession(id);
+        session.setTitle("Session " + id);
+        session.setStartDate(Timestamp.now());
+        session.setEvent(eventId);
+        session.setSpeakers(speakers);
+        return session;
+    }
+
+    private static Task task(String id, boolean finished) {
+        Task task = new Task();
+        task.setIdTask(id);
+        task.setTitle("Task " + id);
+        task.setFinished(finished);
+        return task;
+    }
+
+    private static DashboardEvent event(String name) {
+        return new DashboardEvent(name, Timestamp.now(), Timestamp.now(), "Nantes");
+    }
+}
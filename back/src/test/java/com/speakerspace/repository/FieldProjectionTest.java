@@ -0,0 +1,48 @@
+package com.speakerspace.repository;
+
+import com.google.cloud.Timestamp;
+import com.google.cloud.firestore.DocumentSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class FieldProjectionTest {
+
+    private final FieldProjection projection = FieldProjection.of("idEvent", "eventName", "startDate", "city")
+            .rename("faqs", "faq");
+
+    @Test
+    void storedNames_ShouldMapRenamedFieldsAndAppendRequiredOnes() {
+        String[] storedNames = projection.storedNames(List.of("idEvent", "faqs", "eventName"), "startDate");
+
+        assertArrayEquals(new String[]{"faq", "eventName", "startDate"}, storedNames);
+    }
+
+    @Test
+    void storedNames_WithUnknownField_ShouldFail() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> projection.storedNames(List.of("eventName", "organizers")));
+
+        assertEquals("Unknown field: organizers", e.getMessage());
+    }
+
+    @Test
+    void read_ShouldReturnOnlyRequestedFieldsKeyedByApiName() {
+        Timestamp startDate = Timestamp.ofTimeSecondsAndNanos(1740823200L, 0);
+        DocumentSnapshot snapshot = mock(DocumentSnapshot.class);
+        when(snapshot.getId()).thenReturn("event-1");
+        when(snapshot.get("faq")).thenReturn(List.of());
+        when(snapshot.get("startDate")).thenReturn(startDate);
+
+        Map<String, Object> values = projection.read(snapshot, List.of("faqs", "startDate"));
+
+        assertEquals(List.of("idEvent", "faqs", "startDate"), List.copyOf(values.keySet()));
+        assertEquals("event-1", values.get("idEvent"));
+        assertEquals(startDate, values.get("startDate"));
+        verify(snapshot, never()).get("city");
+    }
+}
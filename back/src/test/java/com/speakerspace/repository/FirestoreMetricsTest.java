@@ -0,0 +1,63 @@
+package com.speakerspace.repository;
+
+import com.google.api.gax.grpc.GrpcStatusCode;
+import com.google.api.gax.rpc.AlreadyExistsException;
+import io.grpc.Status;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FirestoreMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private FirestoreMetrics firestoreMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        firestoreMetrics = new FirestoreMetrics(meterRegistry);
+    }
+
+    @Test
+    void record_WithSuccessfulCall_ShouldTagCollectionOperationAndOutcome() {
+        String result = firestoreMetrics.record("users", "get", () -> CompletableFuture.completedFuture("user")).join();
+
+        assertEquals("user", result);
+        assertEquals(1, meterRegistry.get(FirestoreMetrics.OPERATION_TIMER)
+                .tag("collection", "users")
+                .tag("operation", "get")
+                .tag("outcome", "OK")
+                .timer().count());
+    }
+
+    @Test
+    void record_WithFailedCall_ShouldTagStatusCode() {
+        CompletableFuture<String> failed = CompletableFuture.failedFuture(
+                new AlreadyExistsException(null, GrpcStatusCode.of(Status.Code.ALREADY_EXISTS), false));
+
+        CompletableFuture<String> result = firestoreMetrics.record("users", "create", () -> failed);
+
+        assertThrows(CompletionException.class, result::join);
+        assertEquals(1, meterRegistry.get(FirestoreMetrics.OPERATION_TIMER)
+                .tag("operation", "create")
+                .tag("outcome", "ALREADY_EXISTS")
+                .timer().count());
+    }
+
+    @Test
+    void record_WhenCallThrows_ShouldRecordErrorAndRethrow() {
+        assertThrows(IllegalStateException.class, () -> firestoreMetrics.record("sessions", "save", () -> {
+            throw new IllegalStateException("closed");
+        }));
+
+        assertEquals(1, meterRegistry.get(FirestoreMetrics.OPERATION_TIMER)
+                .tag("collection", "sessions")
+                .tag("outcome", "ERROR")
+                .timer().count());
+    }
+}
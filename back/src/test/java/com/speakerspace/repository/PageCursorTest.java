@@ -0,0 +1,48 @@
+package com.speakerspace.repository;
+
+import com.google.cloud.Timestamp;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PageCursorTest {
+
+    @Test
+    void encode_ShouldRoundTripTimestampAndDocumentId() {
+        Timestamp startDate = Timestamp.ofTimeSecondsAndNanos(1740823200L, 123456000);
+        PageCursor cursor = PageCursor.of(startDate, "event/with,separators");
+
+        PageCursor decoded = PageCursor.decode(cursor.encode(), 2);
+
+        assertEquals(Arrays.asList(startDate, "event/with,separators"), decoded.values());
+    }
+
+    @Test
+    void encode_ShouldRoundTripNullValues() {
+        PageCursor decoded = PageCursor.decode(PageCursor.of(null, "event-1").encode(), 2);
+
+        assertArrayEquals(new Object[]{null, "event-1"}, decoded.toArray());
+    }
+
+    @Test
+    void encode_ShouldBeUrlSafe() {
+        String token = PageCursor.of("user-1").encode();
+
+        assertTrue(token.matches("[A-Za-z0-9_-]+"));
+    }
+
+    @Test
+    void decode_WithWrongNumberOfValues_ShouldFail() {
+        String token = PageCursor.of("user-1").encode();
+
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decode(token, 2));
+    }
+
+    @Test
+    void decode_WithGarbage_ShouldFail() {
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decode("not a token", 1));
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decode("djEseA", 1));
+    }
+}
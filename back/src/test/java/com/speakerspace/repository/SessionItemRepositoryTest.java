@@ -0,0 +1,288 @@
+package com.speakerspace.repository;
+
+import com.google.api.core.ApiFutures;
+import com.google.cloud.Timestamp;
+import com.google.cloud.firestore.*;
+import com.speakerspace.dto.TaskPatch;
+import com.speakerspace.model.DashboardTask;
+import com.speakerspace.model.Resource;
+import com.speakerspace.model.Task;
+import com.speakerspace.model.TaskReminder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class SessionItemRepositoryTest {
+
+    @InjectMocks
+    private SessionItemRepository sessionItemRepository;
+
+    @Mock
+    private Firestore firestore;
+
+    @Spy
+    private FirestoreMetrics firestoreMetrics = new FirestoreMetrics(new SimpleMeterRegistry());
+
+    @Mock
+    private SpeakerDashboardRepository speakerDashboardRepository;
+
+    @Mock
+    private TaskReminderRepository taskReminderRepository;
+
+    @Mock
+    private CollectionReference sessions;
+
+    @Mock
+    private DocumentReference sessionReference;
+
+    @Mock
+    private CollectionReference tasks;
+
+    @Mock
+    private CollectionReference resources;
+
+    @Mock
+    private Transaction transaction;
+
+    @Mock
+    private DocumentSnapshot session;
+
+    private static final Timestamp DEADLINE = Timestamp.ofTimeSecondsAndNanos(1746090000L, 0);
+
+    @BeforeEach
+    void setUp() {
+        when(firestore.collection("sessions")).thenReturn(sessions);
+        when(sessions.document("session-1")).thenReturn(sessionReference);
+        when(sessionReference.collection("tasks")).thenReturn(tasks);
+        when(sessionReference.collection("resources")).thenReturn(resources);
+        when(session.getId()).thenReturn("session-1");
+    }
+
+    @Test
+    void moveEmbeddedItems_ShouldCopyEachItemToItsOwnDocument() {
+        DocumentReference legacyTask = reference(tasks, "task-1");
+        DocumentReference generatedTask = mock(DocumentReference.class);
+        when(generatedTask.getId()).thenReturn("generated");
+        when(tasks.document()).thenReturn(generatedTask);
+        DocumentReference resource = reference(resources, "resource-1");
+
+        when(session.get(SessionItemRepository.EMBEDDED_TASKS)).thenReturn(List.of(
+                task("task-1", "Send slides", false),
+                task(null, "Book hotel", true)));
+        when(session.get(SessionItemRepository.EMBEDDED_RESOURCES)).thenReturn(List.of(
+                Map.of("idResource", "resource-1", "title", "Projector", "validated", true)));
+
+        List<Task> moved = sessionItemRepository.moveEmbeddedItems(transaction, session);
+
+        assertEquals(List.of("task-1", "generated"), moved.stream().map(Task::getIdTask).toList());
+
+        ArgumentCaptor<Task> taskCaptor = ArgumentCaptor.forClass(Task.class);
+        verify(transaction).set(eq(legacyTask), taskCaptor.capture());
+        assertEquals("Send slides", taskCaptor.getValue().getTitle());
+        assertEquals(DEADLINE, taskCaptor.getValue().getDeadline());
+        assertFalse(taskCaptor.getValue().isFinished());
+
+        verify(transaction).set(eq(generatedTask), any(Task.class));
+        verify(transaction).set(resource, new Resource("resource-1", "Projector", null, true));
+    }
+
+    @Test
+    void moveEmbeddedItems_WithUpcomingDeadline_ShouldCreateTheReminder() {
+        reference(tasks, "task-1");
+        reference(tasks, "task-2");
+        Map<String, Object> upcoming = task("task-1", "Send slides", false);
+        upcoming.put("deadline", Timestamp.ofTimeSecondsAndNanos(Instant.now().plus(Duration.ofDays(30)).getEpochSecond(), 0));
+        upcoming.put("reminderFrequency", "WEEKLY");
+        when(session.get(SessionItemRepository.EMBEDDED_TASKS)).thenReturn(List.of(
+                upcoming, task("task-2", "Book hotel", false)));
+
+        sessionItemRepository.moveEmbeddedItems(transaction, session);
+
+        ArgumentCaptor<TaskReminder> reminder = ArgumentCaptor.forClass(TaskReminder.class);
+        verify(taskReminderRepository).set(eq(transaction), reminder.capture());
+        assertEquals("session-1_task-1", reminder.getValue().getId());
+    }
+
+    @Test
+    void moveEmbeddedItems_WithoutEmbeddedData_ShouldWriteNothing() {
+        List<Task> moved = sessionItemRepository.moveEmbeddedItems(transaction, session);
+
+        assertTrue(moved.isEmpty());
+        verifyNoInteractions(transaction);
+        assertFalse(SessionItemRepository.hasEmbeddedItems(session));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void createTask_OnLegacySession_ShouldMigrateEmbeddedTasksInTheSameTransaction() throws Exception {
+        runTransactionsInline();
+        legacySession();
+        DocumentReference legacyTask = reference(tasks, "task-1");
+        DocumentReference newTask = mock(DocumentReference.class);
+        when(newTask.getId()).thenReturn("task-2");
+        when(tasks.document()).thenReturn(newTask);
+        when(transaction.get(newTask)).thenReturn(ApiFutures.immediateFuture(missingDocument()));
+
+        Task created = sessionItemRepository.createTask("session-1",
+                new Task(null, "Book hotel", null, null, null, DEADLINE, false)).join();
+
+        assertEquals("task-2", created.getIdTask());
+        verify(transaction).set(eq(legacyTask), any(Task.class));
+        verify(transaction).create(newTask, created);
+        verify(transaction).update(eq(sessionReference), anyMap());
+        ArgumentCaptor<List<DashboardTask>> openTasks = ArgumentCaptor.forClass(List.class);
+        verify(speakerDashboardRepository).mergeOpenTasks(eq(transaction), eq(List.of("uid-1")), eq("session-1"),
+                openTasks.capture());
+        assertEquals(List.of("task-1", "task-2"), openTasks.getValue().stream().map(DashboardTask::getTaskId).toList());
+    }
+
+    @Test
+    void updateTask_ShouldOnlyReadThatTaskAndUpdateDashboardsAndReminderInTheTransaction() throws Exception {
+        runTransactionsInline();
+        when(session.exists()).thenReturn(true);
+        when(session.get("speakers")).thenReturn(List.of("uid-1"));
+        DocumentReference taskReference = reference(tasks, "task-1");
+        Task stored = new Task("task-1", "Send slides", null, null, "WEEKLY",
+                Timestamp.ofTimeSecondsAndNanos(Instant.now().plus(Duration.ofDays(30)).getEpochSecond(), 0), false);
+        DocumentSnapshot taskSnapshot = mock(DocumentSnapshot.class);
+        when(taskSnapshot.exists()).thenReturn(true);
+        when(taskSnapshot.toObject(Task.class)).thenReturn(stored);
+        when(transaction.get(taskReference)).thenReturn(ApiFutures.immediateFuture(taskSnapshot));
+        TaskPatch patch = new TaskPatch("Send final slides", null, null, null, null, null);
+
+        Task updated = sessionItemRepository.updateTask("session-1", "task-1", patch).join();
+
+        assertEquals("Send final slides", updated.getTitle());
+        verify(transaction, never()).get(any(Query.class));
+        verify(transaction).set(eq(taskReference), anyMap(), any(SetOptions.class));
+        ArgumentCaptor<DashboardTask> previous = ArgumentCaptor.forClass(DashboardTask.class);
+        ArgumentCaptor<DashboardTask> current = ArgumentCaptor.forClass(DashboardTask.class);
+        verify(speakerDashboardRepository).replaceOpenTask(eq(transaction), eq(List.of("uid-1")), eq("session-1"),
+                previous.capture(), current.capture());
+        assertEquals("Send slides", previous.getValue().getTitle());
+        assertEquals("Send final slides", current.getValue().getTitle());
+        verify(speakerDashboardRepository, never()).mergeOpenTasks(any(), any(), any(), any());
+        ArgumentCaptor<TaskReminder> reminder = ArgumentCaptor.forClass(TaskReminder.class);
+        verify(taskReminderRepository).set(eq(transaction), reminder.capture());
+        assertEquals("Send final slides", reminder.getValue().getTitle());
+    }
+
+    @Test
+    void deleteTask_ShouldDeleteItsReminderInTheTransaction() throws Exception {
+        runTransactionsInline();
+        when(session.exists()).thenReturn(true);
+        when(session.get("speakers")).thenReturn(List.of("uid-1"));
+        DocumentReference taskReference = reference(tasks, "task-1");
+        DocumentSnapshot taskSnapshot = mock(DocumentSnapshot.class);
+        when(taskSnapshot.exists()).thenReturn(true);
+        when(taskSnapshot.toObject(Task.class)).thenReturn(new Task("task-1", "Send slides", null, null, null, DEADLINE, false));
+        when(transaction.get(taskReference)).thenReturn(ApiFutures.immediateFuture(taskSnapshot));
+
+        assertTrue(sessionItemRepository.deleteTask("session-1", "task-1").join());
+
+        verify(transaction).delete(taskReference);
+        verify(taskReminderRepository).delete(transaction, "session-1_task-1");
+        verify(speakerDashboardRepository).replaceOpenTask(eq(transaction), eq(List.of("uid-1")), eq("session-1"),
+                any(DashboardTask.class), isNull());
+    }
+
+    @Test
+    void updateTask_UnknownTask_ShouldWriteNothing() throws Exception {
+        runTransactionsInline();
+        when(session.exists()).thenReturn(true);
+        DocumentReference taskReference = reference(tasks, "missing");
+        when(transaction.get(taskReference)).thenReturn(ApiFutures.immediateFuture(missingDocument()));
+        TaskPatch patch = new TaskPatch("Send final slides", null, null, null, null, null);
+
+        assertNull(sessionItemRepository.updateTask("session-1", "missing", patch).join());
+
+        verify(transaction, never()).set(any(DocumentReference.class), anyMap(), any(SetOptions.class));
+        verifyNoInteractions(speakerDashboardRepository, taskReminderRepository);
+    }
+
+    @Test
+    void findTasks_OnLegacySession_ShouldMigrateBeforeListing() throws Exception {
+        runTransactionsInline();
+        legacySession();
+        reference(tasks, "task-1");
+        when(sessionReference.get(any(FieldMask.class))).thenReturn(ApiFutures.immediateFuture(session));
+        QuerySnapshot migrated = mock(QuerySnapshot.class);
+        Task task = new Task("task-1", "Send slides", null, null, null, DEADLINE, false);
+        when(migrated.toObjects(Task.class)).thenReturn(List.of(task));
+        when(tasks.get()).thenReturn(ApiFutures.immediateFuture(emptyTasks()), ApiFutures.immediateFuture(migrated));
+
+        List<Task> found = sessionItemRepository.findTasks("session-1").join();
+
+        assertEquals(List.of(task), found);
+        verify(transaction).update(eq(sessionReference), anyMap());
+        verify(tasks, times(2)).get();
+    }
+
+    private void runTransactionsInline() throws Exception {
+        when(firestore.runTransaction(any())).thenAnswer(invocation -> {
+            Transaction.Function<?> function = invocation.getArgument(0);
+            return ApiFutures.immediateFuture(function.updateCallback(transaction));
+        });
+        when(transaction.get(sessionReference)).thenReturn(ApiFutures.immediateFuture(session));
+        QuerySnapshot noTasks = emptyTasks();
+        when(transaction.get((Query) tasks)).thenReturn(ApiFutures.immediateFuture(noTasks));
+    }
+
+    private void legacySession() {
+        when(session.exists()).thenReturn(true);
+        when(session.getReference()).thenReturn(sessionReference);
+        when(session.get("speakers")).thenReturn(List.of("uid-1"));
+        when(session.get(SessionItemRepository.EMBEDDED_TASKS)).thenReturn(List.of(task("task-1", "Send slides", false)));
+    }
+
+    private static DocumentSnapshot missingDocument() {
+        DocumentSnapshot snapshot = mock(DocumentSnapshot.class);
+        when(snapshot.exists()).thenReturn(false);
+        return snapshot;
+    }
+
+    private static QuerySnapshot emptyTasks() {
+        QuerySnapshot snapshot = mock(QuerySnapshot.class);
+        when(snapshot.toObjects(Task.class)).thenReturn(List.of());
+        return snapshot;
+    }
+
+    private static DocumentReference reference(CollectionReference collection, String id) {
+        DocumentReference reference = mock(DocumentReference.class);
+        when(reference.getId()).thenReturn(id);
+        when(collection.document(id)).thenReturn(reference);
+        return reference;
+    }
+
+    private static Map<String, Object> task(String id, String title, boolean finished) {
+        Map<String, Object> task = new HashMap<>();
+        task.put("idTask", id);
+        task.put("title", title);
+        task.put("deadline", DEADLINE);
+        task.put("finished", finished);
+        return task;
+    }
+}
@@ -0,0 +1,109 @@
+package com.speakerspace.repository;
+
+import com.google.api.core.ApiFutures;
+import com.google.cloud.Timestamp;
+import com.google.cloud.firestore.*;
+import com.speakerspace.model.DashboardEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class SpeakerDashboardRepositoryTest {
+
+    private static final FieldPath EVENT_FIELD = FieldPath.of("events", "event-1");
+    private static final Timestamp START = Timestamp.ofTimeSecondsAndNanos(1780000000L, 0);
+    private static final Timestamp END = Timestamp.ofTimeSecondsAndNanos(1780172800L, 0);
+
+    @InjectMocks
+    private SpeakerDashboardRepository speakerDashboardRepository;
+
+    @Mock
+    private Firestore firestore;
+
+    @Spy
+    private FirestoreMetrics firestoreMetrics = new FirestoreMetrics(new SimpleMeterRegistry());
+
+    @Mock
+    private CollectionReference dashboards;
+
+    @Mock
+    private Query referencing;
+
+    @Mock
+    private Transaction transaction;
+
+    @BeforeEach
+    void setUp() {
+        when(firestore.collection("speakerDashboards")).thenReturn(dashboards);
+        when(dashboards.orderBy(EVENT_FIELD)).thenReturn(referencing);
+        when(firestore.runTransaction(any())).thenAnswer(invocation -> {
+            Transaction.Function<?> function = invocation.getArgument(0);
+            return ApiFutures.immediateFuture(function.updateCallback(transaction));
+        });
+    }
+
+    @Test
+    void refreshEvent_ShouldOnlyRewriteDashboardsHoldingAnOutdatedSummary() {
+        DocumentReference outdated = mock(DocumentReference.class);
+        DocumentReference upToDate = mock(DocumentReference.class);
+        dashboardsReferencingEvent(
+                dashboard(outdated, new DashboardEvent("DevFest", START, END, "Lille")),
+                dashboard(upToDate, new DashboardEvent("DevFest", START, END, "Nantes")));
+
+        int updated = speakerDashboardRepository.refreshEvent("event-1", event("DevFest", "Nantes")).join();
+
+        assertEquals(1, updated);
+        verify(transaction).update(outdated, EVENT_FIELD, new DashboardEvent("DevFest", START, END, "Nantes"));
+        verify(transaction, never()).update(eq(upToDate), any(FieldPath.class), any());
+    }
+
+    @Test
+    void refreshEvent_DeletedEvent_ShouldRemoveItsSummary() {
+        DocumentReference reference = mock(DocumentReference.class);
+        dashboardsReferencingEvent(dashboard(reference, new DashboardEvent("DevFest", START, END, "Nantes")));
+
+        int updated = speakerDashboardRepository.refreshEvent("event-1", null).join();
+
+        assertEquals(1, updated);
+        verify(transaction).update(reference, EVENT_FIELD, FieldValue.delete());
+    }
+
+    private void dashboardsReferencingEvent(QueryDocumentSnapshot... documents) {
+        QuerySnapshot snapshot = mock(QuerySnapshot.class);
+        when(snapshot.getDocuments()).thenReturn(List.of(documents));
+        when(transaction.get(referencing)).thenReturn(ApiFutures.immediateFuture(snapshot));
+    }
+
+    private static QueryDocumentSnapshot dashboard(DocumentReference reference, DashboardEvent event) {
+        QueryDocumentSnapshot dashboard = mock(QueryDocumentSnapshot.class);
+        when(dashboard.getReference()).thenReturn(reference);
+        when(dashboard.get(EVENT_FIELD, DashboardEvent.class)).thenReturn(event);
+        return dashboard;
+    }
+
+    private static DocumentSnapshot event(String eventName, String city) {
+        DocumentSnapshot event = mock(DocumentSnapshot.class);
+        when(event.exists()).thenReturn(true);
+        when(event.getString("eventName")).thenReturn(eventName);
+        when(event.getString("city")).thenReturn(city);
+        when(event.getTimestamp("startDate")).thenReturn(START);
+        when(event.getTimestamp("endDate")).thenReturn(END);
+        return event;
+    }
+}
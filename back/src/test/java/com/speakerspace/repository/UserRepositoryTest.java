@@ -0,0 +1,166 @@
+package com.speakerspace.repository;
+
+import com.google.api.core.ApiFutures;
+import com.google.cloud.firestore.*;
+import com.speakerspace.model.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class UserRepositoryTest {
+
+    @InjectMocks
+    private UserRepository userRepository;
+
+    @Mock
+    private Firestore firestore;
+
+    @Spy
+    private FirestoreMetrics firestoreMetrics = new FirestoreMetrics(new SimpleMeterRegistry());
+
+    @Mock
+    private CollectionReference collectionReference;
+
+    @Mock
+    private DocumentReference documentReference;
+
+    @Mock
+    private DocumentSnapshot documentSnapshot;
+
+    @Mock
+    private WriteResult writeResult;
+
+    @Mock
+    private Query query;
+
+    @Mock
+    private QuerySnapshot querySnapshot;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        testUser = new User("test-uid-123", "test@example.com", "Test User", null);
+    }
+
+    @Test
+    void findByUid_ShouldCompleteWithMappedUser() {
+        when(firestore.collection("users")).thenReturn(collectionReference);
+        when(collectionReference.document(anyString())).thenReturn(documentReference);
+        when(documentReference.get()).thenReturn(ApiFutures.immediateFuture(documentSnapshot));
+        when(documentSnapshot.toObject(User.class)).thenReturn(testUser);
+
+        CompletableFuture<User> future = userRepository.findByUid("test-uid-123");
+
+        assertEquals(testUser, future.join());
+        verify(collectionReference).document("test-uid-123");
+    }
+
+    @Test
+    void save_ShouldCompleteAfterSingleWrite() {
+        when(firestore.collection("users")).thenReturn(collectionReference);
+        when(collectionReference.document(anyString())).thenReturn(documentReference);
+        when(documentReference.set(any(User.class))).thenReturn(ApiFutures.immediateFuture(writeResult));
+
+        assertEquals(testUser, userRepository.save(testUser).join());
+        verify(documentReference).set(testUser);
+        verify(documentReference, never()).get();
+    }
+
+    @Test
+    void create_WhenFirestoreFails_ShouldCompleteExceptionally() {
+        when(firestore.collection("users")).thenReturn(collectionReference);
+        when(collectionReference.document(anyString())).thenReturn(documentReference);
+        when(documentReference.create(any(User.class)))
+                .thenReturn(ApiFutures.immediateFailedFuture(new RuntimeException("Test exception")));
+
+        assertThrows(CompletionException.class, () -> userRepository.create(testUser).join());
+    }
+
+    @Test
+    void saveAll_WhenOneRecordIsRejected_ShouldOnlyFailThatRecordAndCloseTheWriter() throws Exception {
+        ReflectionTestUtils.setField(userRepository, "bulkMaxOpsPerSecond", 500);
+        BulkWriter bulkWriter = mock(BulkWriter.class);
+        User rejected = new User("team/u2", null, null, null);
+        when(firestore.bulkWriter(any(BulkWriterOptions.class))).thenReturn(bulkWriter);
+        when(firestore.collection("users")).thenReturn(collectionReference);
+        when(collectionReference.document("test-uid-123")).thenReturn(documentReference);
+        when(collectionReference.document("team/u2")).thenThrow(new IllegalArgumentException("Invalid path"));
+        when(bulkWriter.set(documentReference, (Object) testUser)).thenReturn(ApiFutures.immediateFuture(writeResult));
+
+        List<CompletableFuture<User>> results = userRepository.saveAll(List.of(testUser, rejected));
+
+        assertEquals(testUser, results.get(0).join());
+        assertThrows(CompletionException.class, () -> results.get(1).join());
+        verify(bulkWriter).close();
+    }
+
+    @Test
+    void findAll_ShouldReturnPageWithContinuationToken() {
+        List<QueryDocumentSnapshot> documents = List.of(userDocument("u1"), userDocument("u2"), userDocument("u3"));
+        stubListQuery(documents);
+
+        Page<User> page = userRepository.findAll(2, null).join();
+
+        assertEquals(List.of("u1", "u2"), page.items().stream().map(User::getUid).toList());
+        assertEquals(List.of("u2"), PageCursor.decode(page.nextPageToken(), 1).values());
+        verify(query).select(UserRepository.LIST_FIELDS);
+        verify(query).limit(3);
+        verify(query, never()).startAfter(any(Object[].class));
+    }
+
+    @Test
+    void findAll_WithPageToken_ShouldStartAfterCursor() {
+        stubListQuery(List.of(userDocument("u3")));
+
+        Page<User> page = userRepository.findAll(2, PageCursor.of("u2").encode()).join();
+
+        assertEquals(1, page.items().size());
+        assertNull(page.nextPageToken());
+        verify(query).startAfter("u2");
+    }
+
+    @Test
+    void findAll_WithInvalidPageToken_ShouldFail() {
+        when(firestore.collection("users")).thenReturn(collectionReference);
+        when(collectionReference.orderBy(any(FieldPath.class))).thenReturn(query);
+        when(query.select(any(String[].class))).thenReturn(query);
+        when(query.limit(anyInt())).thenReturn(query);
+
+        assertThrows(IllegalArgumentException.class, () -> userRepository.findAll(2, "not a token"));
+    }
+
+    private void stubListQuery(List<QueryDocumentSnapshot> documents) {
+        when(firestore.collection("users")).thenReturn(collectionReference);
+        when(collectionReference.orderBy(any(FieldPath.class))).thenReturn(query);
+        when(query.select(any(String[].class))).thenReturn(query);
+        when(query.limit(anyInt())).thenReturn(query);
+        lenient().when(query.startAfter(any(Object[].class))).thenReturn(query);
+        when(query.get()).thenReturn(ApiFutures.immediateFuture(querySnapshot));
+        when(querySnapshot.getDocuments()).thenReturn(documents);
+    }
+
+    private static QueryDocumentSnapshot userDocument(String uid) {
+        QueryDocumentSnapshot document = mock(QueryDocumentSnapshot.class);
+        lenient().when(document.getId()).thenReturn(uid);
+        lenient().when(document.toObject(User.class)).thenReturn(new User(uid, uid + "@example.com", uid, null));
+        return document;
+    }
+}
@@ -0,0 +1,104 @@
+package com.speakerspace.search;
+
+import com.speakerspace.dto.SearchHit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SearchIndexTest {
+
+    private SearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new SearchIndex();
+        searchIndex.replace("events/devoxx", List.of(
+                event("devoxx", "Devoxx France", "Paris", "The developer conference"),
+                new SearchDocument(SearchDocument.Type.FAQ, "devoxx#0", "devoxx", "Where to park?", List.of(
+                        new SearchDocument.Field("Where to park?", 3f),
+                        new SearchDocument.Field("Use the underground car park", 1f)))));
+        searchIndex.replace("events/devfest", List.of(event("devfest", "DevFest Nantes", "Nantes", "Journée Google")));
+        searchIndex.replace("sessions/kotlin", List.of(new SearchDocument(SearchDocument.Type.SESSION, "kotlin",
+                "devoxx", "Kotlin coroutines in depth", List.of(
+                        new SearchDocument.Field("Kotlin coroutines in depth", 3f),
+                        new SearchDocument.Field("Structured concurrency, first given at Devoxx", 1f)))));
+    }
+
+    @Test
+    void search_ShouldMatchPrefixes() {
+        assertEquals(List.of("devfest"), ids(searchIndex.search("devf", Set.of(), 10)));
+    }
+
+    @Test
+    void search_ShouldTolerateTypos() {
+        assertEquals(List.of("kotlin"), ids(searchIndex.search("kotlon", Set.of(), 10)));
+        assertEquals(List.of("kotlin"), ids(searchIndex.search("corotuines", Set.of(), 10)));
+    }
+
+    @Test
+    void search_ShouldIgnoreCaseAndAccents() {
+        assertEquals(List.of("devfest"), ids(searchIndex.search("JOURNEE", Set.of(), 10)));
+    }
+
+    @Test
+    void search_ShouldRequireEveryToken() {
+        assertEquals(List.of("devfest"), ids(searchIndex.search("nantes dev", Set.of(), 10)));
+        assertTrue(searchIndex.search("nantes kotlin", Set.of(), 10).isEmpty());
+    }
+
+    @Test
+    void search_ShouldRankTitleMatchesFirst() {
+        List<SearchHit> hits = searchIndex.search("devoxx", Set.of(), 10);
+
+        assertEquals(List.of("devoxx", "kotlin"), ids(hits));
+        assertTrue(hits.get(0).score() > hits.get(1).score());
+    }
+
+    @Test
+    void search_ShouldFilterByTypeAndLimit() {
+        assertEquals(List.of("devoxx#0"), ids(searchIndex.search("park", Set.of(SearchDocument.Type.FAQ), 10)));
+        assertEquals(1, searchIndex.search("dev", Set.of(), 1).size());
+    }
+
+    @Test
+    void search_ShouldHideEverythingOfPrivateEvents() {
+        searchIndex.setEventHidden("devoxx", true);
+
+        assertTrue(searchIndex.search("kotlin", Set.of(), 10).isEmpty());
+        assertTrue(searchIndex.search("devoxx", Set.of(), 10).isEmpty());
+        assertTrue(searchIndex.search("park", Set.of(), 10).isEmpty());
+    }
+
+    @Test
+    void replace_ShouldDropTermsOfThePreviousVersion() {
+        searchIndex.replace("events/devfest", List.of(event("devfest", "DevFest Lille", "Lille", null)));
+
+        assertTrue(searchIndex.search("nantes", Set.of(), 10).isEmpty());
+        assertEquals(List.of("devfest"), ids(searchIndex.search("lille", Set.of(), 10)));
+
+        searchIndex.remove("events/devoxx");
+        assertEquals(2, searchIndex.size());
+    }
+
+    @Test
+    void distance_ShouldStopPastMaximum() {
+        assertEquals(1, TextAnalyzer.distance("kotlon", "kotlin", 1));
+        assertEquals(2, TextAnalyzer.distance("kitten", "sitting", 1));
+        assertEquals(0, TextAnalyzer.distance("same", "same", 2));
+    }
+
+    private static SearchDocument event(String id, String name, String city, String description) {
+        return new SearchDocument(SearchDocument.Type.EVENT, id, id, name, List.of(
+                new SearchDocument.Field(name, 3f),
+                new SearchDocument.Field(city, 2f),
+                new SearchDocument.Field(description, 1f)));
+    }
+
+    private static List<String> ids(List<SearchHit> hits) {
+        return hits.stream().map(SearchHit::id).toList();
+    }
+}
@@ -0,0 +1,105 @@
+package com.speakerspace.security;
+
+import com.google.firebase.ErrorCode;
+import com.google.firebase.auth.AuthErrorCode;
+import com.google.firebase.auth.FirebaseAuthException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class FirebaseTokenCacheTest {
+
+    @Mock
+    private IdTokenVerifier idTokenVerifier;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private FirebaseTokenCache firebaseTokenCache;
+
+    private static final String TOKEN = "valid-token";
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        firebaseTokenCache = new FirebaseTokenCache(idTokenVerifier, meterRegistry, 100);
+    }
+
+    @Test
+    void verifyIdToken_WithUnexpiredToken_ShouldVerifyOnlyOnce() throws FirebaseAuthException {
+        VerifiedIdToken idToken = idToken(System.currentTimeMillis() / 1000 + 3600);
+        when(idTokenVerifier.verifyIdToken(TOKEN)).thenReturn(idToken);
+
+        VerifiedIdToken first = firebaseTokenCache.verifyIdToken(TOKEN);
+        VerifiedIdToken second = firebaseTokenCache.verifyIdToken(TOKEN);
+
+        assertSame(idToken, first);
+        assertSame(idToken, second);
+        verify(idTokenVerifier, times(1)).verifyIdToken(TOKEN);
+        assertEquals(1, firebaseTokenCache.getHitCount());
+        assertEquals(1, firebaseTokenCache.getMissCount());
+    }
+
+    @Test
+    void verifyIdToken_WithExpiredToken_ShouldNotCache() throws FirebaseAuthException {
+        when(idTokenVerifier.verifyIdToken(TOKEN)).thenReturn(idToken(System.currentTimeMillis() / 1000 - 10));
+
+        firebaseTokenCache.verifyIdToken(TOKEN);
+        firebaseTokenCache.verifyIdToken(TOKEN);
+
+        verify(idTokenVerifier, times(2)).verifyIdToken(TOKEN);
+        assertEquals(0, firebaseTokenCache.getHitCount());
+    }
+
+    @Test
+    void verifyIdToken_WhenVerificationFails_ShouldNotCache() throws FirebaseAuthException {
+        when(idTokenVerifier.verifyIdToken(TOKEN)).thenThrow(new IllegalArgumentException("Invalid token"));
+
+        assertThrows(IllegalArgumentException.class, () -> firebaseTokenCache.verifyIdToken(TOKEN));
+        assertThrows(IllegalArgumentException.class, () -> firebaseTokenCache.verifyIdToken(TOKEN));
+
+        verify(idTokenVerifier, times(2)).verifyIdToken(TOKEN);
+    }
+
+    @Test
+    void invalidate_ShouldForceNewVerification() throws FirebaseAuthException {
+        when(idTokenVerifier.verifyIdToken(TOKEN)).thenReturn(idToken(System.currentTimeMillis() / 1000 + 3600));
+
+        firebaseTokenCache.verifyIdToken(TOKEN);
+        firebaseTokenCache.invalidate(TOKEN);
+        firebaseTokenCache.verifyIdToken(TOKEN);
+
+        verify(idTokenVerifier, times(2)).verifyIdToken(TOKEN);
+    }
+
+    @Test
+    void verifyIdToken_ShouldTimeVerificationsByOutcome() throws FirebaseAuthException {
+        when(idTokenVerifier.verifyIdToken(TOKEN)).thenReturn(idToken(System.currentTimeMillis() / 1000 + 3600));
+        FirebaseAuthException expired = new FirebaseAuthException(ErrorCode.INVALID_ARGUMENT, "Token expired",
+                null, null, AuthErrorCode.EXPIRED_ID_TOKEN);
+        when(idTokenVerifier.verifyIdToken("expired-token")).thenThrow(expired);
+
+        firebaseTokenCache.verifyIdToken(TOKEN);
+        firebaseTokenCache.verifyIdToken(TOKEN);
+        assertThrows(FirebaseAuthException.class, () -> firebaseTokenCache.verifyIdToken("expired-token"));
+
+        assertEquals(1, meterRegistry.get(FirebaseTokenCache.VERIFY_TIMER).tag("outcome", "valid").timer().count());
+        assertEquals(1, meterRegistry.get(FirebaseTokenCache.VERIFY_TIMER)
+                .tag("outcome", "EXPIRED_ID_TOKEN").timer().count());
+    }
+
+    private static VerifiedIdToken idToken(long exp) {
+        return new VerifiedIdToken("test-uid-123", "user@example.com", null, null, Map.of("exp", exp));
+    }
+}
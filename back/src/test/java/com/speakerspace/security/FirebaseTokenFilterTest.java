@@ -1,9 +1,11 @@
 package com.speakerspace.security;
 
-import com.google.firebase.auth.FirebaseAuth;
 import com.google.firebase.auth.FirebaseAuthException;
-import com.google.firebase.auth.FirebaseToken;
+import com.github.benmanes.caffeine.cache.Ticker;
 import com.speakerspace.config.CookieService;
+import com.speakerspace.config.SampledLogger;
+import com.speakerspace.repository.RevokedSessionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -11,15 +13,24 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -30,11 +41,14 @@ import static org.mockito.Mockito.*;
 public class FirebaseTokenFilterTest {
 
     @Mock
-    private FirebaseAuth firebaseAuth;
+    private IdTokenVerifier idTokenVerifier;
 
     @Mock
     private CookieService cookieService;
 
+    @Mock
+    private RevokedSessionRepository revokedSessionRepository;
+
     @Mock
     private HttpServletRequest request;
 
@@ -44,12 +58,15 @@ public class FirebaseTokenFilterTest {
     @Mock
     private FilterChain filterChain;
 
-    @Mock
-    private FirebaseToken firebaseToken;
+    private VerifiedIdToken idToken;
 
     @InjectMocks
     private FirebaseTokenFilter firebaseTokenFilter;
 
+    private SimpleMeterRegistry meterRegistry;
+
+    private SessionManager sessionManager;
+
     private static final String VALID_TOKEN = "valid-token";
     private static final String INVALID_TOKEN = "invalid-token";
     private static final String USER_EMAIL = "user@example.com";
@@ -61,12 +78,24 @@ public class FirebaseTokenFilterTest {
         SecurityContextHolder.clearContext();
 
         ReflectionTestUtils.setField(firebaseTokenFilter, "adminEmail", ADMIN_EMAIL);
-
-        when(firebaseAuth.verifyIdToken(VALID_TOKEN)).thenReturn(firebaseToken);
-        when(firebaseToken.getEmail()).thenReturn(USER_EMAIL);
-        when(firebaseToken.getUid()).thenReturn(USER_UID);
-
-        when(firebaseAuth.verifyIdToken(INVALID_TOKEN)).thenThrow(
+        meterRegistry = new SimpleMeterRegistry();
+        ReflectionTestUtils.setField(firebaseTokenFilter, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(firebaseTokenFilter, "sampledLogger",
+                new SampledLogger(meterRegistry, Duration.ofSeconds(10)));
+        ReflectionTestUtils.setField(firebaseTokenFilter, "firebaseTokenCache",
+                new FirebaseTokenCache(idTokenVerifier, meterRegistry, 100));
+        ReflectionTestUtils.setField(firebaseTokenFilter, "publicRoutes", new PublicRoutes());
+        lenient().when(revokedSessionRepository.isRevoked(anyString()))
+                .thenReturn(CompletableFuture.completedFuture(false));
+        sessionManager = new SessionManager(cookieService, revokedSessionRepository, true, "test-secret",
+                Duration.ofDays(7), Duration.ofDays(30), Duration.ofMinutes(1), 100, Clock.systemUTC(),
+                Ticker.systemTicker());
+        ReflectionTestUtils.setField(firebaseTokenFilter, "sessionManager", sessionManager);
+
+        idToken = new VerifiedIdToken(USER_UID, USER_EMAIL, null, null, Map.of());
+        when(idTokenVerifier.verifyIdToken(VALID_TOKEN)).thenReturn(idToken);
+
+        when(idTokenVerifier.verifyIdToken(INVALID_TOKEN)).thenThrow(
                 new RuntimeException("Invalid token"));
     }
 
@@ -78,7 +107,7 @@ public class FirebaseTokenFilterTest {
         firebaseTokenFilter.doFilterInternal(request, response, filterChain);
 
         verify(filterChain).doFilter(request, response);
-        verifyNoInteractions(firebaseAuth);
+        verifyNoInteractions(idTokenVerifier);
         assertNull(SecurityContextHolder.getContext().getAuthentication());
     }
 
@@ -89,10 +118,22 @@ public class FirebaseTokenFilterTest {
         firebaseTokenFilter.doFilterInternal(request, response, filterChain);
 
         verify(filterChain).doFilter(request, response);
-        verifyNoInteractions(firebaseAuth);
+        verifyNoInteractions(idTokenVerifier);
         assertNull(SecurityContextHolder.getContext().getAuthentication());
     }
 
+    @Test
+    void doFilterInternal_WithPublicSegmentInsideProtectedPath_ShouldAuthenticate() throws ServletException, IOException, FirebaseAuthException {
+        when(request.getRequestURI()).thenReturn("/api/sessions/public/auth/login");
+        when(request.getContextPath()).thenReturn("/api");
+        when(request.getHeader("Authorization")).thenReturn("Bearer " + VALID_TOKEN);
+
+        firebaseTokenFilter.doFilterInternal(request, response, filterChain);
+
+        verify(idTokenVerifier).verifyIdToken(VALID_TOKEN);
+        assertNotNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
     @Test
     void doFilterInternal_WithValidHeaderToken_ShouldAuthenticate() throws ServletException, IOException, FirebaseAuthException {
         when(request.getRequestURI()).thenReturn("/api/protected");
@@ -100,7 +141,7 @@ public class FirebaseTokenFilterTest {
 
         firebaseTokenFilter.doFilterInternal(request, response, filterChain);
 
-        verify(firebaseAuth).verifyIdToken(VALID_TOKEN);
+        verify(idTokenVerifier).verifyIdToken(VALID_TOKEN);
         verify(filterChain).doFilter(request, response);
         assertNotNull(SecurityContextHolder.getContext().getAuthentication());
         assertEquals(USER_EMAIL, SecurityContextHolder.getContext().getAuthentication().getPrincipal());
@@ -118,7 +159,7 @@ public class FirebaseTokenFilterTest {
 
         firebaseTokenFilter.doFilterInternal(request, response, filterChain);
 
-        verify(firebaseAuth).verifyIdToken(VALID_TOKEN);
+        verify(idTokenVerifier).verifyIdToken(VALID_TOKEN);
         verify(filterChain).doFilter(request, response);
         assertNotNull(SecurityContextHolder.getContext().getAuthentication());
         assertEquals(USER_EMAIL, SecurityContextHolder.getContext().getAuthentication().getPrincipal());
@@ -128,11 +169,12 @@ public class FirebaseTokenFilterTest {
     void doFilterInternal_WithAdminUser_ShouldGrantAdminRole() throws ServletException, IOException, FirebaseAuthException {
         when(request.getRequestURI()).thenReturn("/api/protected");
         when(request.getHeader("Authorization")).thenReturn("Bearer " + VALID_TOKEN);
-        when(firebaseToken.getEmail()).thenReturn(ADMIN_EMAIL);
+        when(idTokenVerifier.verifyIdToken(VALID_TOKEN))
+                .thenReturn(new VerifiedIdToken(USER_UID, ADMIN_EMAIL, null, null, Map.of()));
 
         firebaseTokenFilter.doFilterInternal(request, response, filterChain);
 
-        verify(firebaseAuth).verifyIdToken(VALID_TOKEN);
+        verify(idTokenVerifier).verifyIdToken(VALID_TOKEN);
         verify(filterChain).doFilter(request, response);
         assertNotNull(SecurityContextHolder.getContext().getAuthentication());
         assertEquals(ADMIN_EMAIL, SecurityContextHolder.getContext().getAuthentication().getPrincipal());
@@ -148,11 +190,11 @@ public class FirebaseTokenFilterTest {
         doAnswer(invocation -> {
             SecurityContextHolder.clearContext();
             throw new RuntimeException("Invalid token");
-        }).when(firebaseAuth).verifyIdToken(INVALID_TOKEN);
+        }).when(idTokenVerifier).verifyIdToken(INVALID_TOKEN);
 
         firebaseTokenFilter.doFilterInternal(request, response, filterChain);
 
-        verify(firebaseAuth).verifyIdToken(INVALID_TOKEN);
+        verify(idTokenVerifier).verifyIdToken(INVALID_TOKEN);
         verify(filterChain).doFilter(request, response);
         assertNull(SecurityContextHolder.getContext().getAuthentication());
     }
@@ -166,8 +208,92 @@ public class FirebaseTokenFilterTest {
 
         firebaseTokenFilter.doFilterInternal(request, response, filterChain);
 
-        verify(firebaseAuth, never()).verifyIdToken(anyString());
+        verify(idTokenVerifier, never()).verifyIdToken(anyString());
+        verify(filterChain).doFilter(request, response);
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    void doFilterInternal_ShouldCountTokenSource() throws ServletException, IOException {
+        when(request.getRequestURI()).thenReturn("/api/protected");
+        when(request.getHeader("Authorization")).thenReturn("Bearer " + VALID_TOKEN, null, null);
+        when(cookieService.getAuthTokenFromCookies(request)).thenReturn(VALID_TOKEN, (String) null);
+
+        firebaseTokenFilter.doFilterInternal(request, response, filterChain);
+        firebaseTokenFilter.doFilterInternal(request, response, filterChain);
+        firebaseTokenFilter.doFilterInternal(request, response, filterChain);
+
+        assertEquals(1, meterRegistry.get(FirebaseTokenFilter.TOKEN_SOURCE_COUNTER).tag("source", "header").counter().count());
+        assertEquals(1, meterRegistry.get(FirebaseTokenFilter.TOKEN_SOURCE_COUNTER).tag("source", "cookie").counter().count());
+        assertEquals(1, meterRegistry.get(FirebaseTokenFilter.TOKEN_SOURCE_COUNTER).tag("source", "none").counter().count());
+    }
+
+    @Test
+    void doFilter_WhenReachedTwiceInOneRequest_ShouldVerifyTokenOnce() throws ServletException, IOException, FirebaseAuthException {
+        FirebaseTokenCache firebaseTokenCache = spy(new FirebaseTokenCache(idTokenVerifier, meterRegistry, 100));
+        ReflectionTestUtils.setField(firebaseTokenFilter, "firebaseTokenCache", firebaseTokenCache);
+
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/api/protected");
+        servletRequest.addHeader("Authorization", "Bearer " + VALID_TOKEN);
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+        FilterChain securityChain = (req, res) -> firebaseTokenFilter.doFilter(req, res, filterChain);
+
+        firebaseTokenFilter.doFilter(servletRequest, servletResponse, securityChain);
+
+        verify(firebaseTokenCache, times(1)).verifyIdToken(VALID_TOKEN);
+        verify(idTokenVerifier, times(1)).verifyIdToken(VALID_TOKEN);
+        verify(filterChain).doFilter(servletRequest, servletResponse);
+        FirebaseAuthenticationToken authentication =
+                assertInstanceOf(FirebaseAuthenticationToken.class, SecurityContextHolder.getContext().getAuthentication());
+        assertSame(idToken, authentication.getIdToken());
+        assertEquals(USER_UID, authentication.getUid());
+    }
+
+    @Test
+    void doFilterInternal_WithExistingFirebaseAuthentication_ShouldNotVerifyAgain() throws ServletException, IOException, FirebaseAuthException {
+        FirebaseAuthenticationToken existing = new FirebaseAuthenticationToken(idToken,
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        SecurityContextHolder.getContext().setAuthentication(existing);
+        when(request.getRequestURI()).thenReturn("/api/protected");
+        when(request.getHeader("Authorization")).thenReturn("Bearer " + VALID_TOKEN);
+
+        firebaseTokenFilter.doFilterInternal(request, response, filterChain);
+
+        verify(idTokenVerifier, never()).verifyIdToken(anyString());
+        verify(filterChain).doFilter(request, response);
+        assertSame(existing, SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    void doFilterInternal_WithSessionCookie_ShouldAuthenticateWithoutVerifyingToken() throws ServletException, IOException, FirebaseAuthException {
+        sessionManager.start(idToken, VALID_TOKEN, response);
+        ArgumentCaptor<String> cookieValue = ArgumentCaptor.forClass(String.class);
+        verify(cookieService).setAuthCookie(eq(response), cookieValue.capture(), eq(Duration.ofDays(7)));
+        when(request.getRequestURI()).thenReturn("/api/protected");
+        when(request.getHeader("Authorization")).thenReturn(null);
+        when(cookieService.getAuthTokenFromCookies(request)).thenReturn(cookieValue.getValue());
+
+        firebaseTokenFilter.doFilterInternal(request, response, filterChain);
+
+        verify(idTokenVerifier, never()).verifyIdToken(anyString());
+        verify(filterChain).doFilter(request, response);
+        FirebaseAuthenticationToken authentication =
+                assertInstanceOf(FirebaseAuthenticationToken.class, SecurityContextHolder.getContext().getAuthentication());
+        assertEquals(USER_UID, authentication.getUid());
+        assertEquals(1, meterRegistry.get(FirebaseTokenFilter.TOKEN_SOURCE_COUNTER).tag("source", "session").counter().count());
+    }
+
+    @Test
+    void doFilterInternal_WithForgedSessionCookie_ShouldNotAuthenticate() throws ServletException, IOException, FirebaseAuthException {
+        when(request.getRequestURI()).thenReturn("/api/protected");
+        when(request.getHeader("Authorization")).thenReturn(null);
+        when(cookieService.getAuthTokenFromCookies(request)).thenReturn("forged-session.c2lnbmF0dXJl");
+
+        firebaseTokenFilter.doFilterInternal(request, response, filterChain);
+
+        verify(idTokenVerifier, never()).verifyIdToken(anyString());
+        verify(cookieService).clearAuthCookie(response);
         verify(filterChain).doFilter(request, response);
         assertNull(SecurityContextHolder.getContext().getAuthentication());
     }
-}
\ No newline at end of file
+}
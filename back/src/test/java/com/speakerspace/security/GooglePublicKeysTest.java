@@ -0,0 +1,159 @@
+package com.speakerspace.security;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class GooglePublicKeysTest {
+
+    private static final Instant START = Instant.parse("2026-01-05T10:00:00Z");
+
+    private static TestKeys keys;
+
+    @Mock
+    private HttpClient httpClient;
+
+    @Mock
+    private HttpResponse<String> response;
+
+    private MutableClock clock;
+    private List<Runnable> pendingRefreshes;
+    private GooglePublicKeys publicKeys;
+
+    @BeforeAll
+    static void generateKeys() throws Exception {
+        keys = TestKeys.generate("key-1");
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        clock = new MutableClock(START);
+        pendingRefreshes = new ArrayList<>();
+        publicKeys = new GooglePublicKeys(URI.create("http://localhost/jwks"), Duration.ofMinutes(10),
+                Duration.ofMinutes(1), httpClient, clock, pendingRefreshes::add);
+
+        when(response.statusCode()).thenReturn(200);
+        when(response.body()).thenReturn(keys.jwks());
+        when(response.headers()).thenReturn(HttpHeaders.of(
+                Map.of("Cache-Control", List.of("public, max-age=3600, must-revalidate, no-transform")),
+                (name, value) -> true));
+        doReturn(response).when(httpClient).send(any(), any());
+    }
+
+    @Test
+    void afterSingletonsInstantiated_ShouldPrefetchKeys() throws Exception {
+        publicKeys.afterSingletonsInstantiated();
+
+        assertNotNull(publicKeys.get("key-1"));
+        assertEquals(START.plusSeconds(3600), publicKeys.getExpiresAt());
+        verify(httpClient, times(1)).send(any(), any());
+    }
+
+    @Test
+    void refreshIfNeeded_BeforeRefreshWindow_ShouldKeepCachedKeys() throws Exception {
+        publicKeys.refreshIfNeeded();
+        clock.advance(Duration.ofMinutes(30));
+
+        publicKeys.refreshIfNeeded();
+
+        verify(httpClient, times(1)).send(any(), any());
+    }
+
+    @Test
+    void refreshIfNeeded_AheadOfExpiry_ShouldFetchNewKeys() throws Exception {
+        publicKeys.refreshIfNeeded();
+        clock.advance(Duration.ofMinutes(51));
+
+        publicKeys.refreshIfNeeded();
+
+        verify(httpClient, times(2)).send(any(), any());
+        assertEquals(clock.instant().plusSeconds(3600), publicKeys.getExpiresAt());
+    }
+
+    @Test
+    void refreshIfNeeded_WhenFetchFails_ShouldKeepPreviousKeys() throws Exception {
+        publicKeys.refreshIfNeeded();
+        clock.advance(Duration.ofMinutes(55));
+        doThrow(new IOException("unreachable")).when(httpClient).send(any(), any());
+
+        publicKeys.refreshIfNeeded();
+
+        assertNotNull(publicKeys.get("key-1"));
+    }
+
+    @Test
+    void get_WithUnknownKey_ShouldRefreshAtMostOncePerInterval() throws Exception {
+        publicKeys.refreshIfNeeded();
+        clock.advance(Duration.ofMinutes(2));
+
+        assertNull(publicKeys.get("rotated-key"));
+        runPendingRefreshes();
+        assertNull(publicKeys.get("rotated-key"));
+        runPendingRefreshes();
+
+        verify(httpClient, times(2)).send(any(), any());
+    }
+
+    @Test
+    void get_WithUnknownKey_ShouldRejectWithoutWaitingForRefresh() throws Exception {
+        assertNull(publicKeys.get("key-1"));
+        verify(httpClient, never()).send(any(), any());
+
+        runPendingRefreshes();
+
+        assertNotNull(publicKeys.get("key-1"));
+        verify(httpClient, times(1)).send(any(), any());
+    }
+
+    @Test
+    void get_WhenFetchFails_ShouldRateLimitFailedAttempts() throws Exception {
+        doThrow(new IOException("unreachable")).when(httpClient).send(any(), any());
+
+        for (int i = 0; i < 5; i++) {
+            assertNull(publicKeys.get("bogus-" + i));
+            runPendingRefreshes();
+        }
+        verify(httpClient, times(1)).send(any(), any());
+
+        clock.advance(Duration.ofMinutes(1));
+        assertNull(publicKeys.get("bogus"));
+        runPendingRefreshes();
+
+        verify(httpClient, times(2)).send(any(), any());
+    }
+
+    private void runPendingRefreshes() {
+        List<Runnable> refreshes = List.copyOf(pendingRefreshes);
+        pendingRefreshes.clear();
+        refreshes.forEach(Runnable::run);
+    }
+
+    @Test
+    void maxAge_ShouldParseCacheControl() {
+        assertEquals(Duration.ofSeconds(19204), GooglePublicKeys.maxAge("public, max-age=19204, must-revalidate"));
+        assertEquals(Duration.ofHours(1), GooglePublicKeys.maxAge(null));
+        assertEquals(Duration.ofHours(1), GooglePublicKeys.maxAge("no-cache"));
+    }
+}
@@ -0,0 +1,171 @@
+package com.speakerspace.security;
+
+import com.google.firebase.auth.AuthErrorCode;
+import com.google.firebase.auth.FirebaseAuthException;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class LocalIdTokenVerifierTest {
+
+    private static final String PROJECT_ID = "speaker-space-test";
+    private static final Instant NOW = Instant.parse("2026-01-05T10:00:00Z");
+
+    private static TestKeys keys;
+    private static TestKeys otherKeys;
+
+    private GooglePublicKeys publicKeys;
+    private LocalIdTokenVerifier verifier;
+
+    @BeforeAll
+    static void generateKeys() throws Exception {
+        keys = TestKeys.generate("key-1");
+        otherKeys = TestKeys.generate("key-2");
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+        publicKeys = new GooglePublicKeys(URI.create("http://localhost/jwks"), Duration.ofMinutes(10),
+                Duration.ofMinutes(1), mock(HttpClient.class), clock, Runnable::run);
+        publicKeys.load(keys.jwks(), Duration.ofHours(6));
+        verifier = new LocalIdTokenVerifier(publicKeys, PROJECT_ID, Duration.ofMinutes(5), clock);
+    }
+
+    @Test
+    void verifyIdToken_WithValidToken_ShouldReturnClaims() throws Exception {
+        VerifiedIdToken idToken = verifier.verifyIdToken(keys.sign(claims()));
+
+        assertEquals("uid-123", idToken.uid());
+        assertEquals("user@example.com", idToken.email());
+        assertEquals("Jane Speaker", idToken.name());
+        assertEquals(NOW.getEpochSecond() + 3600, idToken.expiresAtEpochSecond());
+    }
+
+    @Test
+    void verifyIdToken_WithNullClaim_ShouldReturnClaims() throws Exception {
+        Map<String, Object> claims = claims();
+        claims.put("name", null);
+        claims.put("picture", null);
+
+        VerifiedIdToken idToken = verifier.verifyIdToken(keys.sign(claims));
+
+        assertEquals("uid-123", idToken.uid());
+        assertNull(idToken.name());
+        assertTrue(idToken.claims().containsKey("picture"));
+    }
+
+    @Test
+    void verifyIdToken_WithExpiredToken_ShouldReportExpiration() throws Exception {
+        Map<String, Object> claims = claims();
+        claims.put("iat", NOW.getEpochSecond() - 7200);
+        claims.put("exp", NOW.getEpochSecond() - 3600);
+
+        FirebaseAuthException e = assertThrows(FirebaseAuthException.class,
+                () -> verifier.verifyIdToken(keys.sign(claims)));
+
+        assertEquals(AuthErrorCode.EXPIRED_ID_TOKEN, e.getAuthErrorCode());
+    }
+
+    @Test
+    void verifyIdToken_WithinClockSkew_ShouldAccept() throws Exception {
+        Map<String, Object> claims = claims();
+        claims.put("exp", NOW.getEpochSecond() - 60);
+
+        assertEquals("uid-123", verifier.verifyIdToken(keys.sign(claims)).uid());
+    }
+
+    @Test
+    void verifyIdToken_WithWrongAudience_ShouldReject() throws Exception {
+        Map<String, Object> claims = claims();
+        claims.put("aud", "another-project");
+
+        assertInvalid(keys.sign(claims));
+    }
+
+    @Test
+    void verifyIdToken_WithWrongIssuer_ShouldReject() throws Exception {
+        Map<String, Object> claims = claims();
+        claims.put("iss", "https://accounts.google.com");
+
+        assertInvalid(keys.sign(claims));
+    }
+
+    @Test
+    void verifyIdToken_WithTokenIssuedInTheFuture_ShouldReject() throws Exception {
+        Map<String, Object> claims = claims();
+        claims.put("iat", NOW.getEpochSecond() + 3600);
+
+        assertInvalid(keys.sign(claims));
+    }
+
+    @Test
+    void verifyIdToken_SignedWithUnknownKey_ShouldReject() throws Exception {
+        assertInvalid(otherKeys.sign(claims()));
+    }
+
+    @Test
+    void verifyIdToken_WithForgedSignature_ShouldReject() throws Exception {
+        String token = keys.sign(claims());
+        String forged = otherKeys.sign(Map.of("alg", "RS256", "kid", keys.keyId()), claims());
+        String tampered = token.substring(0, token.lastIndexOf('.')) + forged.substring(forged.lastIndexOf('.'));
+
+        assertInvalid(tampered);
+    }
+
+    @Test
+    void verifyIdToken_WithUnsupportedAlgorithm_ShouldReject() throws Exception {
+        assertInvalid(keys.sign(Map.of("alg", "HS256", "kid", keys.keyId()), claims()));
+    }
+
+    @Test
+    void verifyIdToken_WithMalformedToken_ShouldReject() {
+        assertInvalid("not-a-jwt");
+        assertInvalid("a.b.c");
+        assertInvalid("");
+    }
+
+    @Test
+    void verifyIdToken_WithoutKeys_ShouldReportCertificateFetchFailure() throws Exception {
+        GooglePublicKeys emptyKeys = new GooglePublicKeys(URI.create("http://localhost/jwks"), Duration.ofMinutes(10),
+                Duration.ofDays(1), mock(HttpClient.class), Clock.fixed(NOW, ZoneOffset.UTC), Runnable::run);
+        LocalIdTokenVerifier offlineVerifier = new LocalIdTokenVerifier(emptyKeys, PROJECT_ID, Duration.ofMinutes(5),
+                Clock.fixed(NOW, ZoneOffset.UTC));
+        String token = keys.sign(claims());
+
+        FirebaseAuthException e = assertThrows(FirebaseAuthException.class, () -> offlineVerifier.verifyIdToken(token));
+
+        assertEquals(AuthErrorCode.CERTIFICATE_FETCH_FAILED, e.getAuthErrorCode());
+    }
+
+    private void assertInvalid(String token) {
+        FirebaseAuthException e = assertThrows(FirebaseAuthException.class, () -> verifier.verifyIdToken(token));
+        assertEquals(AuthErrorCode.INVALID_ID_TOKEN, e.getAuthErrorCode());
+    }
+
+    private static Map<String, Object> claims() {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("iss", "https://securetoken.google.com/" + PROJECT_ID);
+        claims.put("aud", PROJECT_ID);
+        claims.put("sub", "uid-123");
+        claims.put("user_id", "uid-123");
+        claims.put("email", "user@example.com");
+        claims.put("name", "Jane Speaker");
+        claims.put("auth_time", NOW.getEpochSecond() - 60);
+        claims.put("iat", NOW.getEpochSecond() - 60);
+        claims.put("exp", NOW.getEpochSecond() + 3600);
+        return claims;
+    }
+}
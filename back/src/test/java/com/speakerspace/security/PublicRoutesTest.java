@@ -0,0 +1,42 @@
+package com.speakerspace.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PublicRoutesTest {
+
+    private final PublicRoutes publicRoutes = new PublicRoutes();
+
+    @Test
+    void matches_WithPublicRoutes_ShouldReturnTrue() {
+        assertTrue(publicRoutes.matches("/auth"));
+        assertTrue(publicRoutes.matches("/auth/login"));
+        assertTrue(publicRoutes.matches("/auth/logout"));
+        assertTrue(publicRoutes.matches("/public/events/ev-42"));
+        assertTrue(publicRoutes.matches("/actuator/health"));
+    }
+
+    @Test
+    void matches_WithProtectedRoutes_ShouldReturnFalse() {
+        assertFalse(publicRoutes.matches("/auth/bulk"));
+        assertFalse(publicRoutes.matches("/auth/uid-123"));
+        assertFalse(publicRoutes.matches("/events/public/detail"));
+        assertFalse(publicRoutes.matches("/sessions/s-1/auth/login"));
+        assertFalse(publicRoutes.matches("/actuator/env"));
+        assertFalse(publicRoutes.matches("/actuator/prometheus"));
+        assertFalse(publicRoutes.matches((String) null));
+    }
+
+    @Test
+    void matches_WithContextPath_ShouldMatchPathWithinApplication() {
+        MockHttpServletRequest publicRequest = new MockHttpServletRequest("POST", "/api/auth/login");
+        publicRequest.setContextPath("/api");
+        MockHttpServletRequest protectedRequest = new MockHttpServletRequest("GET", "/api/dashboard/uid-123");
+        protectedRequest.setContextPath("/api");
+
+        assertTrue(publicRoutes.matches(publicRequest));
+        assertFalse(publicRoutes.matches(protectedRequest));
+    }
+}
@@ -0,0 +1,252 @@
+package com.speakerspace.security;
+
+import com.speakerspace.config.CookieService;
+import com.speakerspace.repository.RevokedSessionRepository;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SessionManagerTest {
+
+    private static final Duration IDLE_TIMEOUT = Duration.ofDays(7);
+    private static final Duration MAX_LIFETIME = Duration.ofDays(30);
+    private static final Duration REVOCATION_CHECK_INTERVAL = Duration.ofMinutes(1);
+
+    @Mock
+    private CookieService cookieService;
+
+    @Mock
+    private RevokedSessionRepository revokedSessionRepository;
+
+    @Mock
+    private HttpServletResponse response;
+
+    @Mock
+    private HttpServletRequest request;
+
+    private MutableClock clock;
+    private SessionManager sessionManager;
+    private VerifiedIdToken idToken;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2026-01-05T10:00:00Z"));
+        lenient().when(revokedSessionRepository.isRevoked(anyString()))
+                .thenReturn(CompletableFuture.completedFuture(false));
+        lenient().when(revokedSessionRepository.revoke(anyString(), any()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        sessionManager = newSessionManager(true, "test-secret");
+        idToken = new VerifiedIdToken("uid-123", "user@example.com", "Jane Speaker", null, Map.of());
+    }
+
+    @Test
+    void start_ShouldIssueSignedSessionCookie() {
+        String cookieValue = startSession();
+
+        assertTrue(sessionManager.isSessionCookie(cookieValue));
+        assertEquals(1, sessionManager.getActiveSessionCount());
+    }
+
+    @Test
+    void start_WhenDisabled_ShouldStoreRawToken() {
+        SessionManager disabled = newSessionManager(false, "test-secret");
+
+        disabled.start(idToken, "raw-id-token", response);
+
+        verify(cookieService).setAuthCookie(response, "raw-id-token");
+        assertFalse(disabled.isSessionCookie("session.signature"));
+    }
+
+    @Test
+    void resume_WithValidCookie_ShouldReturnSession() {
+        String cookieValue = startSession();
+
+        AuthSession session = sessionManager.resume(cookieValue, response);
+
+        assertNotNull(session);
+        assertSame(idToken, session.idToken());
+        verify(cookieService, never()).clearAuthCookie(response);
+    }
+
+    @Test
+    void resume_WithTamperedSignature_ShouldRejectAndClearCookie() {
+        String cookieValue = startSession();
+        String tampered = cookieValue.substring(0, cookieValue.indexOf('.') + 1) + "AAAA";
+
+        assertNull(sessionManager.resume(tampered, response));
+        assertNull(sessionManager.resume("unknown-session.AAAA", response));
+        verify(cookieService, times(2)).clearAuthCookie(response);
+    }
+
+    @Test
+    void resume_AfterIdleTimeout_ShouldReject() {
+        String cookieValue = startSession();
+
+        clock.advance(IDLE_TIMEOUT.plusMinutes(1));
+
+        assertNull(sessionManager.resume(cookieValue, response));
+    }
+
+    @Test
+    void resume_WithRegularActivity_ShouldSlideExpiryAndRefreshCookie() {
+        String cookieValue = startSession();
+
+        for (int visit = 0; visit < 5; visit++) {
+            clock.advance(Duration.ofDays(5));
+            assertNotNull(sessionManager.resume(cookieValue, response));
+            cookieValue = refreshedCookie();
+        }
+    }
+
+    @Test
+    void resume_WithStaleCookieAfterIdleTimeout_ShouldReject() {
+        String cookieValue = startSession();
+
+        clock.advance(Duration.ofDays(5));
+        assertNotNull(sessionManager.resume(cookieValue, response));
+        clock.advance(Duration.ofDays(3));
+
+        assertNull(sessionManager.resume(cookieValue, response));
+    }
+
+    @Test
+    void resume_AfterMaxLifetime_ShouldRejectEvenWhenActive() {
+        String cookieValue = startSession();
+
+        for (int day = 0; day < 29; day++) {
+            clock.advance(Duration.ofDays(1));
+            assertNotNull(sessionManager.resume(cookieValue, response));
+            cookieValue = latestCookie(cookieValue);
+        }
+        clock.advance(Duration.ofDays(1));
+
+        assertNull(sessionManager.resume(cookieValue, response));
+    }
+
+    @Test
+    void resume_OnAnotherInstance_ShouldRestoreSessionFromSignedCookie() {
+        String cookieValue = startSession();
+        SessionManager otherInstance = newSessionManager(true, "test-secret");
+
+        AuthSession session = otherInstance.resume(cookieValue, response);
+
+        assertNotNull(session);
+        assertEquals("uid-123", session.idToken().uid());
+        assertEquals("user@example.com", session.idToken().email());
+        assertEquals("Jane Speaker", session.idToken().name());
+        verify(cookieService, never()).clearAuthCookie(response);
+    }
+
+    @Test
+    void resume_WithAnotherSecret_ShouldReject() {
+        String cookieValue = startSession();
+        SessionManager otherSecret = newSessionManager(true, "other-secret");
+
+        assertNull(otherSecret.resume(cookieValue, response));
+    }
+
+    @Test
+    void end_ShouldInvalidateSessionAndClearCookie() {
+        String cookieValue = startSession();
+        when(cookieService.getAuthTokenFromCookies(request)).thenReturn(cookieValue);
+
+        sessionManager.end(request, response);
+
+        verify(cookieService).clearAuthCookie(response);
+        assertNull(sessionManager.resume(cookieValue, response));
+    }
+
+    @Test
+    void end_ShouldPersistRevocationUntilMaxLifetime() {
+        String cookieValue = startSession();
+        when(cookieService.getAuthTokenFromCookies(request)).thenReturn(cookieValue);
+
+        sessionManager.end(request, response);
+
+        verify(revokedSessionRepository).revoke(anyString(),
+                eq(Instant.parse("2026-01-05T10:00:00Z").plus(MAX_LIFETIME)));
+    }
+
+    @Test
+    void resume_WhenRevokedOnAnotherInstance_ShouldRejectAfterNextCheck() {
+        String cookieValue = startSession();
+        assertNotNull(sessionManager.resume(cookieValue, response));
+
+        when(revokedSessionRepository.isRevoked(anyString())).thenReturn(CompletableFuture.completedFuture(true));
+        assertNotNull(sessionManager.resume(cookieValue, response));
+
+        clock.advance(REVOCATION_CHECK_INTERVAL.plusSeconds(1));
+        assertNull(sessionManager.resume(cookieValue, response));
+        verify(cookieService).clearAuthCookie(response);
+    }
+
+    @Test
+    void resume_WhenRevocationCheckFails_ShouldAcceptSession() {
+        String cookieValue = startSession();
+        when(revokedSessionRepository.isRevoked(anyString()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("unavailable")));
+
+        assertNotNull(sessionManager.resume(cookieValue, response));
+    }
+
+    @Test
+    void constructor_WithoutSecret_ShouldFailUnlessGenerationIsAllowed() {
+        assertThrows(IllegalStateException.class, () -> new SessionManager(cookieService, revokedSessionRepository,
+                true, "", false, IDLE_TIMEOUT, MAX_LIFETIME, REVOCATION_CHECK_INTERVAL, 100));
+        assertDoesNotThrow(() -> new SessionManager(cookieService, revokedSessionRepository,
+                true, "", true, IDLE_TIMEOUT, MAX_LIFETIME, REVOCATION_CHECK_INTERVAL, 100));
+        assertDoesNotThrow(() -> new SessionManager(cookieService, revokedSessionRepository,
+                false, "", false, IDLE_TIMEOUT, MAX_LIFETIME, REVOCATION_CHECK_INTERVAL, 100));
+    }
+
+    @Test
+    void isSessionCookie_WithRawIdToken_ShouldReturnFalse() {
+        assertFalse(sessionManager.isSessionCookie("header.payload.signature"));
+        assertFalse(sessionManager.isSessionCookie("no-separator"));
+        assertFalse(sessionManager.isSessionCookie(null));
+    }
+
+    private SessionManager newSessionManager(boolean enabled, String secret) {
+        return new SessionManager(cookieService, revokedSessionRepository, enabled, secret, IDLE_TIMEOUT, MAX_LIFETIME,
+                REVOCATION_CHECK_INTERVAL, 100, clock, clock);
+    }
+
+    private String refreshedCookie() {
+        ArgumentCaptor<String> cookieValue = ArgumentCaptor.forClass(String.class);
+        verify(cookieService).setAuthCookie(eq(response), cookieValue.capture(), eq(IDLE_TIMEOUT));
+        clearInvocations(cookieService);
+        return cookieValue.getValue();
+    }
+
+    private String latestCookie(String current) {
+        ArgumentCaptor<String> cookieValue = ArgumentCaptor.forClass(String.class);
+        verify(cookieService, atMost(1)).setAuthCookie(eq(response), cookieValue.capture(), eq(IDLE_TIMEOUT));
+        clearInvocations(cookieService);
+        return cookieValue.getAllValues().isEmpty() ? current : cookieValue.getValue();
+    }
+
+    private String startSession() {
+        sessionManager.start(idToken, "raw-id-token", response);
+        ArgumentCaptor<String> cookieValue = ArgumentCaptor.forClass(String.class);
+        verify(cookieService).setAuthCookie(eq(response), cookieValue.capture(), eq(IDLE_TIMEOUT));
+        verify(cookieService, never()).setAuthCookie(response, "raw-id-token");
+        clearInvocations(cookieService);
+        return cookieValue.getValue();
+    }
+}
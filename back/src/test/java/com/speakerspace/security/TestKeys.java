@@ -0,0 +1,71 @@
+package com.speakerspace.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+final class TestKeys {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+
+    private final String keyId;
+    private final KeyPair keyPair;
+
+    private TestKeys(String keyId, KeyPair keyPair) {
+        this.keyId = keyId;
+        this.keyPair = keyPair;
+    }
+
+    static TestKeys generate(String keyId) throws GeneralSecurityException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        return new TestKeys(keyId, generator.generateKeyPair());
+    }
+
+    String keyId() {
+        return keyId;
+    }
+
+    String jwks() throws Exception {
+        RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+        Map<String, Object> key = Map.of(
+                "kty", "RSA",
+                "alg", "RS256",
+                "use", "sig",
+                "kid", keyId,
+                "n", encoder.encodeToString(unsigned(publicKey.getModulus().toByteArray())),
+                "e", encoder.encodeToString(unsigned(publicKey.getPublicExponent().toByteArray())));
+        return objectMapper.writeValueAsString(Map.of("keys", List.of(key)));
+    }
+
+    String sign(Map<String, Object> header, Map<String, Object> claims) throws Exception {
+        String signingInput = encoder.encodeToString(objectMapper.writeValueAsBytes(header)) + "."
+                + encoder.encodeToString(objectMapper.writeValueAsBytes(claims));
+        Signature signature = Signature.getInstance("SHA256withRSA");
+        signature.initSign(keyPair.getPrivate());
+        signature.update(signingInput.getBytes(StandardCharsets.US_ASCII));
+        return signingInput + "." + encoder.encodeToString(signature.sign());
+    }
+
+    String sign(Map<String, Object> claims) throws Exception {
+        return sign(Map.of("alg", "RS256", "kid", keyId, "typ", "JWT"), claims);
+    }
+
+    private static byte[] unsigned(byte[] bytes) {
+        if (bytes.length > 1 && bytes[0] == 0) {
+            byte[] trimmed = new byte[bytes.length - 1];
+            System.arraycopy(bytes, 1, trimmed, 0, trimmed.length);
+            return trimmed;
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,105 @@
+package com.speakerspace.service;
+
+import com.google.cloud.Timestamp;
+import com.speakerspace.dto.Agenda;
+import com.speakerspace.dto.ScheduleConflict;
+import com.speakerspace.dto.SessionSummary;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AgendaServiceTest {
+
+    private static final ZoneId PARIS = ZoneId.of("Europe/Paris");
+    private static final Duration DEFAULT_DURATION = Duration.ofMinutes(45);
+
+    @Test
+    void buildAgenda_ShouldGroupSortedSessionsByLocalDay() {
+        Agenda agenda = AgendaService.buildAgenda("event-1", List.of(
+                session("late", "2026-04-16T22:30:00Z", "2026-04-16T23:00:00Z", "Room A", List.of()),
+                session("keynote", "2026-04-16T07:00:00Z", "2026-04-16T08:00:00Z", "Amphi", List.of()),
+                session("draft", null, null, "Room A", List.of())), PARIS, DEFAULT_DURATION);
+
+        assertEquals(2, agenda.days().size());
+        assertEquals(LocalDate.of(2026, 4, 16), agenda.days().get(0).date());
+        assertEquals(List.of("keynote"), ids(agenda.days().get(0).sessions()));
+        assertEquals(LocalDate.of(2026, 4, 17), agenda.days().get(1).date());
+        assertEquals(List.of("late"), ids(agenda.days().get(1).sessions()));
+        assertEquals(List.of("draft"), ids(agenda.unscheduled()));
+        assertTrue(agenda.conflicts().isEmpty());
+    }
+
+    @Test
+    void buildAgenda_ShouldReportDoubleBookedRoomsAndSpeakers() {
+        Agenda agenda = AgendaService.buildAgenda("event-1", List.of(
+                session("a", "2026-04-16T09:00:00Z", "2026-04-16T10:00:00Z", "Room A", List.of("uid-1")),
+                session("b", "2026-04-16T09:30:00Z", "2026-04-16T10:30:00Z", " room a ", List.of("uid-2")),
+                session("c", "2026-04-16T10:00:00Z", "2026-04-16T11:00:00Z", "Room B", List.of("uid-1")),
+                session("d", "2026-04-16T10:15:00Z", null, "Room C", List.of("uid-1"))), PARIS, DEFAULT_DURATION);
+
+        assertEquals(2, agenda.conflicts().size());
+        ScheduleConflict room = agenda.conflicts().get(0);
+        assertEquals(ScheduleConflict.Resource.ROOM, room.resource());
+        assertEquals("Room A", room.resourceId());
+        assertEquals(Set.of("a", "b"), Set.of(room.idSession(), room.otherIdSession()));
+        assertEquals(timestamp("2026-04-16T09:30:00Z"), room.overlapStart());
+        assertEquals(timestamp("2026-04-16T10:00:00Z"), room.overlapEnd());
+
+        ScheduleConflict speaker = agenda.conflicts().get(1);
+        assertEquals(ScheduleConflict.Resource.SPEAKER, speaker.resource());
+        assertEquals("uid-1", speaker.resourceId());
+        assertEquals(Set.of("c", "d"), Set.of(speaker.idSession(), speaker.otherIdSession()));
+        assertEquals(timestamp("2026-04-16T11:00:00Z"), speaker.overlapEnd());
+    }
+
+    @Test
+    void intervalTree_ShouldFindTheSameOverlapsAsPairwiseComparison() {
+        Random random = new Random(7);
+        List<long[]> intervals = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            long start = random.nextInt(10_000);
+            intervals.add(new long[]{start, start + 1 + random.nextInt(200)});
+        }
+        IntervalTree<long[]> tree = new IntervalTree<>(intervals, interval -> interval[0], interval -> interval[1]);
+
+        for (int q = 0; q < 100; q++) {
+            long start = random.nextInt(10_000);
+            long end = start + 1 + random.nextInt(300);
+
+            Set<String> expected = new TreeSet<>();
+            for (long[] interval : intervals) {
+                if (interval[0] < end && start < interval[1]) {
+                    expected.add(interval[0] + "-" + interval[1]);
+                }
+            }
+            Set<String> found = new TreeSet<>();
+            tree.forEachOverlap(start, end, index -> found.add(tree.start(index) + "-" + tree.end(index)));
+
+            assertEquals(expected, found);
+        }
+    }
+
+    private static SessionSummary session(String id, String start, String end, String location, List<String> speakers) {
+        return new SessionSummary(id, id, start == null ? null : timestamp(start), end == null ? null : timestamp(end),
+                location, "event-1", speakers);
+    }
+
+    private static Timestamp timestamp(String instant) {
+        Instant parsed = Instant.parse(instant);
+        return Timestamp.ofTimeSecondsAndNanos(parsed.getEpochSecond(), parsed.getNano());
+    }
+
+    private static List<String> ids(List<SessionSummary> sessions) {
+        return sessions.stream().map(SessionSummary::idSession).toList();
+    }
+}
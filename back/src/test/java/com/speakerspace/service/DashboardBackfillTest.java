@@ -0,0 +1,69 @@
+package com.speakerspace.service;
+
+import com.speakerspace.repository.Page;
+import com.speakerspace.repository.SessionRepository;
+import com.speakerspace.repository.TravelRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class DashboardBackfillTest {
+
+    @Mock
+    private SessionRepository sessionRepository;
+
+    @Mock
+    private TravelRepository travelRepository;
+
+    private DashboardBackfill dashboardBackfill;
+
+    @BeforeEach
+    void setUp() {
+        dashboardBackfill = new DashboardBackfill(sessionRepository, travelRepository, 2);
+    }
+
+    @Test
+    void run_ShouldApplyEverySessionAndTravelAndContinuePastFailures() {
+        when(sessionRepository.findIds(2, null)).thenReturn(page(List.of("session-1", "session-2"), "next"));
+        when(sessionRepository.findIds(2, "next")).thenReturn(page(List.of("session-3"), null));
+        when(sessionRepository.refreshDashboards(anyString())).thenReturn(CompletableFuture.completedFuture(true));
+        when(sessionRepository.refreshDashboards("session-2"))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("contention")));
+        when(travelRepository.findIds(2, null)).thenReturn(page(List.of("travel-1"), null));
+        when(travelRepository.refreshDashboards("travel-1")).thenReturn(CompletableFuture.completedFuture(true));
+
+        dashboardBackfill.run(null);
+
+        verify(sessionRepository).refreshDashboards("session-1");
+        verify(sessionRepository).refreshDashboards("session-2");
+        verify(sessionRepository).refreshDashboards("session-3");
+        verify(travelRepository).refreshDashboards("travel-1");
+    }
+
+    @Test
+    void run_WhenListingSessionsFails_ShouldStillApplyTravels() {
+        when(sessionRepository.findIds(2, null))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("unavailable")));
+        when(travelRepository.findIds(2, null)).thenReturn(page(List.of("travel-1"), null));
+        when(travelRepository.refreshDashboards("travel-1")).thenReturn(CompletableFuture.completedFuture(true));
+
+        dashboardBackfill.run(null);
+
+        verify(travelRepository).refreshDashboards("travel-1");
+    }
+
+    private static CompletableFuture<Page<String>> page(List<String> ids, String nextPageToken) {
+        return CompletableFuture.completedFuture(new Page<>(ids, nextPageToken));
+    }
+}
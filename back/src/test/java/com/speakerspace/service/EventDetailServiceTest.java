@@ -0,0 +1,167 @@
+package com.speakerspace.service;
+
+import com.speakerspace.dto.EventDetail;
+import com.speakerspace.model.Event;
+import com.speakerspace.model.Group;
+import com.speakerspace.model.Session;
+import com.speakerspace.model.Travel;
+import com.speakerspace.model.User;
+import com.speakerspace.repository.DocumentBatchReader;
+import com.speakerspace.repository.EventRepository;
+import com.speakerspace.repository.FirestoreCollections;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class EventDetailServiceTest {
+
+    @InjectMocks
+    private EventDetailService eventDetailService;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private DocumentBatchReader documentBatchReader;
+
+    @Spy
+    private UserCache userCache = new UserCache(100, Duration.ofMinutes(5));
+
+    @Test
+    void getEventDetail_ShouldResolveReferencesWithBatchedReads() {
+        Event event = new Event();
+        event.setIdEvent("event-1");
+        event.setOrganizers(List.of("organizer-1"));
+        event.setSessions(List.of("session-1", "session-2"));
+        event.setGroups(List.of("group-1"));
+        event.setTravels(List.of("travel-1"));
+
+        Session first = new Session();
+        first.setIdSession("session-1");
+        first.setSpeakers(List.of("speaker-1", "organizer-1"));
+        Session second = new Session();
+        second.setIdSession("session-2");
+        second.setSpeakers(List.of("speaker-1", "speaker-2"));
+
+        User organizer = new User("organizer-1", "o@example.com", "Organizer", null);
+        User speaker1 = new User("speaker-1", "s1@example.com", "Speaker 1", null);
+        User speaker2 = new User("speaker-2", "s2@example.com", "Speaker 2", null);
+
+        when(eventRepository.findById("event-1")).thenReturn(CompletableFuture.completedFuture(event));
+        when(documentBatchReader.getAll(eq(FirestoreCollections.SESSIONS), any(), eq(Session.class)))
+                .thenReturn(CompletableFuture.completedFuture(List.of(first, second)));
+        when(documentBatchReader.getAll(eq(FirestoreCollections.GROUPS), any(), eq(Group.class)))
+                .thenReturn(CompletableFuture.completedFuture(List.of(new Group())));
+        when(documentBatchReader.getAll(eq(FirestoreCollections.TRAVELS), any(), eq(Travel.class)))
+                .thenReturn(CompletableFuture.completedFuture(List.of(new Travel())));
+        when(documentBatchReader.getAll(eq(FirestoreCollections.USERS), argThat(ids -> ids.contains("organizer-1")), eq(User.class)))
+                .thenReturn(CompletableFuture.completedFuture(List.of(organizer)));
+        when(documentBatchReader.getAll(eq(FirestoreCollections.USERS), argThat(ids -> ids.contains("speaker-1")), eq(User.class)))
+                .thenReturn(CompletableFuture.completedFuture(List.of(speaker1, speaker2)));
+
+        EventDetail detail = eventDetailService.getEventDetail("event-1", "organizer-1", false).join();
+
+        assertEquals(event, detail.event());
+        assertEquals(2, detail.sessions().size());
+        assertEquals(1, detail.groups().size());
+        assertEquals(1, detail.travels().size());
+        assertEquals(List.of(organizer), detail.organizers());
+        assertEquals(List.of(speaker1, organizer, speaker2), detail.speakers());
+
+        verify(documentBatchReader, times(2)).getAll(eq(FirestoreCollections.USERS), any(), eq(User.class));
+        verify(documentBatchReader).getAll(eq(FirestoreCollections.USERS),
+                eq(Set.of("speaker-1", "speaker-2")), eq(User.class));
+    }
+
+    @Test
+    void getEventDetail_UnknownEvent_ShouldReturnNull() {
+        when(eventRepository.findById(anyString())).thenReturn(CompletableFuture.completedFuture(null));
+
+        assertNull(eventDetailService.getEventDetail("missing", "organizer-1", false).join());
+        verifyNoInteractions(documentBatchReader);
+    }
+
+    @Test
+    void getEventDetail_NotOrganizer_ShouldOmitTravelsAndEmails() {
+        Event event = event(false);
+        stubReads(event);
+
+        EventDetail detail = eventDetailService.getEventDetail("event-1", "speaker-1", false).join();
+
+        assertEquals(List.of(), detail.travels());
+        assertNull(detail.event().getTravels());
+        assertEquals(List.of("organizer-1"), detail.organizers().stream().map(User::getUid).toList());
+        assertTrue(detail.organizers().stream().allMatch(user -> user.getEmail() == null));
+        assertTrue(detail.speakers().stream().allMatch(user -> user.getEmail() == null));
+        verify(documentBatchReader, never()).getAll(eq(FirestoreCollections.TRAVELS), any(), eq(Travel.class));
+    }
+
+    @Test
+    void getEventDetail_Admin_ShouldIncludeTravelsAndEmails() {
+        Event event = event(true);
+        stubReads(event);
+
+        EventDetail detail = eventDetailService.getEventDetail("event-1", "admin", true).join();
+
+        assertEquals(1, detail.travels().size());
+        assertEquals("o@example.com", detail.organizers().get(0).getEmail());
+    }
+
+    @Test
+    void getEventDetail_PrivateEvent_ShouldOnlyAnswerItsOrganizersAndSpeakers() {
+        Event event = event(true);
+        stubReads(event);
+
+        assertNull(eventDetailService.getEventDetail("event-1", "stranger", false).join());
+        assertNull(eventDetailService.getEventDetail("event-1", null, false).join());
+        assertNotNull(eventDetailService.getEventDetail("event-1", "speaker-1", false).join());
+    }
+
+    private static Event event(boolean isPrivate) {
+        Event event = new Event();
+        event.setIdEvent("event-1");
+        event.setPrivate(isPrivate);
+        event.setOrganizers(List.of("organizer-1"));
+        event.setSessions(List.of("session-1"));
+        event.setGroups(List.of());
+        event.setTravels(List.of("travel-1"));
+        return event;
+    }
+
+    private void stubReads(Event event) {
+        Session session = new Session();
+        session.setIdSession("session-1");
+        session.setSpeakers(List.of("speaker-1"));
+
+        when(eventRepository.findById("event-1")).thenReturn(CompletableFuture.completedFuture(event));
+        when(documentBatchReader.getAll(eq(FirestoreCollections.SESSIONS), any(), eq(Session.class)))
+                .thenReturn(CompletableFuture.completedFuture(List.of(session)));
+        when(documentBatchReader.getAll(eq(FirestoreCollections.GROUPS), any(), eq(Group.class)))
+                .thenReturn(CompletableFuture.completedFuture(List.of()));
+        when(documentBatchReader.getAll(eq(FirestoreCollections.TRAVELS), any(), eq(Travel.class)))
+                .thenReturn(CompletableFuture.completedFuture(List.of(new Travel())));
+        when(documentBatchReader.getAll(eq(FirestoreCollections.USERS), any(), eq(User.class)))
+                .thenReturn(CompletableFuture.completedFuture(List.of(
+                        new User("organizer-1", "o@example.com", "Organizer", null),
+                        new User("speaker-1", "s1@example.com", "Speaker 1", null))));
+    }
+}
@@ -0,0 +1,81 @@
+package com.speakerspace.service;
+
+import com.google.cloud.Timestamp;
+import com.speakerspace.model.Task;
+import com.speakerspace.model.TaskReminder;
+import com.speakerspace.repository.Page;
+import com.speakerspace.repository.SessionItemRepository;
+import com.speakerspace.repository.TaskReminderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class ReminderBackfillTest {
+
+    private static final Instant NOW = Instant.parse("2026-06-01T09:00:00Z");
+
+    @Mock
+    private SessionItemRepository sessionItemRepository;
+
+    @Mock
+    private TaskReminderRepository taskReminderRepository;
+
+    private ReminderBackfill reminderBackfill;
+
+    @BeforeEach
+    void setUp() {
+        reminderBackfill = new ReminderBackfill(sessionItemRepository, taskReminderRepository, 2,
+                Clock.fixed(NOW, ZoneOffset.UTC));
+        when(taskReminderRepository.apply(anyCollection(), anyCollection()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void run_ShouldCreateMissingRemindersOfOpenTasksWithADeadline() {
+        when(sessionItemRepository.findAllTasks(2, null)).thenReturn(CompletableFuture.completedFuture(new Page<>(List.of(
+                new SessionItemRepository.SessionTask("session-1", task("task-1", false, Duration.ofDays(10))),
+                new SessionItemRepository.SessionTask("session-1", task("task-2", true, Duration.ofDays(10)))),
+                "next")));
+        when(sessionItemRepository.findAllTasks(2, "next")).thenReturn(CompletableFuture.completedFuture(new Page<>(List.of(
+                new SessionItemRepository.SessionTask("session-2", task("task-3", false, Duration.ofDays(3))),
+                new SessionItemRepository.SessionTask("session-2", task("task-4", false, null))),
+                null)));
+        when(taskReminderRepository.findExistingIds(anyCollection())).thenReturn(
+                CompletableFuture.completedFuture(Set.of()),
+                CompletableFuture.completedFuture(Set.of("session-2_task-3")));
+
+        reminderBackfill.run(null);
+
+        ArgumentCaptor<Collection<TaskReminder>> created = ArgumentCaptor.forClass(Collection.class);
+        verify(taskReminderRepository, times(2)).apply(created.capture(), eq(List.of()));
+        assertEquals(List.of("session-1_task-1"), created.getAllValues().get(0).stream().map(TaskReminder::getId).toList());
+        assertTrue(created.getAllValues().get(1).isEmpty());
+    }
+
+    private static Task task(String id, boolean finished, Duration untilDeadline) {
+        Timestamp deadline = untilDeadline == null ? null
+                : TaskReminderService.toTimestamp(NOW.plus(untilDeadline));
+        return new Task(id, "Send slides", null, null, "WEEKLY", deadline, finished);
+    }
+}
@@ -0,0 +1,48 @@
+package com.speakerspace.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReminderScheduleTest {
+
+    private static final Instant DEADLINE = Instant.parse("2026-06-15T09:00:00Z");
+
+    @Test
+    void frequency_ShouldResolveNamedAndIsoFrequencies() {
+        assertEquals(Duration.ofDays(1), ReminderSchedule.frequency("daily"));
+        assertEquals(Duration.ofDays(7), ReminderSchedule.frequency("WEEKLY"));
+        assertEquals(Duration.ofHours(12), ReminderSchedule.frequency("PT12H"));
+        assertNull(ReminderSchedule.frequency("NONE"));
+        assertNull(ReminderSchedule.frequency("sometimes"));
+        assertNull(ReminderSchedule.frequency("-PT1H"));
+        assertNull(ReminderSchedule.frequency(null));
+    }
+
+    @Test
+    void nextReminder_ShouldAlignOnDeadline() {
+        Instant after = Instant.parse("2026-06-01T12:00:00Z");
+
+        Instant next = ReminderSchedule.nextReminder(DEADLINE, Duration.ofDays(7), after);
+
+        assertEquals(Instant.parse("2026-06-01T09:00:00Z").plus(Duration.ofDays(7)), next);
+    }
+
+    @Test
+    void nextReminder_WhenExactlyOnReminder_ShouldReturnFollowingOne() {
+        Instant after = DEADLINE.minus(Duration.ofDays(2));
+
+        assertEquals(DEADLINE.minus(Duration.ofDays(1)),
+                ReminderSchedule.nextReminder(DEADLINE, Duration.ofDays(1), after));
+    }
+
+    @Test
+    void nextReminder_ShouldEndAtDeadline() {
+        assertEquals(DEADLINE, ReminderSchedule.nextReminder(DEADLINE, Duration.ofDays(1), DEADLINE.minusSeconds(60)));
+        assertNull(ReminderSchedule.nextReminder(DEADLINE, Duration.ofDays(1), DEADLINE));
+        assertNull(ReminderSchedule.nextReminder(DEADLINE, null, DEADLINE.minusSeconds(60)));
+    }
+}
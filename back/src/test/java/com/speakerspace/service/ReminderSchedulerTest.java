@@ -0,0 +1,151 @@
+package com.speakerspace.service;
+
+import com.google.cloud.firestore.EventListener;
+import com.google.cloud.firestore.FirestoreException;
+import com.google.cloud.firestore.ListenerRegistration;
+import com.google.cloud.firestore.QuerySnapshot;
+import com.speakerspace.model.TaskReminder;
+import com.speakerspace.repository.LeaseRepository;
+import com.speakerspace.repository.TaskReminderRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class ReminderSchedulerTest {
+
+    private static final Instant NOW = Instant.parse("2026-06-01T09:00:00Z");
+
+    @Mock
+    private TaskReminderRepository taskReminderRepository;
+
+    @Mock
+    private LeaseRepository leaseRepository;
+
+    @Mock
+    private ReminderSender reminderSender;
+
+    @Mock
+    private ListenerRegistration registration;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ReminderScheduler reminderScheduler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        reminderScheduler = new ReminderScheduler(taskReminderRepository, leaseRepository, reminderSender,
+                meterRegistry, 2, Duration.ofMinutes(3), Duration.ofMillis(10), Duration.ofMillis(100),
+                Clock.fixed(NOW, ZoneOffset.UTC));
+        when(taskReminderRepository.apply(anyCollection(), anyCollection()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        when(taskReminderRepository.listen(any())).thenReturn(registration);
+        when(leaseRepository.tryAcquire(eq(ReminderScheduler.LEASE_NAME), anyString(), eq(NOW), eq(Duration.ofMinutes(3))))
+                .thenReturn(CompletableFuture.completedFuture(true));
+        when(leaseRepository.release(eq(ReminderScheduler.LEASE_NAME), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void tick_ShouldSendDueRemindersInBatchesAndReschedule() {
+        reminderScheduler.schedule(reminder("a", NOW.minusSeconds(30), NOW.plus(Duration.ofDays(3))));
+        reminderScheduler.schedule(reminder("b", NOW.minusSeconds(20), NOW.plus(Duration.ofDays(3))));
+        reminderScheduler.schedule(reminder("c", NOW.minusSeconds(10), NOW));
+        reminderScheduler.schedule(reminder("d", NOW.plusSeconds(60), NOW.plus(Duration.ofDays(3))));
+
+        reminderScheduler.tick();
+
+        ArgumentCaptor<List<TaskReminder>> batches = ArgumentCaptor.forClass(List.class);
+        verify(reminderSender, times(2)).send(batches.capture());
+        assertEquals(List.of("a", "b"), batches.getAllValues().get(0).stream().map(TaskReminder::getId).toList());
+        assertEquals(List.of("c"), batches.getAllValues().get(1).stream().map(TaskReminder::getId).toList());
+        verify(taskReminderRepository).apply(argThat((Collection<TaskReminder> updated) -> updated.size() == 2), eq(List.of()));
+        verify(taskReminderRepository).apply(eq(List.of()), eq(List.of("c")));
+        assertEquals(3, reminderScheduler.size());
+        assertEquals(3, meterRegistry.get(ReminderScheduler.SENT_COUNTER).counter().count());
+    }
+
+    @Test
+    void tick_ShouldSkipRemovedAndReplacedReminders() {
+        reminderScheduler.schedule(reminder("a", NOW.minusSeconds(30), NOW.plus(Duration.ofDays(3))));
+        reminderScheduler.schedule(reminder("b", NOW.minusSeconds(30), NOW.plus(Duration.ofDays(3))));
+        reminderScheduler.remove("a");
+        reminderScheduler.schedule(reminder("b", NOW.plusSeconds(60), NOW.plus(Duration.ofDays(3))));
+
+        reminderScheduler.tick();
+
+        verify(reminderSender, never()).send(any());
+        assertEquals(1, reminderScheduler.size());
+    }
+
+    @Test
+    void tick_WhenSenderFails_ShouldKeepRemindersForNextTick() {
+        reminderScheduler.schedule(reminder("a", NOW.minusSeconds(30), NOW.plus(Duration.ofDays(3))));
+        doThrow(new IllegalStateException("Mail server unavailable")).when(reminderSender).send(any());
+
+        reminderScheduler.tick();
+
+        verify(reminderSender, times(1)).send(any());
+        verify(taskReminderRepository, never()).apply(anyCollection(), anyCollection());
+        assertEquals(1, reminderScheduler.size());
+    }
+
+    @Test
+    void tick_WithoutLease_ShouldNotSend() {
+        reminderScheduler.schedule(reminder("a", NOW.minusSeconds(30), NOW.plus(Duration.ofDays(3))));
+        when(leaseRepository.tryAcquire(anyString(), anyString(), any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(false));
+
+        reminderScheduler.tick();
+
+        verify(reminderSender, never()).send(any());
+        assertEquals(1, reminderScheduler.size());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void listenerError_ShouldResubscribeWithBackoff() {
+        ArgumentCaptor<EventListener<QuerySnapshot>> listener = ArgumentCaptor.forClass(EventListener.class);
+        reminderScheduler.afterSingletonsInstantiated();
+        try {
+            verify(taskReminderRepository).listen(listener.capture());
+            reminderScheduler.schedule(reminder("a", NOW.plusSeconds(30), NOW.plus(Duration.ofDays(3))));
+
+            listener.getValue().onEvent(null, mock(FirestoreException.class));
+
+            verify(registration).remove();
+            verify(taskReminderRepository, timeout(1000).times(2)).listen(any());
+            assertEquals(0, reminderScheduler.size());
+            assertEquals(1, meterRegistry.get(ReminderScheduler.RESUBSCRIBE_COUNTER).counter().count());
+        } finally {
+            reminderScheduler.destroy();
+        }
+        verify(leaseRepository).release(eq(ReminderScheduler.LEASE_NAME), anyString());
+    }
+
+    private static TaskReminder reminder(String id, Instant nextReminderAt, Instant deadline) {
+        return new TaskReminder(id, "session-1", id, "Send slides", TaskReminderService.toTimestamp(deadline),
+                "DAILY", TaskReminderService.toTimestamp(nextReminderAt));
+    }
+}
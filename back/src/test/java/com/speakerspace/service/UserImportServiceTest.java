@@ -0,0 +1,133 @@
+package com.speakerspace.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.speakerspace.model.User;
+import com.speakerspace.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class UserImportServiceTest {
+
+    @InjectMocks
+    private UserImportService userImportService;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Spy
+    private UserCache userCache = new UserCache(100, Duration.ofMinutes(5));
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(userImportService, "chunkSize", 2);
+    }
+
+    @Test
+    void importUsers_ShouldWriteInChunksAndReportEachItem() throws IOException {
+        when(userRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<User> users = invocation.getArgument(0);
+            return users.stream().map(CompletableFuture::completedFuture).toList();
+        });
+
+        BulkImportResult result = userImportService.importUsers(json("""
+                [{"uid":"u1","email":"a@example.com"},
+                 {"uid":"u2"},
+                 {"uid":"u3"}]
+                """));
+
+        assertEquals(3, result.total());
+        assertEquals(3, result.succeeded());
+        assertNull(result.error());
+        verify(userRepository, times(2)).saveAll(anyList());
+        assertNotNull(userCache.get("u3"));
+    }
+
+    @Test
+    void importUsers_WithBadRecords_ShouldReportThemWithoutFailingImport() throws IOException {
+        when(userRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<User> users = invocation.getArgument(0);
+            return users.stream()
+                    .map(user -> "u3".equals(user.getUid())
+                            ? CompletableFuture.<User>failedFuture(new RuntimeException("Permission denied"))
+                            : CompletableFuture.completedFuture(user))
+                    .toList();
+        });
+
+        BulkImportResult result = userImportService.importUsers(json("""
+                [{"email":"no-uid@example.com"}, 42, {"uid":"u3"}, {"uid":"u4"}]
+                """));
+
+        assertEquals(4, result.total());
+        assertEquals(1, result.succeeded());
+        assertEquals(3, result.failed());
+        assertEquals(List.of(0, 1, 2, 3), result.items().stream().map(BulkImportItemResult::index).toList());
+        assertFalse(result.items().get(0).success());
+        assertFalse(result.items().get(1).success());
+        assertFalse(result.items().get(2).success());
+        assertTrue(result.items().get(3).success());
+    }
+
+    @Test
+    void importUsers_WithInvalidUids_ShouldOnlyFailThoseRecords() throws IOException {
+        when(userRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<User> users = invocation.getArgument(0);
+            return users.stream().map(CompletableFuture::completedFuture).toList();
+        });
+
+        BulkImportResult result = userImportService.importUsers(json("""
+                [{"uid":"u1"}, {"uid":"team/u2"}, {"uid":"__u3__"}, {"uid":"u4"}]
+                """));
+
+        assertEquals(2, result.succeeded());
+        assertEquals(List.of(true, false, false, true),
+                result.items().stream().map(BulkImportItemResult::success).toList());
+        assertEquals("Invalid uid", result.items().get(1).error());
+        verify(userRepository).saveAll(argThat(users ->
+                users.stream().map(User::getUid).toList().equals(List.of("u1", "u4"))));
+    }
+
+    @Test
+    void importUsers_WithTruncatedInput_ShouldKeepWrittenItemsAndReportError() throws IOException {
+        when(userRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<User> users = invocation.getArgument(0);
+            return users.stream().map(CompletableFuture::completedFuture).toList();
+        });
+
+        BulkImportResult result = userImportService.importUsers(json("[{\"uid\":\"u1\"}, {\"uid\":"));
+
+        assertEquals(1, result.succeeded());
+        assertNotNull(result.error());
+    }
+
+    @Test
+    void importUsers_WithNonArrayBody_ShouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> userImportService.importUsers(json("{\"uid\":\"u1\"}")));
+        verifyNoInteractions(userRepository);
+    }
+
+    private static InputStream json(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
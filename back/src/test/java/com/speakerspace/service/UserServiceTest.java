@@ -1,22 +1,28 @@
 package com.speakerspace.service;
 
-import com.google.api.core.ApiFuture;
-import com.google.cloud.firestore.*;
-import com.google.firebase.cloud.FirestoreClient;
+import com.google.api.gax.grpc.GrpcStatusCode;
+import com.google.api.gax.rpc.AlreadyExistsException;
+import com.speakerspace.config.SampledLogger;
 import com.speakerspace.model.User;
+import com.speakerspace.repository.UserRepository;
+import com.speakerspace.repository.Versioned;
+import io.grpc.Status;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.MockedStatic;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.concurrent.ExecutionException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,22 +32,15 @@ public class UserServiceTest {
     private UserService userService;
 
     @Mock
-    private Firestore firestore;
+    private UserRepository userRepository;
 
-    @Mock
-    private CollectionReference collectionReference;
-
-    @Mock
-    private DocumentReference documentReference;
+    @Spy
+    private UserCache userCache = new UserCache(100, Duration.ofMinutes(5));
 
-    @Mock
-    private ApiFuture<WriteResult> writeResultFuture;
-
-    @Mock
-    private ApiFuture<DocumentSnapshot> documentSnapshotFuture;
+    @Spy
+    private SampledLogger sampledLogger = new SampledLogger(new SimpleMeterRegistry(), Duration.ofSeconds(10));
 
-    @Mock
-    private DocumentSnapshot documentSnapshot;
+    private static final Instant UPDATE_TIME = Instant.parse("2025-03-01T10:15:30.123456Z");
 
     private User testUser;
 
@@ -54,137 +53,132 @@ public class UserServiceTest {
     }
 
     @Test
-    void saveUser_NewUser_ShouldSaveAndReturnUser() {
-        try (MockedStatic<FirestoreClient> mockedFirestoreClient = mockStatic(FirestoreClient.class)) {
+    void saveUser_ShouldWriteOnceAndReturnUser() {
+        when(userRepository.save(any(User.class))).thenReturn(CompletableFuture.completedFuture(testUser));
 
-            UserService spyUserService = spy(userService);
+        User savedUser = userService.saveUser(testUser).join();
 
-            doReturn(null).when(spyUserService).getUserByUid(testUser.getUid());
+        assertNotNull(savedUser);
+        assertEquals(testUser.getUid(), savedUser.getUid());
+        assertEquals(testUser.getDisplayName(), savedUser.getDisplayName());
+        assertEquals(testUser.getEmail(), savedUser.getEmail());
 
-            mockedFirestoreClient.when(FirestoreClient::getFirestore).thenReturn(firestore);
+        verify(userRepository).save(testUser);
+        verify(userRepository, never()).findVersionedByUid(any());
+    }
 
-            when(firestore.collection("users")).thenReturn(collectionReference);
+    @Test
+    void saveUser_ShouldWriteThroughCache() {
+        when(userRepository.save(any(User.class))).thenReturn(CompletableFuture.completedFuture(testUser));
 
-            when(collectionReference.document(anyString())).thenReturn(documentReference);
+        userService.saveUser(testUser).join();
 
-            when(documentReference.set(any(User.class))).thenReturn(writeResultFuture);
+        assertEquals(testUser, userCache.get(testUser.getUid()));
+    }
 
-            User savedUser = spyUserService.saveUser(testUser);
+    @Test
+    void saveUser_WhenFirestoreFails_ShouldFailAndInvalidateCache() {
+        userCache.put(testUser);
+        when(userRepository.save(any(User.class)))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Test exception")));
 
-            assertNotNull(savedUser);
+        assertThrows(CompletionException.class, () -> userService.saveUser(testUser).join());
+        assertNull(userCache.get(testUser.getUid()));
+    }
 
-            assertEquals(testUser.getUid(), savedUser.getUid());
+    @Test
+    void createUserIfAbsent_NewUser_ShouldCreateAndReportCreated() {
+        when(userRepository.create(any(User.class))).thenReturn(CompletableFuture.completedFuture(testUser));
 
-            assertEquals(testUser.getDisplayName(), savedUser.getDisplayName());
+        UserWriteResult result = userService.createUserIfAbsent(testUser).join();
 
-            assertEquals(testUser.getEmail(), savedUser.getEmail());
+        assertTrue(result.created());
+        assertEquals(testUser, result.user());
+        verify(userRepository).create(testUser);
+        verify(userRepository, never()).findVersionedByUid(any());
+    }
 
-            verify(firestore).collection("users");
+    @Test
+    void createUserIfAbsent_ExistingUser_ShouldReturnStoredUser() {
+        when(userRepository.create(any(User.class))).thenReturn(CompletableFuture.failedFuture(
+                new AlreadyExistsException(null, GrpcStatusCode.of(Status.Code.ALREADY_EXISTS), false)));
+        when(userRepository.findVersionedByUid(testUser.getUid()))
+                .thenReturn(CompletableFuture.completedFuture(new Versioned<>(testUser, UPDATE_TIME)));
 
-            verify(collectionReference).document(testUser.getUid());
+        User newUser = new User(testUser.getUid(), "other@example.com", "Other", null);
+        UserWriteResult result = userService.createUserIfAbsent(newUser).join();
 
-            verify(documentReference).set(testUser);
-        }
+        assertFalse(result.created());
+        assertEquals(testUser, result.user());
     }
 
     @Test
-    void saveUser_ExistingUser_ShouldUpdateAndReturnUser() {
-        // Given
-        try (MockedStatic<FirestoreClient> mockedFirestoreClient = mockStatic(FirestoreClient.class)) {
-            UserService spyUserService = spy(userService);
+    void getUserByUid_ExistingUser_ShouldReturnUser() {
+        when(userRepository.findVersionedByUid("test-uid-123"))
+                .thenReturn(CompletableFuture.completedFuture(new Versioned<>(testUser, UPDATE_TIME)));
 
-            doReturn(testUser).when(spyUserService).getUserByUid(testUser.getUid());
+        User returnedUser = userService.getUserByUid("test-uid-123").join();
 
-            mockedFirestoreClient.when(FirestoreClient::getFirestore).thenReturn(firestore);
-            when(firestore.collection("users")).thenReturn(collectionReference);
-            when(collectionReference.document(anyString())).thenReturn(documentReference);
-            when(documentReference.set(any(User.class))).thenReturn(writeResultFuture);
+        assertNotNull(returnedUser);
+        assertEquals(testUser.getUid(), returnedUser.getUid());
+        verify(userRepository).findVersionedByUid("test-uid-123");
+    }
 
-            User savedUser = spyUserService.saveUser(testUser);
+    @Test
+    void getUserByUid_NonExistingUser_ShouldReturnNull() {
+        when(userRepository.findVersionedByUid("non-existing-uid"))
+                .thenReturn(CompletableFuture.completedFuture(new Versioned<>(null, null)));
 
-            assertNotNull(savedUser);
-            assertEquals(testUser.getUid(), savedUser.getUid());
+        User returnedUser = userService.getUserByUid("non-existing-uid").join();
 
-            verify(firestore).collection("users");
-            verify(collectionReference).document(testUser.getUid());
-            verify(documentReference).set(testUser);
-        }
+        assertNull(returnedUser);
     }
 
     @Test
-    void saveUser_WhenFirestoreThrowsException_ShouldThrowRuntimeException() throws ExecutionException, InterruptedException {
-        try (MockedStatic<FirestoreClient> mockedFirestoreClient = mockStatic(FirestoreClient.class)) {
-            mockedFirestoreClient.when(FirestoreClient::getFirestore).thenReturn(firestore);
-
-            when(firestore.collection("users")).thenReturn(collectionReference);
-            when(collectionReference.document(anyString())).thenReturn(documentReference);
+    void getUserByUid_WhenFirestoreThrowsException_ShouldReturnNull() {
+        when(userRepository.findVersionedByUid("test-uid-123"))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Test exception")));
 
-            when(documentReference.get()).thenReturn(documentSnapshotFuture);
-            when(documentSnapshotFuture.get()).thenReturn(documentSnapshot);
-            when(documentSnapshot.toObject(User.class)).thenReturn(null);
+        User returnedUser = userService.getUserByUid("test-uid-123").join();
 
-            when(documentReference.set(any(User.class))).thenReturn(writeResultFuture);
-            when(writeResultFuture.get()).thenThrow(new InterruptedException("Test exception"));
-
-            assertThrows(RuntimeException.class, () -> userService.saveUser(testUser));
-        }
+        assertNull(returnedUser);
     }
 
     @Test
-    void getUserByUid_ExistingUser_ShouldReturnUser() throws ExecutionException, InterruptedException {
-        try (MockedStatic<FirestoreClient> mockedFirestoreClient = mockStatic(FirestoreClient.class)) {
-            mockedFirestoreClient.when(FirestoreClient::getFirestore).thenReturn(firestore);
-
-            when(firestore.collection("users")).thenReturn(collectionReference);
-            when(collectionReference.document(anyString())).thenReturn(documentReference);
-            when(documentReference.get()).thenReturn(documentSnapshotFuture);
-            when(documentSnapshotFuture.get()).thenReturn(documentSnapshot);
-            when(documentSnapshot.toObject(User.class)).thenReturn(testUser);
-
-            User returnedUser = userService.getUserByUid("test-uid-123");
+    void getUserByUid_CachedUser_ShouldNotReadFirestoreAgain() {
+        when(userRepository.findVersionedByUid("test-uid-123"))
+                .thenReturn(CompletableFuture.completedFuture(new Versioned<>(testUser, UPDATE_TIME)));
 
-            assertNotNull(returnedUser);
-            assertEquals(testUser.getUid(), returnedUser.getUid());
+        userService.getUserByUid("test-uid-123").join();
+        User returnedUser = userService.getUserByUid("test-uid-123").join();
 
-            verify(firestore).collection("users");
-            verify(collectionReference).document("test-uid-123");
-            verify(documentReference).get();
-        }
+        assertEquals(testUser, returnedUser);
+        verify(userRepository, times(1)).findVersionedByUid("test-uid-123");
+        assertEquals(0.5, userCache.getHitRatio());
     }
 
     @Test
-    void getUserByUid_NonExistingUser_ShouldReturnNull() throws ExecutionException, InterruptedException {
-        try (MockedStatic<FirestoreClient> mockedFirestoreClient = mockStatic(FirestoreClient.class)) {
-            mockedFirestoreClient.when(FirestoreClient::getFirestore).thenReturn(firestore);
+    void getVersionedUser_ShouldCacheUpdateTime() {
+        when(userRepository.findVersionedByUid("test-uid-123"))
+                .thenReturn(CompletableFuture.completedFuture(new Versioned<>(testUser, UPDATE_TIME)));
 
-            when(firestore.collection("users")).thenReturn(collectionReference);
-            when(collectionReference.document(anyString())).thenReturn(documentReference);
-            when(documentReference.get()).thenReturn(documentSnapshotFuture);
-            when(documentSnapshotFuture.get()).thenReturn(documentSnapshot);
-            when(documentSnapshot.toObject(User.class)).thenReturn(null);
+        userService.getVersionedUser("test-uid-123").join();
+        Versioned<User> returnedUser = userService.getVersionedUser("test-uid-123").join();
 
-            User returnedUser = userService.getUserByUid("non-existing-uid");
-
-            assertNull(returnedUser);
-
-            verify(firestore).collection("users");
-            verify(collectionReference).document("non-existing-uid");
-        }
+        assertEquals(testUser, returnedUser.value());
+        assertEquals(UPDATE_TIME, returnedUser.updateTime());
+        verify(userRepository, times(1)).findVersionedByUid("test-uid-123");
     }
 
     @Test
-    void getUserByUid_WhenFirestoreThrowsException_ShouldReturnNull() throws ExecutionException, InterruptedException {
-        try (MockedStatic<FirestoreClient> mockedFirestoreClient = mockStatic(FirestoreClient.class)) {
-            mockedFirestoreClient.when(FirestoreClient::getFirestore).thenReturn(firestore);
-
-            when(firestore.collection("users")).thenReturn(collectionReference);
-            when(collectionReference.document(anyString())).thenReturn(documentReference);
-            when(documentReference.get()).thenReturn(documentSnapshotFuture);
-            when(documentSnapshotFuture.get()).thenThrow(new InterruptedException("Test exception"));
+    void getVersionedUser_WhenCachedWithoutUpdateTime_ShouldReadFirestore() {
+        userCache.put(testUser);
+        when(userRepository.findVersionedByUid("test-uid-123"))
+                .thenReturn(CompletableFuture.completedFuture(new Versioned<>(testUser, UPDATE_TIME)));
 
-            User returnedUser = userService.getUserByUid("test-uid-123");
+        Versioned<User> returnedUser = userService.getVersionedUser("test-uid-123").join();
 
-            assertNull(returnedUser);
-        }
+        assertEquals(UPDATE_TIME, returnedUser.updateTime());
+        assertEquals(UPDATE_TIME, userCache.getVersioned("test-uid-123").updateTime());
     }
 }
@@ -0,0 +1,136 @@
+package com.speakerspace.service;
+
+import com.speakerspace.model.Session;
+import com.speakerspace.model.Travel;
+import com.speakerspace.repository.EventRepository;
+import com.speakerspace.repository.SessionRepository;
+import com.speakerspace.repository.TravelRepository;
+import com.speakerspace.repository.Versioned;
+import com.speakerspace.security.FirebaseAuthenticationToken;
+import com.speakerspace.security.VerifiedIdToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class WriteAccessServiceTest {
+
+    @InjectMocks
+    private WriteAccessService writeAccessService;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private SessionRepository sessionRepository;
+
+    @Mock
+    private TravelRepository travelRepository;
+
+    @BeforeEach
+    void setUp() {
+        when(eventRepository.findFieldsById(eq("event-1"), any()))
+                .thenReturn(CompletableFuture.completedFuture(
+                        new Versioned<>(Map.of("organizers", List.of("organizer-1")), Instant.EPOCH)));
+        when(sessionRepository.findFieldsById(eq("session-1"), any()))
+                .thenReturn(CompletableFuture.completedFuture(new Versioned<>(
+                        Map.of("event", "event-1", "speakers", List.of("speaker-1")), Instant.EPOCH)));
+        when(sessionRepository.findFieldsById(eq("missing"), any()))
+                .thenReturn(CompletableFuture.completedFuture(new Versioned<>(null, null)));
+        when(travelRepository.findById("travel-1"))
+                .thenReturn(CompletableFuture.completedFuture(travel("travel-1", "speaker-1")));
+    }
+
+    @Test
+    void canSaveSession_NewSession_ShouldRequireEventOrganizer() {
+        Session session = session(null, List.of("speaker-1"));
+
+        assertTrue(writeAccessService.canSaveSession(user("organizer-1"), session).join());
+        assertFalse(writeAccessService.canSaveSession(user("speaker-1"), session).join());
+        assertTrue(writeAccessService.canSaveSession(admin(), session).join());
+    }
+
+    @Test
+    void canSaveSession_Speaker_ShouldEditButNotChangeSpeakers() {
+        assertTrue(writeAccessService.canSaveSession(user("speaker-1"), session("session-1", List.of("speaker-1"))).join());
+        assertFalse(writeAccessService.canSaveSession(user("speaker-1"),
+                session("session-1", List.of("speaker-1", "victim"))).join());
+        assertFalse(writeAccessService.canSaveSession(user("stranger"), session("session-1", List.of("speaker-1"))).join());
+        assertTrue(writeAccessService.canSaveSession(user("organizer-1"),
+                session("session-1", List.of("speaker-2"))).join());
+    }
+
+    @Test
+    void canDeleteSession_ShouldAllowSpeakersAndOrganizers() {
+        assertTrue(writeAccessService.canDeleteSession(user("speaker-1"), "session-1").join());
+        assertTrue(writeAccessService.canDeleteSession(user("organizer-1"), "session-1").join());
+        assertFalse(writeAccessService.canDeleteSession(user("stranger"), "session-1").join());
+        assertTrue(writeAccessService.canDeleteSession(user("stranger"), "missing").join());
+    }
+
+    @Test
+    void canEditSessionItems_ShouldRequireSpeakerOrganizerOrAdmin() {
+        assertTrue(writeAccessService.canEditSessionItems(user("speaker-1"), "session-1").join());
+        assertTrue(writeAccessService.canEditSessionItems(user("organizer-1"), "session-1").join());
+        assertTrue(writeAccessService.canEditSessionItems(admin(), "session-1").join());
+        assertFalse(writeAccessService.canEditSessionItems(user("stranger"), "session-1").join());
+    }
+
+    @Test
+    void canSaveTravel_ShouldRejectTravelsForAnotherUser() {
+        assertTrue(writeAccessService.canSaveTravel(user("speaker-1"), travel(null, "speaker-1")).join());
+        assertFalse(writeAccessService.canSaveTravel(user("speaker-1"), travel(null, "victim")).join());
+        assertTrue(writeAccessService.canSaveTravel(user("organizer-1"), travel(null, "victim")).join());
+        assertFalse(writeAccessService.canSaveTravel(user("stranger"), travel("travel-1", "stranger")).join());
+    }
+
+    @Test
+    void canDeleteTravel_ShouldRequireOwnerOrOrganizer() {
+        assertTrue(writeAccessService.canDeleteTravel(user("speaker-1"), "travel-1").join());
+        assertTrue(writeAccessService.canDeleteTravel(user("organizer-1"), "travel-1").join());
+        assertFalse(writeAccessService.canDeleteTravel(user("stranger"), "travel-1").join());
+    }
+
+    private static Session session(String sessionId, List<String> speakers) {
+        Session session = new Session();
+        session.setIdSession(sessionId);
+        session.setEvent("event-1");
+        session.setSpeakers(speakers);
+        return session;
+    }
+
+    private static Travel travel(String travelId, String userId) {
+        Travel travel = new Travel();
+        travel.setIdTravel(travelId);
+        travel.setUserId(userId);
+        travel.setEventId("event-1");
+        return travel;
+    }
+
+    private static FirebaseAuthenticationToken user(String uid) {
+        return new FirebaseAuthenticationToken(new VerifiedIdToken(uid, uid + "@example.com", uid, null, Map.of()),
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+    }
+
+    private static FirebaseAuthenticationToken admin() {
+        return new FirebaseAuthenticationToken(new VerifiedIdToken("admin", "admin@example.com", "admin", null, Map.of()),
+                List.of(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_ADMIN")));
+    }
+}
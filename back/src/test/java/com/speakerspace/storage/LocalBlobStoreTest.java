@@ -0,0 +1,111 @@
+package com.speakerspace.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LocalBlobStoreTest {
+
+    @TempDir
+    Path root;
+
+    private LocalBlobStore blobStore;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        blobStore = new LocalBlobStore(root);
+    }
+
+    @Test
+    void store_ShouldStreamContentUnderItsSha256() throws Exception {
+        byte[] content = png(300_000);
+
+        StoredBlob blob = blobStore.store(upload(content), 1_000_000);
+
+        assertEquals(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content)), blob.hash());
+        assertEquals(content.length, blob.size());
+        assertTrue(blob.created());
+        Resource resource = blobStore.open(blob.hash()).orElseThrow();
+        assertArrayEquals(content, resource.getContentAsByteArray());
+    }
+
+    @Test
+    void store_WithSameContent_ShouldDeduplicate() throws IOException {
+        byte[] content = png(10_000);
+
+        StoredBlob first = blobStore.store(upload(content), 1_000_000);
+        StoredBlob second = blobStore.store(upload(content), 1_000_000);
+
+        assertEquals(first.hash(), second.hash());
+        assertFalse(second.created());
+        assertEquals(1, storedFiles());
+    }
+
+    @Test
+    void store_WhenTooLarge_ShouldKeepNothing() {
+        assertThrows(BlobTooLargeException.class, () -> blobStore.store(upload(png(200_000)), 100_000));
+
+        assertEquals(0, storedFiles());
+    }
+
+    @Test
+    void store_ShouldMoveTheSpooledPartInPlace() throws IOException {
+        byte[] content = png(10_000);
+        Path spooled = Files.write(root.resolve("spooled.part"), content);
+
+        StoredBlob blob = blobStore.store(target -> Files.move(spooled, target, StandardCopyOption.REPLACE_EXISTING),
+                1_000_000);
+
+        assertFalse(Files.exists(spooled));
+        assertArrayEquals(content, blobStore.open(blob.hash()).orElseThrow().getContentAsByteArray());
+        assertEquals(1, storedFiles());
+    }
+
+    @Test
+    void open_ShouldRejectPathsThatAreNotHashes() throws IOException {
+        assertThrows(IllegalArgumentException.class, () -> blobStore.open("../../etc/passwd"));
+        assertTrue(blobStore.open("0".repeat(64)).isEmpty());
+    }
+
+    @Test
+    void sniff_ShouldRecognizeAllowedFormatsOnly() {
+        assertEquals("image/png", ContentTypes.sniff(png(16)));
+        assertEquals("image/jpeg", ContentTypes.sniff(new byte[]{(byte) 0xff, (byte) 0xd8, (byte) 0xff, 0x00}));
+        assertEquals("image/webp", ContentTypes.sniff("RIFF\0\0\0\0WEBPVP8 ".getBytes()));
+        assertEquals("application/pdf", ContentTypes.sniff("%PDF-1.7".getBytes()));
+        assertNull(ContentTypes.sniff("<svg xmlns=".getBytes()));
+        assertNull(ContentTypes.sniff(new byte[0]));
+    }
+
+    private long storedFiles() {
+        try (Stream<Path> files = Files.walk(root)) {
+            return files.filter(Files::isRegularFile).count();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static BlobStore.Upload upload(byte[] content) {
+        return target -> Files.write(target, content);
+    }
+
+    private static byte[] png(int size) {
+        byte[] content = new byte[size];
+        new Random(size).nextBytes(content);
+        byte[] magic = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n'};
+        System.arraycopy(magic, 0, content, 0, Math.min(magic.length, size));
+        return content;
+    }
+}